@@ -54,6 +54,24 @@ public abstract class AbstractBuffer<T> {
         mTo = to;
     }
 
+    /**
+     * Returns the first x-index the drawing is limited to.
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the last x-index the drawing is limited to.
+     *
+     * @return
+     */
+    public int getTo() {
+        return mTo;
+    }
+
     /**
      * Resets the buffer index to 0 and makes the buffer reusable.
      */
@@ -2,6 +2,7 @@
 package com.github.mikephil.charting.buffer;
 
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
@@ -14,10 +15,62 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     /** width of the bar on the x-axis, in values (not pixels) */
     protected float mBarWidth = 1f;
 
+    /** number of values written to the buffer by the last feed */
+    protected int mFedSize = 0;
+
+    /** index of every fed bar in the stack of its entry, only used if the buffer contains stacks */
+    protected int[] mStackIndices = null;
+
+    /** number of bars of the entries before getFrom() on the last feed */
+    protected int mFirstBarPosition = 0;
+
+    /** the DataSet, its version and the entry index the bars before have been counted for */
+    private IBarDataSet mCountedDataSet = null;
+    private long mCountedVersion = -1;
+    private int mCountedFrom = 0;
+    private int mCountedBars = 0;
+
     public BarBuffer(int size, int dataSetCount, boolean containsStacks) {
         super(size);
         this.mDataSetCount = dataSetCount;
         this.mContainsStacks = containsStacks;
+
+        if (containsStacks)
+            mStackIndices = new int[size / 4];
+
+        // feed all entries unless limited
+        this.mTo = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the number of values written to the buffer by the last feed(...), the bars
+     * of the entries between getFrom() and getTo().
+     *
+     * @return
+     */
+    public int getFedSize() {
+        return mFedSize;
+    }
+
+    /**
+     * Returns the number of bars of the entries before getFrom() on the last feed(...), which is
+     * the position of the first fed bar among all bars of the DataSet (e.g. for its colors).
+     *
+     * @return
+     */
+    public int getFirstBarPosition() {
+        return mFirstBarPosition;
+    }
+
+    /**
+     * Returns the index of the given fed bar in the stack of its entry, 0 for entries without
+     * stacks.
+     *
+     * @param bar index of the bar in the buffer (the index of its first value / 4)
+     * @return
+     */
+    public int getStackIndex(int bar) {
+        return mStackIndices == null ? 0 : mStackIndices[bar];
     }
 
     public void setBarWidth(float barWidth) {
@@ -33,6 +86,13 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     }
 
     protected void addBar(float left, float top, float right, float bottom) {
+        addBar(left, top, right, bottom, 0);
+    }
+
+    protected void addBar(float left, float top, float right, float bottom, int stackIndex) {
+
+        if (mStackIndices != null)
+            mStackIndices[index / 4] = stackIndex;
 
         buffer[index++] = left;
         buffer[index++] = top;
@@ -40,13 +100,56 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Counts the bars of the entries before the given index the same way feed(...) adds them.
+     * The count is kept and only updated by the entries between the last and the given index, as
+     * long as the DataSet does not change.
+     *
+     * @param data
+     * @param from
+     * @return
+     */
+    protected int countBarsBefore(IBarDataSet data, int from) {
+
+        if (!mContainsStacks)
+            return from;
+
+        final long version = BaseDataSet.getVersionOf(data);
+
+        if (data != mCountedDataSet || version != mCountedVersion || version < 0) {
+            mCountedDataSet = data;
+            mCountedVersion = version;
+            mCountedFrom = 0;
+            mCountedBars = 0;
+        }
+
+        while (mCountedFrom < from)
+            mCountedBars += getBarCount(data.getEntryForIndex(mCountedFrom++));
+
+        while (mCountedFrom > from)
+            mCountedBars -= getBarCount(data.getEntryForIndex(--mCountedFrom));
+
+        return mCountedBars;
+    }
+
+    private int getBarCount(BarEntry e) {
+
+        if (e == null)
+            return 0;
+
+        float[] vals = e.getYVals();
+        return !mContainsStacks || vals == null ? 1 : vals.length;
+    }
+
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        mFirstBarPosition = countBarsBefore(data, mFrom);
+
+        float size = Math.min(data.getEntryCount() * phaseX, mTo + 1f);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFrom; i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -120,11 +223,12 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
                     top *= phaseY;
                     bottom *= phaseY;
 
-                    addBar(left, top, right, bottom);
+                    addBar(left, top, right, bottom, k);
                 }
             }
         }
 
+        mFedSize = index;
         reset();
     }
 }
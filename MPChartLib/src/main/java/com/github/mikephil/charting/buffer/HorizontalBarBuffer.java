@@ -13,10 +13,12 @@ public class HorizontalBarBuffer extends BarBuffer {
     @Override
     public void feed(IBarDataSet data) {
 
-        float size = data.getEntryCount() * phaseX;
+        mFirstBarPosition = countBarsBefore(data, mFrom);
+
+        float size = Math.min(data.getEntryCount() * phaseX, mTo + 1f);
         float barWidthHalf = mBarWidth / 2f;
 
-        for (int i = 0; i < size; i++) {
+        for (int i = mFrom; i < size; i++) {
 
             BarEntry e = data.getEntryForIndex(i);
 
@@ -84,11 +86,12 @@ public class HorizontalBarBuffer extends BarBuffer {
                     right *= phaseY;
                     left *= phaseY;
 
-                    addBar(left, top, right, bottom);
+                    addBar(left, top, right, bottom, k);
                 }
             }
         }
 
+        mFedSize = index;
         reset();
     }
 }
@@ -38,6 +38,16 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
 
     private boolean mFitBars = false;
 
+    /**
+     * if set to true, bars narrower than the aggregation threshold are aggregated per pixel column
+     */
+    private boolean mBarAggregation = false;
+
+    /**
+     * width of a bar in pixels below which bars are aggregated
+     */
+    private float mBarAggregationThreshold = 1f;
+
     public BarChart(Context context) {
         super(context);
     }
@@ -208,6 +218,39 @@ public class BarChart extends BarLineChartBase<BarData> implements BarDataProvid
         return mHighlightFullBarEnabled;
     }
 
+    /**
+     * If set to true, bars that are narrower than the aggregation threshold (see
+     * setBarAggregationThreshold(...)) are drawn aggregated: all bars that fall into the same
+     * pixel column are drawn as a single bar covering their extents. Once the bars are wider than
+     * the threshold, e.g. after zooming in, every bar is drawn again. Highlighting still resolves
+     * to the entry that defines the extent of the tapped column. Default: false
+     *
+     * @param enabled
+     */
+    public void setBarAggregationEnabled(boolean enabled) {
+        mBarAggregation = enabled;
+    }
+
+    @Override
+    public boolean isBarAggregationEnabled() {
+        return mBarAggregation;
+    }
+
+    /**
+     * Sets the width of a bar in pixels below which bars are aggregated per pixel column, if
+     * aggregation is enabled. Default: 1px
+     *
+     * @param pixels
+     */
+    public void setBarAggregationThreshold(float pixels) {
+        mBarAggregationThreshold = pixels;
+    }
+
+    @Override
+    public float getBarAggregationThreshold() {
+        return mBarAggregationThreshold;
+    }
+
     /**
      * Highlights the value at the given x-value in the given DataSet. Provide
      * -1 as the dataSetIndex to undo all highlighting.
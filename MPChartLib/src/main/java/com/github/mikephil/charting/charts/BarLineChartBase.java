@@ -3,7 +3,9 @@ package com.github.mikephil.charting.charts;
 
 import android.annotation.SuppressLint;
 import android.annotation.TargetApi;
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Matrix;
@@ -18,7 +20,9 @@ import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.BaseDataSet;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PagedLineDataSet;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
@@ -31,11 +35,15 @@ import com.github.mikephil.charting.listener.BarLineChartTouchListener;
 import com.github.mikephil.charting.listener.OnDrawListener;
 import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
+import com.github.mikephil.charting.utils.BitmapTileCache;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.PictureLayer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.Arrays;
+
 /**
  * Base-class of LineChart, BarChart, ScatterChart and CandleStickChart.
  *
@@ -102,6 +110,16 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected boolean mClipDataToContent = true;
 
+    /**
+     * flag indicating if the static layers are recorded and played back
+     */
+    protected boolean mStaticLayerCacheEnabled = false;
+
+    /**
+     * flag indicating if the data is drawn from bitmap tiles while panning
+     */
+    protected boolean mDataTileCacheEnabled = false;
+
     /**
      * Sets the minimum offset (padding) around the chart, defaults to 15
      */
@@ -194,43 +212,27 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         long starttime = System.currentTimeMillis();
 
-        // execute all drawing commands
-        drawGridBackground(canvas);
-
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
         }
 
-        if (mAxisLeft.isEnabled())
-            mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
-
-        if (mAxisRight.isEnabled())
-            mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
-
-        if (mXAxis.isEnabled())
-            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
-
-        mXAxisRenderer.renderAxisLine(canvas);
-        mAxisRendererLeft.renderAxisLine(canvas);
-        mAxisRendererRight.renderAxisLine(canvas);
+        final boolean cacheStaticLayers = mStaticLayerCacheEnabled && PictureLayer.isSupported(canvas);
 
-        if (mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
+        // the axes only have to be computed if the static layers are drawn and not played back
+        if (!cacheStaticLayers || !isStaticLayerCacheValid()) {
 
-        if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
+            if (mAxisLeft.isEnabled())
+                mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
 
-        if (mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
+            if (mAxisRight.isEnabled())
+                mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
 
-        if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
+            if (mXAxis.isEnabled())
+                mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        }
 
-        if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
+        // execute all drawing commands
+        drawStaticLayer(canvas, STATIC_LAYER_BACKGROUND, cacheStaticLayers);
 
         int clipRestoreCount = canvas.save();
 
@@ -239,19 +241,13 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             canvas.clipRect(mViewPortHandler.getContentRect());
         }
 
-        mRenderer.drawData(canvas);
-
-        if (!mXAxis.isDrawGridLinesBehindDataEnabled())
-            mXAxisRenderer.renderGridLines(canvas);
+        if (!mDataTileCacheEnabled || !drawDataTiles(canvas))
+            mRenderer.drawData(canvas);
 
-        if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererLeft.renderGridLines(canvas);
+        drawStaticLayer(canvas, STATIC_LAYER_GRID, cacheStaticLayers);
 
-        if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
-            mAxisRendererRight.renderGridLines(canvas);
-
-        // if highlighting is enabled
-        if (valuesToHighlight())
+        // if highlighting is enabled and not drawn on the overlay
+        if (mHighlightOverlay == null && valuesToHighlight())
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
 
         // Removes clipping rectangle
@@ -259,18 +255,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
         mRenderer.drawExtras(canvas);
 
-        if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
-            mXAxisRenderer.renderLimitLines(canvas);
-
-        if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererLeft.renderLimitLines(canvas);
-
-        if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
-            mAxisRendererRight.renderLimitLines(canvas);
-
-        mXAxisRenderer.renderAxisLabels(canvas);
-        mAxisRendererLeft.renderAxisLabels(canvas);
-        mAxisRendererRight.renderAxisLabels(canvas);
+        drawStaticLayer(canvas, STATIC_LAYER_FOREGROUND, cacheStaticLayers);
 
         if (isClipValuesToContentEnabled()) {
             clipRestoreCount = canvas.save();
@@ -283,11 +268,10 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mRenderer.drawValues(canvas);
         }
 
-        mLegendRenderer.renderLegend(canvas);
+        drawStaticLayer(canvas, STATIC_LAYER_LEGEND, cacheStaticLayers);
 
-        drawDescription(canvas);
-
-        drawMarkers(canvas);
+        if (mHighlightOverlay == null)
+            drawMarkers(canvas);
 
         if (mLogEnabled) {
             long drawtime = (System.currentTimeMillis() - starttime);
@@ -299,6 +283,457 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         }
     }
 
+    /**
+     * the view the highlights and markers are drawn on, null if they are drawn with the chart
+     */
+    private HighlightOverlayView mHighlightOverlay = null;
+
+    /**
+     * Draws the highlights and markers on the overlay.
+     *
+     * @param canvas
+     */
+    void drawHighlightOverlay(Canvas canvas) {
+
+        if (mData == null)
+            return;
+
+        if (valuesToHighlight()) {
+
+            int clipRestoreCount = canvas.save();
+
+            if (isClipDataToContentEnabled())
+                canvas.clipRect(mViewPortHandler.getContentRect());
+
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+            canvas.restoreToCount(clipRestoreCount);
+        }
+
+        drawMarkers(canvas);
+    }
+
+    @Override
+    protected void invalidateHighlight() {
+
+        if (mHighlightOverlay != null)
+            mHighlightOverlay.invalidate();
+        else
+            super.invalidate();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+
+        // the highlights move with the chart
+        if (mHighlightOverlay != null)
+            mHighlightOverlay.invalidate();
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int left, int top, int right, int bottom) {
+        super.onLayout(changed, left, top, right, bottom);
+
+        if (mHighlightOverlay != null)
+            mHighlightOverlay.layout(0, 0, right - left, bottom - top);
+    }
+
+    /**
+     * grid background, axis lines and the grid and limit lines behind the data
+     */
+    protected static final int STATIC_LAYER_BACKGROUND = 0;
+
+    /**
+     * grid lines in front of the data
+     */
+    protected static final int STATIC_LAYER_GRID = 1;
+
+    /**
+     * limit lines in front of the data and axis labels
+     */
+    protected static final int STATIC_LAYER_FOREGROUND = 2;
+
+    /**
+     * legend and description
+     */
+    protected static final int STATIC_LAYER_LEGEND = 3;
+
+    private static final int STATIC_LAYER_KEY_SIZE = 23;
+
+    private PictureLayer[] mStaticLayers = new PictureLayer[]{
+            new PictureLayer(), new PictureLayer(), new PictureLayer(), new PictureLayer()
+    };
+
+    /**
+     * the touch matrix values, chart size, content rect and axis ranges the static layers have
+     * been recorded for
+     */
+    private float[] mStaticLayerKey = new float[STATIC_LAYER_KEY_SIZE];
+
+    private float[] mStaticLayerKeyBuffer = new float[STATIC_LAYER_KEY_SIZE];
+
+    /**
+     * Draws the given static layer on the canvas. If cached, the layer is played back from its
+     * recording, which is made first if the layer is not valid.
+     *
+     * @param canvas
+     * @param layer
+     * @param cached
+     */
+    private void drawStaticLayer(Canvas canvas, int layer, boolean cached) {
+
+        if (!cached) {
+            renderStaticLayer(canvas, layer);
+            return;
+        }
+
+        PictureLayer picture = mStaticLayers[layer];
+
+        if (!picture.isValid()) {
+            Canvas recording = picture.beginRecording(getWidth(), getHeight());
+            renderStaticLayer(recording, layer);
+            picture.endRecording();
+        }
+
+        picture.draw(canvas);
+    }
+
+    /**
+     * Draws the content of the given static layer.
+     *
+     * @param c
+     * @param layer
+     */
+    protected void renderStaticLayer(Canvas c, int layer) {
+
+        switch (layer) {
+
+            case STATIC_LAYER_BACKGROUND:
+
+                drawGridBackground(c);
+
+                mXAxisRenderer.renderAxisLine(c);
+                mAxisRendererLeft.renderAxisLine(c);
+                mAxisRendererRight.renderAxisLine(c);
+
+                if (mXAxis.isDrawGridLinesBehindDataEnabled())
+                    mXAxisRenderer.renderGridLines(c);
+
+                if (mAxisLeft.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderGridLines(c);
+
+                if (mAxisRight.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererRight.renderGridLines(c);
+
+                if (mXAxis.isEnabled() && mXAxis.isDrawLimitLinesBehindDataEnabled())
+                    mXAxisRenderer.renderLimitLines(c);
+
+                if (mAxisLeft.isEnabled() && mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderLimitLines(c);
+
+                if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererRight.renderLimitLines(c);
+                break;
+
+            case STATIC_LAYER_GRID:
+
+                if (!mXAxis.isDrawGridLinesBehindDataEnabled())
+                    mXAxisRenderer.renderGridLines(c);
+
+                if (!mAxisLeft.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderGridLines(c);
+
+                if (!mAxisRight.isDrawGridLinesBehindDataEnabled())
+                    mAxisRendererRight.renderGridLines(c);
+                break;
+
+            case STATIC_LAYER_FOREGROUND:
+
+                if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled())
+                    mXAxisRenderer.renderLimitLines(c);
+
+                if (mAxisLeft.isEnabled() && !mAxisLeft.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererLeft.renderLimitLines(c);
+
+                if (mAxisRight.isEnabled() && !mAxisRight.isDrawLimitLinesBehindDataEnabled())
+                    mAxisRendererRight.renderLimitLines(c);
+
+                mXAxisRenderer.renderAxisLabels(c);
+                mAxisRendererLeft.renderAxisLabels(c);
+                mAxisRendererRight.renderAxisLabels(c);
+                break;
+
+            case STATIC_LAYER_LEGEND:
+
+                mLegendRenderer.renderLegend(c);
+
+                drawDescription(c);
+                break;
+        }
+    }
+
+    /**
+     * Returns true if all static layers are recorded for the current viewport and axis ranges.
+     * Invalidates them if the viewport or the axis ranges have changed since they were recorded.
+     *
+     * @return
+     */
+    private boolean isStaticLayerCacheValid() {
+
+        final float[] key = mStaticLayerKeyBuffer;
+        final RectF content = mViewPortHandler.getContentRect();
+
+        mViewPortHandler.getMatrixTouch().getValues(key);
+
+        key[9] = getWidth();
+        key[10] = getHeight();
+        key[11] = content.left;
+        key[12] = content.top;
+        key[13] = content.right;
+        key[14] = content.bottom;
+        key[15] = mXAxis.mAxisMinimum;
+        key[16] = mXAxis.mAxisMaximum;
+        key[17] = mAxisLeft.mAxisMinimum;
+        key[18] = mAxisLeft.mAxisMaximum;
+        key[19] = mAxisRight.mAxisMinimum;
+        key[20] = mAxisRight.mAxisMaximum;
+        key[21] = mAxisLeft.isInverted() ? 1f : 0f;
+        key[22] = mAxisRight.isInverted() ? 1f : 0f;
+
+        if (!Arrays.equals(key, mStaticLayerKey)) {
+            mStaticLayerKeyBuffer = mStaticLayerKey;
+            mStaticLayerKey = key;
+            invalidateStaticLayers();
+            return false;
+        }
+
+        for (PictureLayer layer : mStaticLayers) {
+            if (!layer.isValid())
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Makes the static layers (grid, axes, limit lines, legend and description) be drawn again
+     * on the next frame. They are invalidated automatically when the viewport, the axis ranges
+     * or the data change. Call this after changing their styles while the static layer cache is
+     * enabled.
+     */
+    public void invalidateStaticLayers() {
+
+        for (PictureLayer layer : mStaticLayers)
+            layer.invalidate();
+    }
+
+    /**
+     * the tiles of the data layer at the current zoom level
+     */
+    protected BitmapTileCache mDataTiles = new BitmapTileCache();
+
+    private static final int DATA_TILE_KEY_SIZE = 19;
+
+    /**
+     * the touch matrix values without the horizontal translation, content rect and axis ranges
+     * the data tiles have been rendered for
+     */
+    private float[] mDataTileKey = new float[DATA_TILE_KEY_SIZE];
+
+    private Canvas mDataTileCanvas = null;
+
+    /**
+     * offset of the visible content from the start of the first tile on the last frame
+     */
+    private float mDataTileOffset = 0f;
+
+    /**
+     * index of the tile in the middle of the visible ones on the last frame
+     */
+    private int mDataTileCenter = 0;
+
+    private int mDataTilePrefetchIndex = 0;
+
+    private boolean mDataTilePrefetchPending = false;
+
+    /**
+     * renders the tile next to the visible ones in the direction of the last pan
+     */
+    private Runnable mDataTilePrefetch = new Runnable() {
+        @Override
+        public void run() {
+            mDataTilePrefetchPending = false;
+
+            if (mDataTileCacheEnabled && mDataTiles.getTile(mDataTilePrefetchIndex) == null)
+                renderDataTile(mDataTilePrefetchIndex, mDataTileCenter);
+        }
+    };
+
+    /**
+     * Draws the data layer from tiles as wide as the content rect, which are rendered at the
+     * current zoom level and only moved when panning horizontally. Missing visible tiles are
+     * rendered right away, the next tile in the direction of the pan after the frame. Returns
+     * false if the data has to be drawn directly.
+     *
+     * @param canvas
+     * @return
+     */
+    private boolean drawDataTiles(Canvas canvas) {
+
+        // tiles are not used while animating, while values are drawn (some renderers draw the
+        // values from the buffers of the last drawn data) or if the data is not clipped
+        if (mAnimator.getPhaseX() != 1f || mAnimator.getPhaseY() != 1f || !isClipDataToContentEnabled())
+            return false;
+
+        if (mData.getEntryCount() < getMaxVisibleCount() * mViewPortHandler.getScaleX()) {
+
+            for (IBarLineScatterCandleBubbleDataSet<? extends Entry> set : mData.getDataSets()) {
+                if (set.isVisible() && set.isDrawValuesEnabled())
+                    return false;
+            }
+        }
+
+        final RectF content = mViewPortHandler.getContentRect();
+        final int tileWidth = (int) content.width();
+        final int tileHeight = (int) Math.ceil(content.height());
+
+        // two visible tiles and one for panning
+        if (tileWidth <= 0 || tileHeight <= 0 || mDataTiles.getMaxTileCount(tileWidth, tileHeight) < 3)
+            return false;
+
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        final float[] key = mDataTileKey;
+
+        touch.getValues(key);
+
+        // panning horizontally does not change the content of the tiles
+        final float offset = -key[Matrix.MTRANS_X];
+        key[Matrix.MTRANS_X] = 0f;
+
+        key[9] = content.left;
+        key[10] = content.top;
+        key[11] = mXAxis.mAxisMinimum;
+        key[12] = mXAxis.mAxisMaximum;
+        key[13] = mAxisLeft.mAxisMinimum;
+        key[14] = mAxisLeft.mAxisMaximum;
+        key[15] = mAxisRight.mAxisMinimum;
+        key[16] = mAxisRight.mAxisMaximum;
+        key[17] = mAxisLeft.isInverted() ? 1f : 0f;
+        key[18] = mAxisRight.isInverted() ? 1f : 0f;
+
+        long version = 0;
+
+        for (IBarLineScatterCandleBubbleDataSet<? extends Entry> set : mData.getDataSets()) {
+
+            final long setVersion = BaseDataSet.getVersionOf(set);
+
+            // changes of the DataSet could not be detected
+            if (setVersion < 0)
+                return false;
+
+            version = version * 31 + setVersion * 2 + (set.isVisible() ? 1 : 0);
+        }
+
+        mDataTiles.update(key, version, tileWidth, tileHeight);
+
+        final int first = (int) Math.floor(offset / tileWidth);
+        final int last = (int) Math.floor((offset + content.width()) / tileWidth);
+        final int center = (first + last) / 2;
+
+        for (int i = first; i <= last; i++) {
+
+            if (mDataTiles.getTile(i) == null && !renderDataTile(i, center))
+                return false;
+        }
+
+        for (int i = first; i <= last; i++)
+            canvas.drawBitmap(mDataTiles.getTile(i), content.left + i * tileWidth - offset, content.top, null);
+
+        int next = offset >= mDataTileOffset ? last + 1 : first - 1;
+        mDataTileOffset = offset;
+        mDataTileCenter = center;
+
+        if (mDataTiles.getTile(next) == null && !mDataTilePrefetchPending) {
+            mDataTilePrefetchIndex = next;
+            mDataTilePrefetchPending = post(mDataTilePrefetch);
+        }
+
+        return true;
+    }
+
+    /**
+     * Renders the data tile at the given index. Returns false if there was no Bitmap for the tile.
+     *
+     * @param index
+     * @param center
+     * @return
+     */
+    private boolean renderDataTile(int index, int center) {
+
+        Bitmap tile = mDataTiles.obtainTile(index, center);
+
+        if (tile == null)
+            return false;
+
+        if (mDataTileCanvas == null)
+            mDataTileCanvas = new Canvas();
+
+        mDataTileCanvas.setBitmap(tile);
+
+        try {
+            mRenderer.drawDataTile(mDataTileCanvas, index, tile.getWidth());
+        } finally {
+            mDataTileCanvas.setBitmap(null);
+        }
+
+        return true;
+    }
+
+    /**
+     * If enabled, the data is rendered into bitmap tiles as wide as the content rect at the
+     * current zoom level. Panning horizontally only draws the rendered tiles at the new offset,
+     * which makes panning large charts a lot cheaper. The tiles are rendered again when zooming,
+     * when the axis ranges or the data change, and after invalidateDataTiles() has been called,
+     * which is needed after changing the styles of the DataSets. Tiles are not used while
+     * animating and while values are drawn. Default: false
+     *
+     * @param enabled
+     */
+    public void setDataTileCacheEnabled(boolean enabled) {
+        mDataTileCacheEnabled = enabled;
+
+        if (!enabled)
+            mDataTiles.clear();
+    }
+
+    /**
+     * Returns true if the data is drawn from bitmap tiles while panning.
+     *
+     * @return
+     */
+    public boolean isDataTileCacheEnabled() {
+        return mDataTileCacheEnabled;
+    }
+
+    /**
+     * Sets the maximum memory in bytes the data tiles may use, the tiles farthest away from the
+     * visible ones are dropped first. Default: 16 MB
+     *
+     * @param bytes
+     */
+    public void setDataTileMemoryBudget(long bytes) {
+        mDataTiles.setMemoryBudget(bytes);
+    }
+
+    /**
+     * Makes the data tiles be rendered again on the next frame. Call this after changing the
+     * styles of the DataSets while the data tile cache is enabled.
+     */
+    public void invalidateDataTiles() {
+        mDataTiles.invalidate();
+    }
+
     /**
      * RESET PERFORMANCE TRACKING FIELDS
      */
@@ -329,9 +764,26 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mLeftAxisTransformer.prepareMatrixOffset(mAxisLeft.isInverted());
     }
 
+    /**
+     * true if the data contains a PagedLineDataSet, updated by notifyDataSetChanged()
+     */
+    private boolean mHasPagedDataSets = false;
+
+    /**
+     * Returns true if the data of the chart contains a PagedLineDataSet whose pages have to be
+     * prefetched while panning. Updated when the data is set or notifyDataSetChanged() is called.
+     *
+     * @return
+     */
+    public boolean hasPagedDataSets() {
+        return mHasPagedDataSets;
+    }
+
     @Override
     public void notifyDataSetChanged() {
 
+        mHasPagedDataSets = false;
+
         if (mData == null) {
             if (mLogEnabled)
                 Log.i(LOG_TAG, "Preparing... DATA NOT SET.");
@@ -341,6 +793,11 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
                 Log.i(LOG_TAG, "Preparing...");
         }
 
+        for (IBarLineScatterCandleBubbleDataSet set : mData.getDataSets()) {
+            if (set instanceof PagedLineDataSet)
+                mHasPagedDataSets = true;
+        }
+
         if (mRenderer != null)
             mRenderer.initBuffers();
 
@@ -354,6 +811,9 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mLegendRenderer.computeLegend(mData);
 
         calculateOffsets();
+
+        invalidateStaticLayers();
+        invalidateDataTiles();
     }
 
     /**
@@ -1244,6 +1704,64 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mClipDataToContent = enabled;
     }
 
+    /**
+     * If enabled, the grid, axes, limit lines, legend and description are recorded once and only
+     * played back on later frames, as long as the viewport, the axis ranges and the data do not
+     * change. This makes frames in which only highlights or markers change a lot cheaper. Changes
+     * to the styles of these components are only drawn after invalidateStaticLayers() has been
+     * called. Playback needs API level 23 on hardware accelerated views, below the layers are
+     * drawn as usual. Default: false
+     *
+     * @param enabled
+     */
+    public void setStaticLayerCacheEnabled(boolean enabled) {
+        mStaticLayerCacheEnabled = enabled;
+
+        if (!enabled) {
+            for (PictureLayer layer : mStaticLayers)
+                layer.release();
+        }
+    }
+
+    /**
+     * Returns true if the static layers are recorded and played back.
+     *
+     * @return
+     */
+    public boolean isStaticLayerCacheEnabled() {
+        return mStaticLayerCacheEnabled;
+    }
+
+    /**
+     * If enabled, the highlights and markers are drawn on a separate view on top of the chart.
+     * Changing the highlights, e.g. when dragging a highlight, then only redraws that view and
+     * not the data, on hardware accelerated views. The highlights are drawn on top of the circles,
+     * values and axis labels then. Default: false
+     *
+     * @param enabled
+     */
+    public void setHighlightOverlayEnabled(boolean enabled) {
+
+        if (enabled && mHighlightOverlay == null) {
+            mHighlightOverlay = new HighlightOverlayView(getContext(), this);
+            addView(mHighlightOverlay);
+        } else if (!enabled && mHighlightOverlay != null) {
+            removeView(mHighlightOverlay);
+            mHighlightOverlay = null;
+        }
+
+        invalidate();
+    }
+
+    /**
+     * Returns true if the highlights and markers are drawn on a separate view.
+     *
+     * @return
+     */
+    public boolean isHighlightOverlayEnabled() {
+        return mHighlightOverlay != null;
+    }
+
     /**
      * When enabled, the values will be clipped to contentRect,
      * otherwise they can bleed outside the content rect.
@@ -1645,6 +2163,23 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         return null;
     }
 
+    @Override
+    protected void trimMemory(int level) {
+        super.trimMemory(level);
+
+        // the tiles may still be drawn, they are only dropped and rendered again when needed
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+            mDataTiles.release();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        removeCallbacks(mDataTilePrefetch);
+        mDataTilePrefetchPending = false;
+        mDataTiles.clear();
+        super.onDetachedFromWindow();
+    }
+
     protected float[] mOnSizeChangedBuffer = new float[2];
 
     @Override
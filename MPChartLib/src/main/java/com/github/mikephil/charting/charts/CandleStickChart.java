@@ -15,6 +15,16 @@ import com.github.mikephil.charting.renderer.CandleStickChartRenderer;
  */
 public class CandleStickChart extends BarLineChartBase<CandleData> implements CandleDataProvider {
 
+    /**
+     * if set to true, adjacent candles are merged when zoomed out
+     */
+    private boolean mCandleResampling = false;
+
+    /**
+     * width in pixels a candle should at least have before candles are merged
+     */
+    private float mCandleResamplingThreshold = 3f;
+
     public CandleStickChart(Context context) {
         super(context);
     }
@@ -41,4 +51,37 @@ public class CandleStickChart extends BarLineChartBase<CandleData> implements Ca
     public CandleData getCandleData() {
         return mData;
     }
+
+    /**
+     * If set to true, adjacent candles are merged into coarser candles (first open, max high,
+     * min low, last close) when zoomed out, so that there is at most about one candle per
+     * threshold pixels (see setCandleResamplingThreshold(...)). The merged candles are cached per
+     * zoom level until the data changes. Highlighting still resolves to the tapped entry and
+     * marks the merged candle it belongs to. Default: false
+     *
+     * @param enabled
+     */
+    public void setCandleResamplingEnabled(boolean enabled) {
+        mCandleResampling = enabled;
+    }
+
+    @Override
+    public boolean isCandleResamplingEnabled() {
+        return mCandleResampling;
+    }
+
+    /**
+     * Sets the width in pixels a candle should at least have before adjacent candles are merged,
+     * if resampling is enabled. Default: 3px
+     *
+     * @param pixels
+     */
+    public void setCandleResamplingThreshold(float pixels) {
+        mCandleResamplingThreshold = pixels;
+    }
+
+    @Override
+    public float getCandleResamplingThreshold() {
+        return mCandleResamplingThreshold;
+    }
 }
@@ -3,8 +3,10 @@ package com.github.mikephil.charting.charts;
 
 import android.animation.ValueAnimator;
 import android.animation.ValueAnimator.AnimatorUpdateListener;
+import android.content.ComponentCallbacks2;
 import android.content.ContentValues;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.graphics.Bitmap;
 import android.graphics.Bitmap.CompressFormat;
 import android.graphics.Canvas;
@@ -45,6 +47,7 @@ import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
@@ -560,6 +563,14 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highs);
 
         // redraw the chart
+        invalidateHighlight();
+    }
+
+    /**
+     * Redraws the chart after the highlighted values have changed. Charts that draw the
+     * highlights on a separate layer only redraw that layer.
+     */
+    protected void invalidateHighlight() {
         invalidate();
     }
 
@@ -719,7 +730,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // redraw the chart
-        invalidate();
+        invalidateHighlight();
     }
 
     /**
@@ -1767,9 +1778,49 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             setLayerType(View.LAYER_TYPE_SOFTWARE, null);
     }
 
+    /**
+     * releases the buffers of the renderer when the system runs low on memory, the pooled bitmaps
+     * are trimmed by the BitmapPool once for all charts
+     */
+    private ComponentCallbacks2 mTrimMemoryCallback = new ComponentCallbacks2() {
+
+        @Override
+        public void onTrimMemory(int level) {
+            trimMemory(level);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            onTrimMemory(TRIM_MEMORY_COMPLETE);
+        }
+    };
+
+    /**
+     * Called when the system asks the app to trim its memory, see
+     * ComponentCallbacks2.onTrimMemory(int). Subclasses release the buffers of their renderer
+     * here. The offscreen bitmaps in the BitmapPool are not released per chart.
+     *
+     * @param level
+     */
+    protected void trimMemory(int level) {
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        getContext().registerComponentCallbacks(mTrimMemoryCallback);
+        BitmapPool.register(getContext());
+    }
+
     @Override
     protected void onDetachedFromWindow() {
         super.onDetachedFromWindow();
+        getContext().unregisterComponentCallbacks(mTrimMemoryCallback);
+        BitmapPool.unregister();
 
         //Log.i(LOG_TAG, "Detaching...");
 
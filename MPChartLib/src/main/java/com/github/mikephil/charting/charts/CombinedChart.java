@@ -45,6 +45,26 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
      */
     private boolean mDrawBarShadow = false;
 
+    /**
+     * if set to true, bars narrower than the aggregation threshold are aggregated per pixel column
+     */
+    private boolean mBarAggregation = false;
+
+    /**
+     * width of a bar in pixels below which bars are aggregated
+     */
+    private float mBarAggregationThreshold = 1f;
+
+    /**
+     * if set to true, adjacent candles are merged when zoomed out
+     */
+    private boolean mCandleResampling = false;
+
+    /**
+     * width in pixels a candle should at least have before candles are merged
+     */
+    private float mCandleResamplingThreshold = 3f;
+
     protected DrawOrder[] mDrawOrder;
 
     /**
@@ -207,6 +227,72 @@ public class CombinedChart extends BarLineChartBase<CombinedData> implements Com
         return mHighlightFullBarEnabled;
     }
 
+    /**
+     * If set to true, bars that are narrower than the aggregation threshold (see
+     * setBarAggregationThreshold(...)) are drawn aggregated: all bars that fall into the same
+     * pixel column are drawn as a single bar covering their extents. Once the bars are wider than
+     * the threshold, e.g. after zooming in, every bar is drawn again. Highlighting still resolves
+     * to the entry that defines the extent of the tapped column. Default: false
+     *
+     * @param enabled
+     */
+    public void setBarAggregationEnabled(boolean enabled) {
+        mBarAggregation = enabled;
+    }
+
+    @Override
+    public boolean isBarAggregationEnabled() {
+        return mBarAggregation;
+    }
+
+    /**
+     * Sets the width of a bar in pixels below which bars are aggregated per pixel column, if
+     * aggregation is enabled. Default: 1px
+     *
+     * @param pixels
+     */
+    public void setBarAggregationThreshold(float pixels) {
+        mBarAggregationThreshold = pixels;
+    }
+
+    @Override
+    public float getBarAggregationThreshold() {
+        return mBarAggregationThreshold;
+    }
+
+    /**
+     * If set to true, adjacent candles are merged into coarser candles (first open, max high,
+     * min low, last close) when zoomed out, so that there is at most about one candle per
+     * threshold pixels (see setCandleResamplingThreshold(...)). The merged candles are cached per
+     * zoom level until the data changes. Highlighting still resolves to the tapped entry and
+     * marks the merged candle it belongs to. Default: false
+     *
+     * @param enabled
+     */
+    public void setCandleResamplingEnabled(boolean enabled) {
+        mCandleResampling = enabled;
+    }
+
+    @Override
+    public boolean isCandleResamplingEnabled() {
+        return mCandleResampling;
+    }
+
+    /**
+     * Sets the width in pixels a candle should at least have before adjacent candles are merged,
+     * if resampling is enabled. Default: 3px
+     *
+     * @param pixels
+     */
+    public void setCandleResamplingThreshold(float pixels) {
+        mCandleResamplingThreshold = pixels;
+    }
+
+    @Override
+    public float getCandleResamplingThreshold() {
+        return mCandleResamplingThreshold;
+    }
+
     /**
      * Returns the currently set draw order.
      *
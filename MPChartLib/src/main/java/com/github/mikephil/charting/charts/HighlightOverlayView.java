@@ -0,0 +1,26 @@
+package com.github.mikephil.charting.charts;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.graphics.Canvas;
+import android.view.View;
+
+/**
+ * View on top of a BarLineChartBase that draws its highlights and markers. Changing the
+ * highlights only invalidates this View, the chart itself and its data are not drawn again.
+ */
+@SuppressLint("ViewConstructor")
+class HighlightOverlayView extends View {
+
+    private BarLineChartBase<?> mChart;
+
+    HighlightOverlayView(Context context, BarLineChartBase<?> chart) {
+        super(context);
+        mChart = chart;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        mChart.drawHighlightOverlay(canvas);
+    }
+}
@@ -1,6 +1,7 @@
 
 package com.github.mikephil.charting.charts;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
 import android.util.AttributeSet;
 
@@ -39,11 +40,20 @@ public class LineChart extends BarLineChartBase<LineData> implements LineDataPro
         return mData;
     }
 
+    @Override
+    protected void trimMemory(int level) {
+        super.trimMemory(level);
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW && mRenderer instanceof LineChartRenderer)
+            ((LineChartRenderer) mRenderer).trimBuffers();
+    }
+
     @Override
     protected void onDetachedFromWindow() {
-        // releases the bitmap in the renderer to avoid oom error
+        // releases the bitmap and buffers in the renderer to avoid oom error
         if (mRenderer != null && mRenderer instanceof LineChartRenderer) {
             ((LineChartRenderer) mRenderer).releaseBitmap();
+            ((LineChartRenderer) mRenderer).trimBuffers();
         }
         super.onDetachedFromWindow();
     }
@@ -192,6 +192,33 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    protected void calcMinMax(int from, int to, float[] out) {
+
+        for (int i = from; i < to; i++) {
+
+            BarEntry e = mEntries.get(i);
+
+            if (e == null || Float.isNaN(e.getY()))
+                continue;
+
+            float yMin = e.getYVals() == null ? e.getY() : -e.getNegativeSum();
+            float yMax = e.getYVals() == null ? e.getY() : e.getPositiveSum();
+
+            if (yMin < out[2])
+                out[2] = yMin;
+
+            if (yMax > out[3])
+                out[3] = yMax;
+
+            if (e.getX() < out[0])
+                out[0] = e.getX();
+
+            if (e.getX() > out[1])
+                out[1] = e.getX();
+        }
+    }
+
     @Override
     public int getStackSize() {
         return mStackSize;
@@ -88,6 +88,26 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected boolean mVisible = true;
 
+    /**
+     * the number of range updates that are remembered for getDirtyRange(...)
+     */
+    private static final int DIRTY_RANGE_HISTORY = 16;
+
+    /**
+     * changes every time the values of this DataSet change
+     */
+    private long mVersion = 0;
+
+    /**
+     * the version of the last change that affected the whole DataSet
+     */
+    private long mAllDirtyVersion = 0;
+
+    /**
+     * ring buffer of the most recent range updates, order: version, from, to
+     */
+    private long[] mDirtyRanges = null;
+
     /**
      * Default constructor.
      */
@@ -114,9 +134,124 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      * Use this method to tell the data set that the underlying data has changed.
      */
     public void notifyDataSetChanged() {
+        markAllDirty();
         calcMinMax();
     }
 
+    /**
+     * Marks all entries of this DataSet as changed.
+     */
+    protected void markAllDirty() {
+        mVersion++;
+        mAllDirtyVersion = mVersion;
+    }
+
+    /**
+     * Marks the entries in the given index range as changed.
+     *
+     * @param from index of the first changed entry (inclusive)
+     * @param to   index of the last changed entry (exclusive)
+     */
+    protected void markDirty(int from, int to) {
+
+        if (mDirtyRanges == null)
+            mDirtyRanges = new long[DIRTY_RANGE_HISTORY * 3];
+
+        mVersion++;
+
+        int slot = (int) (mVersion % DIRTY_RANGE_HISTORY) * 3;
+        mDirtyRanges[slot] = mVersion;
+        mDirtyRanges[slot + 1] = from;
+        mDirtyRanges[slot + 2] = to;
+    }
+
+    /**
+     * Replaces the y-values of len entries starting at fromIndex with the values in ys starting
+     * at off. The entries are updated in place and only the affected index range is marked dirty.
+     * The minimum and maximum values are recalculated, DataSet overrides this to adjust them
+     * incrementally.
+     *
+     * @param fromIndex index of the first entry to update
+     * @param ys        the new y-values
+     * @param off       index in ys of the first new y-value
+     * @param len       number of entries to update
+     */
+    public void replaceY(int fromIndex, float[] ys, int off, int len) {
+
+        if (len <= 0)
+            return;
+
+        final int to = fromIndex + len;
+
+        if (fromIndex < 0 || to > getEntryCount())
+            throw new IndexOutOfBoundsException("Range " + fromIndex + " - " + to
+                    + " out of bounds for entry count " + getEntryCount());
+
+        for (int i = 0; i < len; i++)
+            getEntryForIndex(fromIndex + i).setY(ys[off + i]);
+
+        markDirty(fromIndex, to);
+        calcMinMax();
+    }
+
+    /**
+     * Returns a number that changes every time the values of this DataSet change. Caches that
+     * depend on the values can store it and check for changes with getDirtyRange(...).
+     *
+     * @return
+     */
+    public long getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * Returns the version of the given DataSet (see getVersion()), or -1 if it is not a
+     * BaseDataSet and its changes can not be tracked. Nothing must be cached for a version of -1.
+     *
+     * @param set
+     * @return
+     */
+    public static long getVersionOf(IDataSet set) {
+        return set instanceof BaseDataSet ? ((BaseDataSet) set).getVersion() : -1;
+    }
+
+    /**
+     * Determines the entry index range that changed since the given version. Returns true and
+     * writes from (inclusive) and to (exclusive) into out if the changes are limited to that
+     * range (from >= to if nothing changed), returns false if everything has to be treated as
+     * changed (e.g. after notifyDataSetChanged()).
+     *
+     * @param sinceVersion a value previously returned by getVersion()
+     * @param out          array of size 2 the range is written to
+     * @return
+     */
+    public boolean getDirtyRange(long sinceVersion, int[] out) {
+
+        out[0] = Integer.MAX_VALUE;
+        out[1] = Integer.MIN_VALUE;
+
+        if (sinceVersion == mVersion)
+            return true;
+
+        // unknown version, a full change in between or the history does not reach back that far
+        if (sinceVersion > mVersion || sinceVersion < mAllDirtyVersion
+                || mVersion - sinceVersion > DIRTY_RANGE_HISTORY)
+            return false;
+
+        for (long v = sinceVersion + 1; v <= mVersion; v++) {
+
+            int slot = (int) (v % DIRTY_RANGE_HISTORY) * 3;
+
+            if (mDirtyRanges[slot] != v)
+                return false;
+
+            out[0] = Math.min(out[0], (int) mDirtyRanges[slot + 1]);
+            out[1] = Math.max(out[1], (int) mDirtyRanges[slot + 2]);
+        }
+
+        return true;
+    }
+
 
     /**
      * ###### ###### COLOR GETTING RELATED METHODS ##### ######
@@ -14,6 +14,21 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
 
     private float mHighlightCircleWidth = 2.5f;
 
+    /**
+     * if true, the DataSet is drawn as a density map once at least mDensityThreshold entries are
+     * visible
+     */
+    private boolean mDrawDensity = false;
+
+    private int mDensityThreshold = 10000;
+
+    /**
+     * size of a cell of the density map, in density pixels
+     */
+    private float mDensityCellSize = 2f;
+
+    private int[] mDensityColors = null;
+
     public BubbleDataSet(List<BubbleEntry> yVals, String label) {
         super(yVals, label);
     }
@@ -39,6 +54,31 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         }
     }
 
+    @Override
+    protected void calcMinMax(int from, int to, float[] out) {
+        super.calcMinMax(from, to, out);
+
+        // the maximum size is reduced in the fifth value of the array if there is one
+        if (out.length < 5)
+            return;
+
+        for (int i = from; i < to; i++) {
+
+            final float size = mEntries.get(i).getSize();
+
+            if (size > out[4])
+                out[4] = size;
+        }
+    }
+
+    @Override
+    protected void setMinMax(float[] minMax) {
+        super.setMinMax(minMax);
+
+        if (minMax[4] > mMaxSize)
+            mMaxSize = minMax[4];
+    }
+
     @Override
     public DataSet<BubbleEntry> copy() {
         List<BubbleEntry> entries = new ArrayList<BubbleEntry>();
@@ -53,6 +93,10 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
     protected void copy(BubbleDataSet bubbleDataSet) {
         bubbleDataSet.mHighlightCircleWidth = mHighlightCircleWidth;
         bubbleDataSet.mNormalizeSize = mNormalizeSize;
+        bubbleDataSet.mDrawDensity = mDrawDensity;
+        bubbleDataSet.mDensityThreshold = mDensityThreshold;
+        bubbleDataSet.mDensityCellSize = mDensityCellSize;
+        bubbleDataSet.mDensityColors = mDensityColors;
     }
 
     @Override
@@ -68,4 +112,66 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
     public void setNormalizeSizeEnabled(boolean normalizeSize) {
         mNormalizeSize = normalizeSize;
     }
+
+    /**
+     * Set this to true to draw the DataSet as a density map instead of shape by shape once at
+     * least getDensityThreshold() entries are visible. The entries are counted per cell and the
+     * counts are mapped to the density colors, which is a lot faster for very large DataSets
+     * where most shapes overlap anyway. Default: false
+     *
+     * @param enabled
+     */
+    public void setDrawDensityEnabled(boolean enabled) {
+        mDrawDensity = enabled;
+    }
+
+    @Override
+    public boolean isDrawDensityEnabled() {
+        return mDrawDensity;
+    }
+
+    /**
+     * Sets the number of visible entries from which on the DataSet is drawn as a density map.
+     * Default: 10000
+     *
+     * @param threshold
+     */
+    public void setDensityThreshold(int threshold) {
+        mDensityThreshold = threshold;
+    }
+
+    @Override
+    public int getDensityThreshold() {
+        return mDensityThreshold;
+    }
+
+    /**
+     * Sets the size of a cell of the density map in dp. Default: 2dp
+     *
+     * @param size
+     */
+    public void setDensityCellSize(float size) {
+        mDensityCellSize = Math.max(1f, size);
+    }
+
+    @Override
+    public float getDensityCellSize() {
+        return mDensityCellSize;
+    }
+
+    /**
+     * Sets the colors of the density map, from a single entry to the maximum count per cell,
+     * the counts are mapped on a logarithmic scale. Set to null to fade in the color of the
+     * DataSet. Default: null
+     *
+     * @param colors
+     */
+    public void setDensityColors(int... colors) {
+        mDensityColors = colors == null || colors.length == 0 ? null : colors;
+    }
+
+    @Override
+    public int[] getDensityColors() {
+        return mDensityColors;
+    }
 }
@@ -115,6 +115,27 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         calcMinMaxX(e);
     }
 
+    @Override
+    protected void calcMinMax(int from, int to, float[] out) {
+
+        for (int i = from; i < to; i++) {
+
+            CandleEntry e = mEntries.get(i);
+
+            if (e.getLow() < out[2])
+                out[2] = e.getLow();
+
+            if (e.getHigh() > out[3])
+                out[3] = e.getHigh();
+
+            if (e.getX() < out[0])
+                out[0] = e.getX();
+
+            if (e.getX() > out[1])
+                out[1] = e.getX();
+        }
+    }
+
     @Override
     protected void calcMinMaxY(CandleEntry e) {
 
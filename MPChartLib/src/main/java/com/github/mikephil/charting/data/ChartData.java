@@ -445,6 +445,42 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         }
     }
 
+    /**
+     * Replaces the y-values of len entries of the DataSet at the specified index, starting at
+     * fromIndex, with the values in ys starting at off. The entries are updated in place, for a
+     * DataSet the minimum and maximum values are adjusted without rescanning all entries.
+     *
+     * @param dataSetIndex
+     * @param fromIndex    index of the first entry to update
+     * @param ys           the new y-values
+     * @param off          index in ys of the first new y-value
+     * @param len          number of entries to update
+     */
+    public void replaceY(int dataSetIndex, int fromIndex, float[] ys, int off, int len) {
+
+        if (mDataSets.size() > dataSetIndex && dataSetIndex >= 0) {
+
+            T set = mDataSets.get(dataSetIndex);
+
+            if (set instanceof BaseDataSet) {
+                ((BaseDataSet) set).replaceY(fromIndex, ys, off, len);
+            } else {
+
+                // a custom IDataSet implementation, update its entries one by one
+                for (int i = 0; i < len; i++)
+                    set.getEntryForIndex(fromIndex + i).setY(ys[off + i]);
+
+                set.calcMinMax();
+            }
+
+            // only merges the min and max values of the DataSets
+            calcMinMax();
+
+        } else {
+            Log.e("replaceY", "Cannot replace values because dataSetIndex too high or too low.");
+        }
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      *
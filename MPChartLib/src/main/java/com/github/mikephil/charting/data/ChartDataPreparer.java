@@ -0,0 +1,354 @@
+package com.github.mikephil.charting.data;
+
+import android.util.Log;
+
+import com.github.mikephil.charting.charts.Chart;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.listener.OnChartDataPreparedListener;
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Opt-in helper for preparing large ChartData objects off the UI thread. The entries of a DataSet
+ * are split into chunks that are reduced concurrently on a shared pool with one thread per core
+ * (fork-join style, ForkJoinPool itself is not available below API 21).
+ * <p/>
+ * Once enabled with setParallelThreshold(...), DataSet.calcMinMax() uses the parallel reduction
+ * for all DataSets with at least that many entries. It is never used from the DataSet constructor
+ * and not for subclasses that disable it with DataSet.isParallelMinMaxEnabled().
+ * prepareAsync(...) additionally creates the data on a background thread, sorts DataSets that are
+ * not ordered by x and finally sets the data to the chart on the UI thread.
+ */
+public class ChartDataPreparer {
+
+    private static final String LOG_TAG = "MPAndroidChart";
+
+    /**
+     * minimum number of entries per chunk, smaller chunks are not worth the scheduling overhead
+     */
+    private static final int MIN_CHUNK_SIZE = 16 * 1024;
+
+    private static volatile int sParallelThreshold = Integer.MAX_VALUE;
+
+    private static ExecutorService sComputePool;
+
+    private static ExecutorService sBackgroundExecutor;
+
+    private static final int THREAD_COUNT = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * Sets the number of entries from which on min / max and sortedness of a DataSet are
+     * calculated in parallel. Default: Integer.MAX_VALUE (disabled)
+     *
+     * @param threshold
+     */
+    public static void setParallelThreshold(int threshold) {
+        sParallelThreshold = threshold;
+    }
+
+    public static int getParallelThreshold() {
+        return sParallelThreshold;
+    }
+
+    /**
+     * Returns true if the given entries should be processed in parallel.
+     *
+     * @param entries
+     * @return
+     */
+    static boolean isParallelEnabled(List<?> entries) {
+        return entries instanceof RandomAccess && isParallelEnabled(entries.size());
+    }
+
+    /**
+     * Returns true if the given number of entries should be processed in parallel, false if
+     * parallel processing is disabled, there is only one core or this is already a compute
+     * thread.
+     *
+     * @param entryCount
+     * @return
+     */
+    public static boolean isParallelEnabled(int entryCount) {
+        return THREAD_COUNT > 1
+                && entryCount >= sParallelThreshold
+                && !isComputeThread();
+    }
+
+    /**
+     * Returns the number of threads of the shared compute pool.
+     *
+     * @return
+     */
+    public static int getThreadCount() {
+        return THREAD_COUNT;
+    }
+
+    /**
+     * Calculates the min and max values of all entries of the given DataSet in parallel chunks.
+     *
+     * @param set
+     * @return array containing xMin, xMax, yMin, yMax and the further maximum of the DataSet
+     */
+    static float[] calcMinMaxParallel(final DataSet<?> set) {
+
+        final float[] result = newMinMax();
+
+        List<Callable<float[]>> tasks = new ArrayList<>();
+
+        for (final int[] chunk : chunks(set.mEntries.size())) {
+            tasks.add(new Callable<float[]>() {
+                @Override
+                public float[] call() {
+                    float[] out = newMinMax();
+                    set.calcMinMax(chunk[0], chunk[1], out);
+                    return out;
+                }
+            });
+        }
+
+        for (float[] out : invokeAll(tasks)) {
+            result[0] = Math.min(result[0], out[0]);
+            result[1] = Math.max(result[1], out[1]);
+            result[2] = Math.min(result[2], out[2]);
+            result[3] = Math.max(result[3], out[3]);
+            result[4] = Math.max(result[4], out[4]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns true if the given entries are sorted ascending by their x-value. Large lists are
+     * checked in parallel chunks.
+     *
+     * @param entries
+     * @return
+     */
+    public static boolean isSortedByX(final List<? extends Entry> entries) {
+
+        if (!isParallelEnabled(entries))
+            return isSortedByX(entries, 0, entries.size());
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+
+        for (final int[] chunk : chunks(entries.size())) {
+            tasks.add(new Callable<Boolean>() {
+                @Override
+                public Boolean call() {
+                    // overlap by one entry to also check the chunk borders
+                    return isSortedByX(entries, Math.max(0, chunk[0] - 1), chunk[1]);
+                }
+            });
+        }
+
+        for (Boolean sorted : invokeAll(tasks)) {
+            if (!sorted)
+                return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isSortedByX(List<? extends Entry> entries, int from, int to) {
+
+        for (int i = from + 1; i < to; i++) {
+            if (entries.get(i).getX() < entries.get(i - 1).getX())
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Prepares the given data for rendering: DataSets that are not sorted by x are sorted and
+     * their min and max values are recalculated, then the data object itself is recalculated.
+     * This performs no work that requires the UI thread.
+     *
+     * @param data
+     */
+    public static void prepare(ChartData<?> data) {
+
+        if (data.getDataSets() == null)
+            return;
+
+        for (IDataSet<?> set : data.getDataSets()) {
+
+            if (!(set instanceof DataSet))
+                continue;
+
+            DataSet<?> dataSet = (DataSet<?>) set;
+
+            if (dataSet.mEntries != null && !isSortedByX(dataSet.mEntries)) {
+                Collections.sort(dataSet.mEntries, new EntryXComparator());
+                dataSet.calcMinMax();
+            }
+        }
+
+        data.notifyDataChanged();
+    }
+
+    /**
+     * Creates the data with the given factory on a background thread, prepares it (see
+     * prepare(...)) and sets it to the chart on the UI thread. DataSets that have to be sorted
+     * recalculate their min and max values in parallel if their entry count is above the
+     * parallel threshold.
+     *
+     * @param chart    the chart the data is set to
+     * @param factory  creates the data, called on a background thread
+     * @param listener notified on the UI thread after the data has been set, may be null
+     */
+    public static <T extends ChartData<? extends IDataSet<? extends Entry>>> void prepareAsync(
+            final Chart<T> chart, final Callable<T> factory, final OnChartDataPreparedListener<T> listener) {
+
+        getBackgroundExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+
+                T data = null;
+                Exception error = null;
+
+                try {
+                    data = factory.call();
+                    prepare(data);
+                } catch (Exception e) {
+                    Log.e(LOG_TAG, "Preparing chart data failed.", e);
+                    error = e;
+                }
+
+                final T prepared = data;
+                final Exception failure = error;
+
+                chart.post(new Runnable() {
+                    @Override
+                    public void run() {
+
+                        if (failure != null) {
+                            if (listener != null)
+                                listener.onChartDataPreparationFailed(failure);
+                            return;
+                        }
+
+                        chart.setData(prepared);
+                        chart.invalidate();
+
+                        if (listener != null)
+                            listener.onChartDataPrepared(prepared);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Prepares already created data on a background thread and sets it to the chart on the UI
+     * thread.
+     *
+     * @param chart
+     * @param data
+     * @param listener may be null
+     */
+    public static <T extends ChartData<? extends IDataSet<? extends Entry>>> void prepareAsync(
+            final Chart<T> chart, final T data, final OnChartDataPreparedListener<T> listener) {
+
+        prepareAsync(chart, new Callable<T>() {
+            @Override
+            public T call() {
+                return data;
+            }
+        }, listener);
+    }
+
+    private static float[] newMinMax() {
+        return new float[]{Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE, -Float.MAX_VALUE};
+    }
+
+    /**
+     * Splits the range [0, size) into chunks of [from, to).
+     */
+    private static List<int[]> chunks(int size) {
+
+        int chunkCount = Math.max(1, Math.min(THREAD_COUNT * 4, size / MIN_CHUNK_SIZE));
+        int chunkSize = (size + chunkCount - 1) / chunkCount;
+
+        List<int[]> chunks = new ArrayList<>(chunkCount);
+
+        for (int from = 0; from < size; from += chunkSize) {
+            chunks.add(new int[]{from, Math.min(size, from + chunkSize)});
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Runs the given tasks on the shared compute pool and returns their results in the same
+     * order, blocks until all tasks are done.
+     *
+     * @param tasks
+     * @return
+     */
+    public static <R> List<R> invokeAll(List<Callable<R>> tasks) {
+
+        List<R> results = new ArrayList<>(tasks.size());
+
+        try {
+            for (Future<R> f : getComputePool().invokeAll(tasks))
+                results.add(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while computing in parallel.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Parallel computation failed.", e.getCause());
+        }
+
+        return results;
+    }
+
+    private static final String COMPUTE_THREAD_NAME = "MPAndroidChart-Compute";
+
+    private static boolean isComputeThread() {
+        return Thread.currentThread().getName().startsWith(COMPUTE_THREAD_NAME);
+    }
+
+    private static synchronized ExecutorService getComputePool() {
+
+        if (sComputePool == null)
+            sComputePool = Executors.newFixedThreadPool(THREAD_COUNT, new DaemonThreadFactory(COMPUTE_THREAD_NAME));
+
+        return sComputePool;
+    }
+
+    private static synchronized ExecutorService getBackgroundExecutor() {
+
+        if (sBackgroundExecutor == null)
+            sBackgroundExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("MPAndroidChart-Prepare"));
+
+        return sBackgroundExecutor;
+    }
+
+    private static class DaemonThreadFactory implements ThreadFactory {
+
+        private final String mName;
+        private int mCount = 0;
+
+        DaemonThreadFactory(String name) {
+            mName = name;
+        }
+
+        @Override
+        public synchronized Thread newThread(Runnable r) {
+            Thread t = new Thread(r, mName + "-" + mCount++);
+            t.setDaemon(true);
+            return t;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.data.storage.ColumnarEntryList;
+import com.github.mikephil.charting.data.storage.FixedPointColumn;
+import com.github.mikephil.charting.data.storage.FloatColumn;
+import com.github.mikephil.charting.data.storage.HalfFloatColumn;
+import com.github.mikephil.charting.data.storage.PlainFloatColumn;
+
+/**
+ * LineDataSet that stores its values in primitive columns instead of one Entry object per value.
+ * The y-values can optionally be stored in a compressed 16-bit encoding (see YEncoding), they are
+ * decoded on the fly in the lookup and min / max loops and when an Entry is requested.
+ * Entry objects returned by this DataSet are created on demand and are not backed by the
+ * columns, modifying them has no effect. Adding or removing entries is not supported.
+ */
+public class ColumnarLineDataSet extends LineDataSet {
+
+    /**
+     * Determines how the y-values are stored.
+     */
+    public enum YEncoding {
+        /**
+         * 32-bit floats, lossless
+         */
+        FLOAT,
+        /**
+         * 16-bit IEEE 754 half-precision floats, about 3 significant digits
+         */
+        HALF_FLOAT,
+        /**
+         * 16-bit fixed-point with a scale and offset per block of values
+         */
+        FIXED_POINT
+    }
+
+    public ColumnarLineDataSet(float[] xVals, float[] yVals, String label) {
+        this(xVals, yVals, YEncoding.FLOAT, label);
+    }
+
+    /**
+     * @param xVals    the x-values, sorted ascending
+     * @param yVals    the y-values
+     * @param encoding how the y-values are stored
+     * @param label
+     */
+    public ColumnarLineDataSet(float[] xVals, float[] yVals, YEncoding encoding, String label) {
+        this(new PlainFloatColumn(xVals), createColumn(yVals, encoding), label);
+    }
+
+    public ColumnarLineDataSet(FloatColumn xColumn, FloatColumn yColumn, String label) {
+        super(new ColumnarEntryList(xColumn, yColumn), label);
+    }
+
+    protected static FloatColumn createColumn(float[] values, YEncoding encoding) {
+
+        switch (encoding) {
+            case HALF_FLOAT:
+                return new HalfFloatColumn(values);
+            case FIXED_POINT:
+                return new FixedPointColumn(values);
+            default:
+            case FLOAT:
+                return new PlainFloatColumn(values);
+        }
+    }
+
+    public FloatColumn getXColumn() {
+        return ((ColumnarEntryList) mEntries).getXColumn();
+    }
+
+    public FloatColumn getYColumn() {
+        return ((ColumnarEntryList) mEntries).getYColumn();
+    }
+
+    /**
+     * Returns the number of bytes the columns of this DataSet occupy.
+     *
+     * @return
+     */
+    public long getByteSize() {
+        return getXColumn().getByteSize() + getYColumn().getByteSize();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        if (isParallelMinMaxEnabled()) {
+            super.calcMinMax();
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        float[] minMax = new float[]{mXMin, mXMax, mYMin, mYMax};
+        calcMinMax(0, getEntryCount(), minMax);
+
+        mXMin = minMax[0];
+        mXMax = minMax[1];
+        mYMin = minMax[2];
+        mYMax = minMax[3];
+    }
+
+    @Override
+    protected void calcMinMax(int from, int to, float[] out) {
+
+        FloatColumn xColumn = getXColumn();
+        FloatColumn yColumn = getYColumn();
+
+        for (int i = from; i < to; i++) {
+
+            float x = xColumn.get(i);
+            float y = yColumn.get(i);
+
+            if (x < out[0])
+                out[0] = x;
+
+            if (x > out[1])
+                out[1] = x;
+
+            if (y < out[2])
+                out[2] = y;
+
+            if (y > out[3])
+                out[3] = y;
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (getEntryCount() == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (indexTo < indexFrom) return;
+
+        FloatColumn yColumn = getYColumn();
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+
+            float y = yColumn.get(i);
+
+            if (y < mYMin)
+                mYMin = y;
+
+            if (y > mYMax)
+                mYMax = y;
+        }
+    }
+
+    @Override
+    public float getEntryX(int index) {
+        return getXColumn().get(index);
+    }
+
+    @Override
+    public float getEntryY(int index) {
+        return getYColumn().get(index);
+    }
+
+    @Override
+    protected void setEntryY(int index, float y) {
+        getYColumn().set(index, y);
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), Float.NaN, Rounding.DOWN);
+
+        if (index < 0)
+            return -1;
+
+        // entries are created on demand, so compare by value instead of identity
+        for (int i = index; i < getEntryCount() && getEntryX(i) == e.getX(); i++) {
+            if (getEntryY(i) == e.getY())
+                return i;
+        }
+
+        return -1;
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(getXColumn().copy(), getYColumn().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -39,6 +39,19 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * x-value of the first entry and distance between two consecutive entries if the x-values
+     * are uniformly spaced, NaN if not
+     */
+    protected double mUniformXStart = Double.NaN;
+    protected double mUniformXStep = Double.NaN;
+
+    /**
+     * false while the constructor runs, the parallel reduction must not see a partially
+     * constructed DataSet
+     */
+    private boolean mConstructed = false;
+
 
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a
@@ -56,6 +69,17 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mEntries = new ArrayList<T>();
 
         calcMinMax();
+        mConstructed = true;
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+
+        // the entries may have changed, keep the uniform spacing only if it is still valid
+        if (isUniformXSpacing() && !isUniformXSpacing(mUniformXStart, mUniformXStep))
+            clearUniformXSpacing();
+
+        super.notifyDataSetChanged();
     }
 
     @Override
@@ -69,11 +93,78 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null || mEntries.isEmpty())
             return;
 
+        if (isParallelMinMaxEnabled()) {
+
+            setMinMax(ChartDataPreparer.calcMinMaxParallel(this));
+            return;
+        }
+
         for (T e : mEntries) {
             calcMinMax(e);
         }
     }
 
+    /**
+     * Returns true if calcMinMax() reduces the entries in parallel chunks with
+     * calcMinMax(int, int, float[]) instead of calling calcMinMax(T e) for each entry: the entry
+     * count is above the parallel threshold (see ChartDataPreparer.setParallelThreshold(...)) and
+     * the constructor has finished. Subclasses that override calcMinMax(T e) without overriding
+     * calcMinMax(int, int, float[]) accordingly must override this and return false.
+     *
+     * @return
+     */
+    protected boolean isParallelMinMaxEnabled() {
+        return mConstructed && ChartDataPreparer.isParallelEnabled(mEntries);
+    }
+
+    /**
+     * Sets the min and max values to the merged results of calcMinMax(int, int, float[]).
+     * Subclasses that reduce further values in the result array read them here.
+     *
+     * @param minMax xMin, xMax, yMin, yMax and the fifth value of the result array
+     */
+    protected void setMinMax(float[] minMax) {
+        mXMin = minMax[0];
+        mXMax = minMax[1];
+        mYMin = minMax[2];
+        mYMax = minMax[3];
+    }
+
+    /**
+     * Calculates the min and max x and y values of the entries in the given index range without
+     * modifying this DataSet. The results are merged into the provided array, order: xMin, xMax,
+     * yMin, yMax. The array may hold a fifth value, a further maximum subclasses can reduce (e.g.
+     * the bubble size), which is passed to setMinMax(...). This can be called concurrently for
+     * different ranges, subclasses that override calcMinMax(T e) must override this method
+     * accordingly.
+     *
+     * @param from index of the first entry (inclusive)
+     * @param to   index of the last entry (exclusive)
+     * @param out
+     */
+    protected void calcMinMax(int from, int to, float[] out) {
+
+        for (int i = from; i < to; i++) {
+
+            T e = mEntries.get(i);
+
+            if (e == null)
+                continue;
+
+            if (e.getX() < out[0])
+                out[0] = e.getX();
+
+            if (e.getX() > out[1])
+                out[1] = e.getX();
+
+            if (e.getY() < out[2])
+                out[2] = e.getY();
+
+            if (e.getY() > out[3])
+                out[3] = e.getY();
+        }
+    }
+
     @Override
     public void calcMinMaxY(float fromX, float toX) {
         mYMax = -Float.MAX_VALUE;
@@ -173,6 +264,93 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         notifyDataSetChanged();
     }
 
+    /**
+     * Tells the DataSet that the x-value of the entry at index i is start + i * step. Index
+     * lookups by x-value (visible range, highlighting, autoscaling) are then calculated instead
+     * of searched. The spacing is dropped automatically if entries are added or removed in a way
+     * that breaks it.
+     *
+     * @param start the x-value of the first entry
+     * @param step  the distance between two consecutive entries, must be > 0
+     */
+    public void setUniformXSpacing(float start, float step) {
+
+        if (!(step > 0f))
+            throw new IllegalArgumentException("step must be > 0");
+
+        mUniformXStart = start;
+        mUniformXStep = step;
+    }
+
+    /**
+     * Checks if the x-values of the entries are uniformly spaced and enables the calculated
+     * index lookup if so (see setUniformXSpacing(...)). Returns true if the x-values are
+     * uniformly spaced. This iterates over all entries.
+     *
+     * @return
+     */
+    public boolean detectUniformXSpacing() {
+
+        clearUniformXSpacing();
+
+        int count = getEntryCount();
+
+        if (count < 2)
+            return false;
+
+        double start = getEntryX(0);
+        double step = (getEntryX(count - 1) - start) / (count - 1);
+
+        if (!(step > 0.0) || !isUniformXSpacing(start, step))
+            return false;
+
+        mUniformXStart = start;
+        mUniformXStep = step;
+        return true;
+    }
+
+    /**
+     * Disables the calculated index lookup, x-values are binary searched again.
+     */
+    public void clearUniformXSpacing() {
+        mUniformXStart = Double.NaN;
+        mUniformXStep = Double.NaN;
+    }
+
+    /**
+     * Returns true if the x-values of this DataSet are known to be uniformly spaced.
+     *
+     * @return
+     */
+    public boolean isUniformXSpacing() {
+        return !Double.isNaN(mUniformXStep);
+    }
+
+    private boolean isUniformXSpacing(double start, double step) {
+
+        final int count = getEntryCount();
+
+        for (int i = 0; i < count; i++) {
+
+            float x = getEntryX(i);
+            double expected = start + i * step;
+
+            if (Math.abs(x - expected) > Math.max(step * 0.01, Math.ulp(x)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if an entry with the given x-value can be appended without breaking the
+     * uniform spacing.
+     */
+    private boolean isUniformXAppend(float x) {
+        double expected = mUniformXStart + getEntryCount() * mUniformXStep;
+        return Math.abs(x - expected) <= Math.max(mUniformXStep * 0.01, Math.ulp(x));
+    }
+
     /**
      * Provides an exact copy of the DataSet this method is used on.
      *
@@ -186,6 +364,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected void copy(DataSet dataSet) {
         super.copy(dataSet);
+        dataSet.mUniformXStart = mUniformXStart;
+        dataSet.mUniformXStep = mUniformXStep;
     }
 
     @Override
@@ -241,10 +421,14 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             mEntries = new ArrayList<T>();
         }
 
+        if (isUniformXSpacing() && !isUniformXAppend(e.getX()))
+            clearUniformXSpacing();
+
+        markAllDirty();
         calcMinMax(e);
 
         if (mEntries.size() > 0 && mEntries.get(mEntries.size() - 1).getX() > e.getX()) {
-            int closestIndex = getEntryIndex(e.getX(), e.getY(), Rounding.UP);
+            int closestIndex = getEntryIndex(e.getX(), Float.NaN, Rounding.UP);
             mEntries.add(closestIndex, e);
         } else {
             mEntries.add(e);
@@ -257,6 +441,51 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         notifyDataSetChanged();
     }
 
+    @Override
+    public void replaceY(int fromIndex, float[] ys, int off, int len) {
+
+        if (len <= 0)
+            return;
+
+        final int to = fromIndex + len;
+
+        if (fromIndex < 0 || to > getEntryCount())
+            throw new IndexOutOfBoundsException("Range " + fromIndex + " - " + to
+                    + " out of bounds for entry count " + getEntryCount());
+
+        float[] before = new float[]{Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE};
+        calcMinMax(fromIndex, to, before);
+
+        for (int i = 0; i < len; i++)
+            setEntryY(fromIndex + i, ys[off + i]);
+
+        float[] after = new float[]{Float.MAX_VALUE, -Float.MAX_VALUE, Float.MAX_VALUE, -Float.MAX_VALUE};
+        calcMinMax(fromIndex, to, after);
+
+        if (len == getEntryCount()) {
+            mYMin = after[2];
+            mYMax = after[3];
+        } else if ((before[2] <= mYMin && after[2] > mYMin) || (before[3] >= mYMax && after[3] < mYMax)) {
+            // a minimum or maximum has been replaced by a less extreme value
+            calcMinMax();
+        } else {
+            mYMin = Math.min(mYMin, after[2]);
+            mYMax = Math.max(mYMax, after[3]);
+        }
+
+        markDirty(fromIndex, to);
+    }
+
+    /**
+     * Sets the y-value of the entry at the given index, used by replaceY(...).
+     *
+     * @param index
+     * @param y
+     */
+    protected void setEntryY(int index, float y) {
+        mEntries.get(index).setY(y);
+    }
+
     @Override
     public boolean addEntry(T e) {
 
@@ -268,6 +497,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             values = new ArrayList<>();
         }
 
+        if (isUniformXSpacing() && !isUniformXAppend(e.getX()))
+            clearUniformXSpacing();
+
+        markAllDirty();
         calcMinMax(e);
 
         // add the entry
@@ -287,6 +520,8 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         boolean removed = mEntries.remove(e);
 
         if (removed) {
+            clearUniformXSpacing();
+            markAllDirty();
             calcMinMax();
         }
 
@@ -295,6 +530,22 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
     @Override
     public int getEntryIndex(Entry e) {
+
+        if (e != null && !mEntries.isEmpty()) {
+
+            // entries are sorted by x, look for the entry among the ones with the same x-value
+            int index = getEntryIndex(e.getX(), Float.NaN, Rounding.CLOSEST);
+
+            while (index > 0 && getEntryX(index - 1) == e.getX())
+                index--;
+
+            for (int size = getEntryCount(); index < size && getEntryX(index) == e.getX(); index++) {
+                if (mEntries.get(index) == e)
+                    return index;
+            }
+        }
+
+        // unsorted entries or an entry that is not part of this DataSet
         return mEntries.indexOf(e);
     }
 
@@ -323,15 +574,36 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         if (mEntries == null || mEntries.isEmpty())
             return -1;
 
-        int low = 0;
-        int high = mEntries.size() - 1;
+        final int size = getEntryCount();
+
+        if (isUniformXSpacing())
+            return getUniformEntryIndex(xValue, rounding, size);
+
+        return getEntryIndex(xValue, closestToY, rounding, 0, size - 1);
+    }
+
+    /**
+     * Searches the index of the entry with the given x-value between the given indices, which
+     * have to contain the searched entry and the entries next to it. Rounding and the search by
+     * y-value may step outside of the range to entries with the same x-value.
+     *
+     * @param xValue
+     * @param closestToY
+     * @param rounding
+     * @param low
+     * @param high
+     * @return
+     */
+    protected int getEntryIndex(float xValue, float closestToY, Rounding rounding, int low, int high) {
+
+        final int size = getEntryCount();
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mEntries.get(m).getX() - xValue,
-                    d2 = mEntries.get(m + 1).getX() - xValue,
+            final float d1 = getEntryX(m) - xValue,
+                    d2 = getEntryX(m + 1) - xValue,
                     ad1 = Math.abs(d1), ad2 = Math.abs(d2);
 
             if (ad2 < ad1) {
@@ -358,10 +630,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         }
 
         if (closest != -1) {
-            float closestXValue = mEntries.get(closest).getX();
+            float closestXValue = getEntryX(closest);
             if (rounding == Rounding.UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mEntries.size() - 1) {
+                if (closestXValue < xValue && closest < size - 1) {
                     ++closest;
                 }
             } else if (rounding == Rounding.DOWN) {
@@ -373,23 +645,21 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mEntries.get(closest - 1).getX() == closestXValue)
+                while (closest > 0 && getEntryX(closest - 1) == closestXValue)
                     closest -= 1;
 
-                float closestYValue = mEntries.get(closest).getY();
+                float closestYValue = getEntryY(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mEntries.size())
+                    if (closest >= size)
                         break;
 
-                    final Entry value = mEntries.get(closest);
-
-                    if (value.getX() != closestXValue)
+                    if (getEntryX(closest) != closestXValue)
                         break;
 
-                    if (Math.abs(value.getY() - closestToY) <= Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getEntryY(closest) - closestToY) <= Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
@@ -402,6 +672,53 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         return closest;
     }
 
+    /**
+     * Returns the x-value of the entry at the given index. Used by the lookups of this DataSet
+     * and by the renderers, subclasses that do not keep Entry objects can override this to avoid
+     * creating them.
+     *
+     * @param index
+     * @return
+     */
+    public float getEntryX(int index) {
+        return mEntries.get(index).getX();
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index. Used by the lookups of this DataSet
+     * and by the renderers, subclasses that do not keep Entry objects can override this to avoid
+     * creating them.
+     *
+     * @param index
+     * @return
+     */
+    public float getEntryY(int index) {
+        return mEntries.get(index).getY();
+    }
+
+    /**
+     * Calculates the entry index for the given x-value if the x-values are uniformly spaced.
+     * Same rounding behaviour as the binary search in getEntryIndex(...), there are no duplicate
+     * x-values to choose from by y-value.
+     */
+    private int getUniformEntryIndex(float xValue, Rounding rounding, int size) {
+
+        long position = Math.round((xValue - mUniformXStart) / mUniformXStep);
+        int closest = (int) Math.max(0, Math.min(size - 1, position));
+
+        float closestXValue = getEntryX(closest);
+
+        if (rounding == Rounding.UP) {
+            if (closestXValue < xValue && closest < size - 1)
+                ++closest;
+        } else if (rounding == Rounding.DOWN) {
+            if (closestXValue > xValue && closest > 0)
+                --closest;
+        }
+
+        return closest;
+    }
+
     @Override
     public List<T> getEntriesForXValue(float xValue) {
 
@@ -29,6 +29,11 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
      */
     protected Drawable mFillDrawable;
 
+    /**
+     * the colors of the vertical fill gradient, null if not filled with a gradient
+     */
+    private int[] mFillGradientColors = null;
+
     /**
      * transparency used for filling line surface
      */
@@ -72,6 +77,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
     public void setFillColor(int color) {
         mFillColor = color;
         mFillDrawable = null;
+        mFillGradientColors = null;
     }
 
     @Override
@@ -87,6 +93,31 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
     @TargetApi(18)
     public void setFillDrawable(Drawable drawable) {
         this.mFillDrawable = drawable;
+        mFillGradientColors = null;
+    }
+
+    @Override
+    public int[] getFillGradientColors() {
+        return mFillGradientColors;
+    }
+
+    /**
+     * Sets the colors of a vertical gradient used to fill the area below the line, from the top
+     * to the bottom of the chart. A gradient is drawn a lot faster than a gradient drawable set
+     * with setFillDrawable(...), which has to be clipped to the filled area. The fill alpha is
+     * applied on top of the alpha of the colors. Resets an eventually set "fillDrawable".
+     *
+     * @param colors at least two colors
+     */
+    public void setFillGradient(int... colors) {
+
+        if (colors == null || colors.length < 2) {
+            mFillGradientColors = null;
+            return;
+        }
+
+        mFillGradientColors = colors;
+        mFillDrawable = null;
     }
 
     @Override
@@ -162,6 +193,7 @@ public abstract class LineRadarDataSet<T extends Entry> extends LineScatterCandl
         lineRadarDataSet.mFillAlpha = mFillAlpha;
         lineRadarDataSet.mFillColor = mFillColor;
         lineRadarDataSet.mFillDrawable = mFillDrawable;
+        lineRadarDataSet.mFillGradientColors = mFillGradientColors;
         lineRadarDataSet.mLineWidth = mLineWidth;
     }
 }
@@ -0,0 +1,326 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.data.paging.DataPage;
+import com.github.mikephil.charting.data.paging.DataPageCache;
+import com.github.mikephil.charting.data.paging.IDataPageProvider;
+import com.github.mikephil.charting.data.paging.OnDataPageLoadedListener;
+import com.github.mikephil.charting.data.paging.PagedEntryList;
+
+/**
+ * LineDataSet that does not hold its entries in memory, but loads them in fixed-size pages from
+ * an IDataPageProvider. Loaded pages are kept in a DataPageCache that is bounded by a memory
+ * budget. Pages are never loaded on the thread drawing the chart: while a page is loaded in the
+ * background, the renderers draw an approximation based on the page's cached Summary, or on the
+ * value range of the provider for pages that have never been loaded.
+ * The DataSet is read-only, adding or removing entries is not supported.
+ */
+public class PagedLineDataSet extends LineDataSet {
+
+    /**
+     * number of seconds of the current pan velocity that are prefetched ahead of the viewport
+     */
+    private float mPrefetchSeconds = 0.5f;
+
+    /**
+     * the visible pages, the number of pages ahead and the direction of the last prefetch
+     */
+    private int[] mLastPrefetch = new int[]{-1, -1, 0, 0};
+
+    public PagedLineDataSet(IDataPageProvider provider, int pageSize, String label) {
+        this(new DataPageCache(provider, pageSize, DataPageCache.DEFAULT_MAX_BYTES), label);
+    }
+
+    public PagedLineDataSet(DataPageCache cache, String label) {
+        super(new PagedEntryList(cache), label);
+    }
+
+    /**
+     * Returns the cache the pages of this DataSet are held in.
+     *
+     * @return
+     */
+    public DataPageCache getPageCache() {
+        return ((PagedEntryList) mEntries).getPageCache();
+    }
+
+    /**
+     * Sets a listener that is called when a page has been loaded in the background. Use this to
+     * call chart.postInvalidate().
+     *
+     * @param l
+     */
+    public void setOnDataPageLoadedListener(OnDataPageLoadedListener l) {
+        getPageCache().setOnDataPageLoadedListener(l);
+    }
+
+    /**
+     * Sets for how many seconds of the current pan / fling velocity pages should be prefetched
+     * ahead of the visible range. Default: 0.5f
+     *
+     * @param seconds
+     */
+    public void setPrefetchSeconds(float seconds) {
+        mPrefetchSeconds = seconds;
+    }
+
+    public float getPrefetchSeconds() {
+        return mPrefetchSeconds;
+    }
+
+    @Override
+    public void notifyDataSetChanged() {
+        getPageCache().clear();
+        mLastPrefetch[0] = -1;
+        super.notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        IDataPageProvider provider = getPageCache().getProvider();
+
+        if (provider.getSampleCount() == 0)
+            return;
+
+        mXMin = provider.getXMin();
+        mXMax = provider.getXMax();
+        mYMin = provider.getYMin();
+        mYMax = provider.getYMax();
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        if (getEntryCount() == 0)
+            return;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        if (indexTo < indexFrom) return;
+
+        DataPageCache cache = getPageCache();
+
+        int pageFrom = cache.getPageIndex(indexFrom);
+        int pageTo = cache.getPageIndex(indexTo);
+
+        for (int p = pageFrom; p <= pageTo; p++) {
+
+            DataPage page = cache.getResidentPage(p);
+
+            if (page == null) {
+
+                DataPage.Summary summary = cache.getSummary(p);
+
+                if (summary != null) {
+
+                    // use the coarse bounds until the page is back
+                    cache.requestPage(p);
+
+                    if (summary.yMin < mYMin)
+                        mYMin = summary.yMin;
+                    if (summary.yMax > mYMax)
+                        mYMax = summary.yMax;
+                    continue;
+                }
+
+                // nothing is known about the page yet, use the range of all values
+                cache.requestPage(p);
+
+                IDataPageProvider provider = cache.getProvider();
+
+                if (provider.getYMin() < mYMin)
+                    mYMin = provider.getYMin();
+                if (provider.getYMax() > mYMax)
+                    mYMax = provider.getYMax();
+                continue;
+            }
+
+            int from = Math.max(indexFrom, page.start) - page.start;
+            int to = Math.min(indexTo, page.start + page.count - 1) - page.start;
+
+            for (int i = from; i <= to; i++) {
+                float y = page.yVals[i];
+                if (y < mYMin)
+                    mYMin = y;
+                if (y > mYMax)
+                    mYMax = y;
+            }
+        }
+    }
+
+    /**
+     * Returns the Entry at the given index. If the page containing the index is not in the cache,
+     * it is requested in the background and an approximated Entry is returned in the meantime.
+     *
+     * @param index
+     * @return
+     */
+    @Override
+    public Entry getEntryForIndex(int index) {
+
+        if (index < 0 || index >= getEntryCount())
+            return null;
+
+        return mEntries.get(index);
+    }
+
+    /**
+     * Searches the page that contains the x-value by the first and last x-values of the pages
+     * first, so only the entries of that page and the edges of its neighbours are read. The page
+     * is requested in the background if it is not in the cache.
+     */
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, Rounding rounding) {
+
+        final int size = getEntryCount();
+
+        if (size == 0)
+            return -1;
+
+        DataPageCache cache = getPageCache();
+
+        int page = cache.findPage(xValue);
+        int start = page * cache.getPageSize();
+
+        cache.requestPage(page);
+
+        int low = Math.max(0, start - 1);
+        int high = Math.min(size - 1, start + cache.getPageSize());
+
+        return getEntryIndex(xValue, closestToY, rounding, low, high);
+    }
+
+    @Override
+    public float getEntryX(int index) {
+        return getPageCache().getX(index);
+    }
+
+    @Override
+    public int getEntryIndex(Entry e) {
+
+        if (e == null)
+            return -1;
+
+        int index = getEntryIndex(e.getX(), Float.NaN, Rounding.DOWN);
+
+        if (index < 0)
+            return -1;
+
+        // approximated entries are not part of the data, resolve them by their x-value
+        int count = getEntryCount();
+
+        for (int i = index; i < count; i++) {
+
+            Entry entry = mEntries.get(i);
+
+            if (entry.getX() != e.getX())
+                break;
+
+            if (entry == e || entry.equalTo(e))
+                return i;
+        }
+
+        return index;
+    }
+
+    /**
+     * Not supported, like adding or removing entries: the values are owned by the
+     * IDataPageProvider and an Entry of a page that is evicted and loaded again would lose the new
+     * value. Update the provider and call notifyDataSetChanged() instead.
+     */
+    @Override
+    public void replaceY(int fromIndex, float[] ys, int off, int len) {
+        throw new UnsupportedOperationException("PagedLineDataSet is read-only");
+    }
+
+    /**
+     * Also changes every time a page is loaded or evicted, as that replaces the approximated
+     * values of its entries or the other way round.
+     *
+     * @return
+     */
+    @Override
+    public long getVersion() {
+        return super.getVersion() + getPageCache().getChangeCount();
+    }
+
+    /**
+     * Pages are loaded and evicted as a whole, so any change since the given version is treated
+     * as a change of everything.
+     */
+    @Override
+    public boolean getDirtyRange(long sinceVersion, int[] out) {
+        return sinceVersion == getVersion() && super.getDirtyRange(super.getVersion(), out);
+    }
+
+    /**
+     * Requests all pages of the visible range plus a number of pages ahead in the direction of
+     * movement to be loaded in the background. Does nothing if neither the visible pages, nor
+     * the number of pages ahead or the direction changed since the last call, so this can be
+     * called on every pan or fling frame.
+     *
+     * @param lowestVisibleX  the lowest visible x-value
+     * @param highestVisibleX the highest visible x-value
+     * @param velocityX       the current pan velocity in x-values per second, positive values
+     *                        move towards higher x-values
+     */
+    public void prefetch(float lowestVisibleX, float highestVisibleX, float velocityX) {
+
+        if (getEntryCount() == 0)
+            return;
+
+        DataPageCache cache = getPageCache();
+
+        int pageFrom = cache.getPageIndex(getEntryIndex(lowestVisibleX, Float.NaN, Rounding.DOWN));
+        int pageTo = cache.getPageIndex(getEntryIndex(highestVisibleX, Float.NaN, Rounding.UP));
+
+        float visibleRange = highestVisibleX - lowestVisibleX;
+        int visiblePages = pageTo - pageFrom + 1;
+
+        int ahead = 1;
+
+        if (visibleRange > 0f) {
+            ahead = Math.max(1, (int) Math.ceil(Math.abs(velocityX) * mPrefetchSeconds / visibleRange * visiblePages));
+        }
+
+        int direction = (int) Math.signum(velocityX);
+
+        if (mLastPrefetch[0] == pageFrom && mLastPrefetch[1] == pageTo
+                && mLastPrefetch[2] == ahead && mLastPrefetch[3] == direction)
+            return;
+
+        mLastPrefetch[0] = pageFrom;
+        mLastPrefetch[1] = pageTo;
+        mLastPrefetch[2] = ahead;
+        mLastPrefetch[3] = direction;
+
+        for (int p = pageFrom; p <= pageTo; p++)
+            cache.requestPage(p);
+
+        if (velocityX >= 0f) {
+            for (int i = 1; i <= ahead; i++)
+                cache.requestPage(pageTo + i);
+        }
+
+        if (velocityX <= 0f) {
+            for (int i = 1; i <= ahead; i++)
+                cache.requestPage(pageFrom - i);
+        }
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        PagedLineDataSet copied = new PagedLineDataSet(getPageCache(), getLabel());
+        copy(copied);
+        copied.mPrefetchSeconds = mPrefetchSeconds;
+        return copied;
+    }
+}
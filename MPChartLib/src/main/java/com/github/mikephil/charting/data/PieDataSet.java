@@ -61,6 +61,24 @@ public class PieDataSet extends DataSet<PieEntry> implements IPieDataSet {
         calcMinMaxY(e);
     }
 
+    @Override
+    protected void calcMinMax(int from, int to, float[] out) {
+
+        for (int i = from; i < to; i++) {
+
+            PieEntry e = mEntries.get(i);
+
+            if (e == null)
+                continue;
+
+            if (e.getY() < out[2])
+                out[2] = e.getY();
+
+            if (e.getY() > out[3])
+                out[3] = e.getY();
+        }
+    }
+
     /**
      * Sets the space that is left out between the piechart-slices in dp.
      * Default: 0 --> no space, maximum 20f
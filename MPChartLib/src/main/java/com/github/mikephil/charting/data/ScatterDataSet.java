@@ -41,6 +41,21 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
      */
     private int mScatterShapeHoleColor = ColorTemplate.COLOR_NONE;
 
+    /**
+     * if true, the DataSet is drawn as a density map once at least mDensityThreshold entries are
+     * visible
+     */
+    private boolean mDrawDensity = false;
+
+    private int mDensityThreshold = 10000;
+
+    /**
+     * size of a cell of the density map, in density pixels
+     */
+    private float mDensityCellSize = 2f;
+
+    private int[] mDensityColors = null;
+
     public ScatterDataSet(List<Entry> yVals, String label) {
         super(yVals, label);
     }
@@ -62,6 +77,10 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
         scatterDataSet.mShapeRenderer = mShapeRenderer;
         scatterDataSet.mScatterShapeHoleRadius = mScatterShapeHoleRadius;
         scatterDataSet.mScatterShapeHoleColor = mScatterShapeHoleColor;
+        scatterDataSet.mDrawDensity = mDrawDensity;
+        scatterDataSet.mDensityThreshold = mDensityThreshold;
+        scatterDataSet.mDensityCellSize = mDensityCellSize;
+        scatterDataSet.mDensityColors = mDensityColors;
     }
 
     /**
@@ -154,4 +173,66 @@ public class ScatterDataSet extends LineScatterCandleRadarDataSet<Entry> impleme
 
         return null;
     }
+
+    /**
+     * Set this to true to draw the DataSet as a density map instead of shape by shape once at
+     * least getDensityThreshold() entries are visible. The entries are counted per cell and the
+     * counts are mapped to the density colors, which is a lot faster for very large DataSets
+     * where most shapes overlap anyway. Default: false
+     *
+     * @param enabled
+     */
+    public void setDrawDensityEnabled(boolean enabled) {
+        mDrawDensity = enabled;
+    }
+
+    @Override
+    public boolean isDrawDensityEnabled() {
+        return mDrawDensity;
+    }
+
+    /**
+     * Sets the number of visible entries from which on the DataSet is drawn as a density map.
+     * Default: 10000
+     *
+     * @param threshold
+     */
+    public void setDensityThreshold(int threshold) {
+        mDensityThreshold = threshold;
+    }
+
+    @Override
+    public int getDensityThreshold() {
+        return mDensityThreshold;
+    }
+
+    /**
+     * Sets the size of a cell of the density map in dp. Default: 2dp
+     *
+     * @param size
+     */
+    public void setDensityCellSize(float size) {
+        mDensityCellSize = Math.max(1f, size);
+    }
+
+    @Override
+    public float getDensityCellSize() {
+        return mDensityCellSize;
+    }
+
+    /**
+     * Sets the colors of the density map, from a single entry to the maximum count per cell,
+     * the counts are mapped on a logarithmic scale. Set to null to fade in the color of the
+     * DataSet. Default: null
+     *
+     * @param colors
+     */
+    public void setDensityColors(int... colors) {
+        mDensityColors = colors == null || colors.length == 0 ? null : colors;
+    }
+
+    @Override
+    public int[] getDensityColors() {
+        return mDensityColors;
+    }
 }
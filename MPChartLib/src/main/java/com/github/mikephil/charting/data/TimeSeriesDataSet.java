@@ -0,0 +1,103 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.data.storage.DeltaTimestampColumn;
+import com.github.mikephil.charting.data.storage.FloatColumn;
+import com.github.mikephil.charting.highlight.Highlight;
+
+/**
+ * ColumnarLineDataSet with timestamps as x-values. The timestamps are stored as deltas to a
+ * long base (see DeltaTimestampColumn), the x-values used by the chart are these deltas as float.
+ * Use getTimestamp(...) / getTimestampForX(...) to get the full precision timestamp back, e.g.
+ * in formatters or selection callbacks, instead of adding an offset to the x-value by hand.
+ */
+public class TimeSeriesDataSet extends ColumnarLineDataSet {
+
+    /**
+     * @param timestamps the timestamps, sorted ascending
+     * @param resolution the number of timestamp units one x-value unit represents (e.g. 1000 for
+     *                   seconds if the timestamps are in milliseconds)
+     * @param yVals      the y-values
+     * @param label
+     */
+    public TimeSeriesDataSet(long[] timestamps, long resolution, float[] yVals, String label) {
+        this(timestamps, resolution, yVals, YEncoding.FLOAT, label);
+    }
+
+    /**
+     * @param timestamps the timestamps, sorted ascending
+     * @param resolution the number of timestamp units one x-value unit represents (e.g. 1000 for
+     *                   seconds if the timestamps are in milliseconds)
+     * @param yVals      the y-values
+     * @param encoding   how the y-values are stored
+     * @param label
+     */
+    public TimeSeriesDataSet(long[] timestamps, long resolution, float[] yVals, YEncoding encoding, String label) {
+        this(new DeltaTimestampColumn(timestamps, resolution), createColumn(yVals, encoding), label);
+    }
+
+    public TimeSeriesDataSet(DeltaTimestampColumn xColumn, FloatColumn yColumn, String label) {
+        super(xColumn, yColumn, label);
+    }
+
+    public DeltaTimestampColumn getTimestampColumn() {
+        return (DeltaTimestampColumn) getXColumn();
+    }
+
+    /**
+     * Returns the full precision timestamp of the entry at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public long getTimestamp(int index) {
+        return getTimestampColumn().getTimestamp(index);
+    }
+
+    /**
+     * Converts an x-value of this DataSet (e.g. Entry.getX() or an axis value) to a timestamp.
+     *
+     * @param x
+     * @return
+     */
+    public long getTimestampForX(float x) {
+        return getTimestampColumn().toTimestamp(x);
+    }
+
+    /**
+     * Returns the timestamp of the given highlight.
+     *
+     * @param h
+     * @return
+     */
+    public long getTimestamp(Highlight h) {
+        return getTimestampForX(h.getX());
+    }
+
+    /**
+     * Converts a timestamp to an x-value of this DataSet, e.g. for moveViewToX(...) or
+     * setAxisMinimum(...).
+     *
+     * @param timestamp
+     * @return
+     */
+    public float getXForTimestamp(long timestamp) {
+        return getTimestampColumn().toX(timestamp);
+    }
+
+    /**
+     * Returns the index of the entry closest to the given timestamp.
+     *
+     * @param timestamp
+     * @return
+     */
+    public int getEntryIndexForTimestamp(long timestamp) {
+        return getEntryIndex(getXForTimestamp(timestamp), Float.NaN, Rounding.CLOSEST);
+    }
+
+    @Override
+    public DataSet<Entry> copy() {
+        TimeSeriesDataSet copied = new TimeSeriesDataSet(getTimestampColumn().copy(), getYColumn().copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.Entry;
+
+/**
+ * One fixed-size page of samples loaded from an IDataPageProvider. The samples are stored as
+ * primitive arrays, Entry objects are only created when they are requested.
+ */
+public class DataPage {
+
+    /**
+     * estimated number of bytes one sample occupies, including the lazily created Entry
+     */
+    public static final int BYTES_PER_SAMPLE = 48;
+
+    /**
+     * index of this page
+     */
+    public final int index;
+
+    /**
+     * index of the first sample of this page in the whole data
+     */
+    public final int start;
+
+    /**
+     * number of samples in this page
+     */
+    public final int count;
+
+    public final float[] xVals;
+    public final float[] yVals;
+
+    private final Entry[] mEntries;
+
+    private final Summary mSummary;
+
+    public DataPage(int index, int start, int count, float[] xVals, float[] yVals) {
+        this.index = index;
+        this.start = start;
+        this.count = count;
+        this.xVals = xVals;
+        this.yVals = yVals;
+        this.mEntries = new Entry[count];
+        this.mSummary = new Summary(this);
+    }
+
+    /**
+     * Returns the Entry at the given index (relative to the whole data, not to this page).
+     *
+     * @param index
+     * @return
+     */
+    public Entry getEntry(int index) {
+
+        int i = index - start;
+        Entry e = mEntries[i];
+
+        if (e == null) {
+            e = new Entry(xVals[i], yVals[i]);
+            mEntries[i] = e;
+        }
+
+        return e;
+    }
+
+    /**
+     * Returns the coarse summary of this page.
+     *
+     * @return
+     */
+    public Summary getSummary() {
+        return mSummary;
+    }
+
+    /**
+     * Returns the estimated memory footprint of this page in bytes.
+     *
+     * @return
+     */
+    public long getByteSize() {
+        return (long) count * BYTES_PER_SAMPLE;
+    }
+
+    /**
+     * Coarse description of a page that is kept after the page itself has been evicted from the
+     * cache. Used to draw an approximation while the page is reloaded.
+     */
+    public static class Summary {
+
+        public final int start;
+        public final int count;
+
+        public final float xFirst;
+        public final float xLast;
+
+        public final float yMin;
+        public final float yMax;
+        public final float yMean;
+
+        Summary(DataPage page) {
+
+            start = page.start;
+            count = page.count;
+
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+            double sum = 0;
+
+            for (int i = 0; i < page.count; i++) {
+                float y = page.yVals[i];
+                if (y < min)
+                    min = y;
+                if (y > max)
+                    max = y;
+                sum += y;
+            }
+
+            xFirst = page.count > 0 ? page.xVals[0] : 0f;
+            xLast = page.count > 0 ? page.xVals[page.count - 1] : 0f;
+            yMin = min;
+            yMax = max;
+            yMean = page.count > 0 ? (float) (sum / page.count) : 0f;
+        }
+
+        /**
+         * Returns an approximated Entry for the given index (relative to the whole data) that
+         * lies on a straight line through this page at its mean y-value.
+         *
+         * @param index
+         * @return
+         */
+        public Entry approximate(int index) {
+            return new Entry(approximateX(index), yMean);
+        }
+
+        /**
+         * Returns the x-value of the sample at the given index (relative to the whole data),
+         * interpolated between the first and last x-value of this page. The first and last
+         * x-values are exact.
+         *
+         * @param index
+         * @return
+         */
+        public float approximateX(int index) {
+
+            if (index <= start)
+                return xFirst;
+
+            if (index >= start + count - 1)
+                return xLast;
+
+            return xFirst + (xLast - xFirst) * (index - start) / (float) (count - 1);
+        }
+    }
+}
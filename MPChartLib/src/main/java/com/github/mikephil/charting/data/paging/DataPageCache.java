@@ -0,0 +1,447 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Least-recently-used cache of DataPages loaded from an IDataPageProvider. The cache is bounded by
+ * a memory budget in bytes, pages that exceed the budget are evicted oldest first. A coarse
+ * Summary of every page that has ever been loaded is retained after eviction.
+ * Pages can be loaded synchronously with getPage(...) or asynchronously on a background executor
+ * with requestPage(...). Pages that finish loading after clear() has been called are dropped.
+ */
+public class DataPageCache {
+
+    /**
+     * default memory budget of the cache, 8 MB
+     */
+    public static final long DEFAULT_MAX_BYTES = 8L * 1024L * 1024L;
+
+    private static ExecutorService sDefaultExecutor;
+
+    private final IDataPageProvider mProvider;
+
+    private final int mPageSize;
+
+    private long mMaxBytes;
+
+    private long mBytes = 0;
+
+    private final LinkedHashMap<Integer, DataPage> mPages = new LinkedHashMap<>(16, 0.75f, true);
+
+    private DataPage.Summary[] mSummaries;
+
+    private final Set<Integer> mPending = new HashSet<>();
+
+    /**
+     * incremented by clear(), pages loaded for an older generation are dropped
+     */
+    private int mGeneration = 0;
+
+    /**
+     * incremented every time pages are added or removed
+     */
+    private volatile long mChangeCount = 0;
+
+    private Executor mExecutor;
+
+    private OnDataPageLoadedListener mListener;
+
+    /**
+     * @param provider the provider the pages are loaded from
+     * @param pageSize number of samples per page
+     * @param maxBytes the memory budget of the cache in bytes
+     */
+    public DataPageCache(IDataPageProvider provider, int pageSize, long maxBytes) {
+
+        if (pageSize < 1)
+            throw new IllegalArgumentException("pageSize must be > 0");
+
+        mProvider = provider;
+        mPageSize = pageSize;
+        mMaxBytes = maxBytes;
+        mSummaries = new DataPage.Summary[computePageCount()];
+    }
+
+    private int computePageCount() {
+        return (mProvider.getSampleCount() + mPageSize - 1) / mPageSize;
+    }
+
+    public IDataPageProvider getProvider() {
+        return mProvider;
+    }
+
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    /**
+     * Returns the total number of pages of the provider.
+     *
+     * @return
+     */
+    public int getPageCount() {
+        return computePageCount();
+    }
+
+    /**
+     * Returns the index of the page that contains the sample at the given index.
+     *
+     * @param sampleIndex
+     * @return
+     */
+    public int getPageIndex(int sampleIndex) {
+        return sampleIndex / mPageSize;
+    }
+
+    /**
+     * Returns the page with the given index, loads it synchronously on the calling thread if it
+     * is not in the cache.
+     *
+     * @param pageIndex
+     * @return
+     */
+    public DataPage getPage(int pageIndex) {
+
+        DataPage page = getResidentPage(pageIndex);
+
+        if (page == null) {
+            int generation = getGeneration();
+            page = loadPage(pageIndex);
+            put(page, generation);
+        }
+
+        return page;
+    }
+
+    private synchronized int getGeneration() {
+        return mGeneration;
+    }
+
+    /**
+     * Returns the page with the given index if it is in the cache, null if not.
+     *
+     * @param pageIndex
+     * @return
+     */
+    public synchronized DataPage getResidentPage(int pageIndex) {
+        return mPages.get(pageIndex);
+    }
+
+    /**
+     * Returns the summary of the page with the given index, or null if the page has never been
+     * loaded.
+     *
+     * @param pageIndex
+     * @return
+     */
+    public synchronized DataPage.Summary getSummary(int pageIndex) {
+
+        if (pageIndex < 0 || pageIndex >= mSummaries.length)
+            return null;
+
+        return mSummaries[pageIndex];
+    }
+
+    /**
+     * Schedules the page with the given index to be loaded on the background executor if it is
+     * neither in the cache nor already being loaded.
+     *
+     * @param pageIndex
+     */
+    public void requestPage(final int pageIndex) {
+
+        if (pageIndex < 0 || pageIndex >= getPageCount())
+            return;
+
+        final int generation;
+
+        synchronized (this) {
+            if (mPages.containsKey(pageIndex) || !mPending.add(pageIndex))
+                return;
+
+            generation = mGeneration;
+        }
+
+        getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+
+                DataPage page = null;
+
+                try {
+                    page = loadPage(pageIndex);
+                } finally {
+                    synchronized (DataPageCache.this) {
+                        if (generation == mGeneration)
+                            mPending.remove(pageIndex);
+                    }
+                }
+
+                if (!put(page, generation))
+                    return;
+
+                OnDataPageLoadedListener l = mListener;
+
+                if (l != null)
+                    l.onDataPageLoaded(pageIndex);
+            }
+        });
+    }
+
+    /**
+     * Returns true if the page with the given index is currently being loaded in the background.
+     *
+     * @param pageIndex
+     * @return
+     */
+    public synchronized boolean isPending(int pageIndex) {
+        return mPending.contains(pageIndex);
+    }
+
+    /**
+     * Returns the x-value of the sample at the given index without loading any page: exact if the
+     * page is in the cache or the sample is the first or last one of a page with a summary,
+     * interpolated from the summary of the page or from the x-range of the provider otherwise.
+     *
+     * @param sampleIndex
+     * @return
+     */
+    public synchronized float getX(int sampleIndex) {
+
+        int pageIndex = getPageIndex(sampleIndex);
+        DataPage page = mPages.get(pageIndex);
+
+        if (page != null)
+            return page.xVals[sampleIndex - page.start];
+
+        DataPage.Summary summary = getSummary(pageIndex);
+
+        if (summary != null)
+            return summary.approximateX(sampleIndex);
+
+        int count = mProvider.getSampleCount();
+
+        if (count < 2)
+            return mProvider.getXMin();
+
+        return mProvider.getXMin() + (mProvider.getXMax() - mProvider.getXMin()) * sampleIndex / (float) (count - 1);
+    }
+
+    /**
+     * Returns the sample at the given index without loading any page: the exact Entry if the page
+     * is in the cache, an approximation otherwise (see DataPage.Summary.approximate(...)). Pages
+     * that have never been loaded are approximated at the middle of the y-range of the provider.
+     *
+     * @param sampleIndex
+     * @return
+     */
+    public synchronized Entry getEntryOrApproximation(int sampleIndex) {
+
+        int pageIndex = getPageIndex(sampleIndex);
+        DataPage page = mPages.get(pageIndex);
+
+        if (page != null)
+            return page.getEntry(sampleIndex);
+
+        DataPage.Summary summary = getSummary(pageIndex);
+
+        if (summary != null)
+            return summary.approximate(sampleIndex);
+
+        return new Entry(getX(sampleIndex), (mProvider.getYMin() + mProvider.getYMax()) / 2f);
+    }
+
+    /**
+     * Returns the index of the first page whose last x-value is not below the given x-value, or
+     * the last page. Only the pages in the cache and the summaries are searched, no page is
+     * loaded.
+     *
+     * @param xValue
+     * @return
+     */
+    public synchronized int findPage(float xValue) {
+
+        int low = 0;
+        int high = computePageCount() - 1;
+
+        while (low < high) {
+
+            int mid = (low + high) >>> 1;
+            int last = Math.min((mid + 1) * mPageSize, mProvider.getSampleCount()) - 1;
+
+            if (getX(last) < xValue)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+
+        return Math.max(0, low);
+    }
+
+    private DataPage loadPage(int pageIndex) {
+
+        int start = pageIndex * mPageSize;
+        // the data may have shrunk since the page has been requested, put(...) drops it then
+        int count = Math.max(0, Math.min(mPageSize, mProvider.getSampleCount() - start));
+
+        float[] xVals = new float[count];
+        float[] yVals = new float[count];
+
+        mProvider.loadPage(start, count, xVals, yVals);
+
+        return new DataPage(pageIndex, start, count, xVals, yVals);
+    }
+
+    /**
+     * Adds the given page to the cache. Returns false if the page has been dropped because it
+     * was loaded for an older generation or lies beyond the current data.
+     *
+     * @param page
+     * @param generation
+     * @return
+     */
+    private synchronized boolean put(DataPage page, int generation) {
+
+        if (generation != mGeneration || page.index >= computePageCount())
+            return false;
+
+        DataPage old = mPages.put(page.index, page);
+
+        if (old != null)
+            mBytes -= old.getByteSize();
+
+        mBytes += page.getByteSize();
+
+        if (page.index >= mSummaries.length) {
+            DataPage.Summary[] summaries = new DataPage.Summary[computePageCount()];
+            System.arraycopy(mSummaries, 0, summaries, 0, mSummaries.length);
+            mSummaries = summaries;
+        }
+
+        mSummaries[page.index] = page.getSummary();
+        mChangeCount++;
+
+        trimToBudget();
+        return true;
+    }
+
+    private void trimToBudget() {
+
+        Iterator<Map.Entry<Integer, DataPage>> it = mPages.entrySet().iterator();
+
+        // always keep the most recently used page
+        while (mBytes > mMaxBytes && mPages.size() > 1 && it.hasNext()) {
+            DataPage eldest = it.next().getValue();
+            it.remove();
+            mBytes -= eldest.getByteSize();
+            mChangeCount++;
+        }
+    }
+
+    /**
+     * Sets the memory budget of the cache in bytes. Evicts pages if necessary.
+     *
+     * @param maxBytes
+     */
+    public synchronized void setMaxBytes(long maxBytes) {
+        mMaxBytes = maxBytes;
+        trimToBudget();
+    }
+
+    public synchronized long getMaxBytes() {
+        return mMaxBytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes the pages in the cache currently occupy.
+     *
+     * @return
+     */
+    public synchronized long getByteSize() {
+        return mBytes;
+    }
+
+    /**
+     * Returns the number of pages currently held by the cache.
+     *
+     * @return
+     */
+    public synchronized int getResidentPageCount() {
+        return mPages.size();
+    }
+
+    /**
+     * Removes all pages and summaries from the cache, e.g. after the underlying data has changed.
+     * Pages that are still being loaded are dropped when they are done.
+     */
+    public synchronized void clear() {
+        mPages.clear();
+        mPending.clear();
+        mBytes = 0;
+        mSummaries = new DataPage.Summary[computePageCount()];
+        mGeneration++;
+        mChangeCount++;
+    }
+
+    /**
+     * Returns a number that changes every time a page is loaded into or removed from the cache,
+     * i.e. every time the values returned for the samples may have changed.
+     *
+     * @return
+     */
+    public long getChangeCount() {
+        return mChangeCount;
+    }
+
+    /**
+     * Sets the executor pages requested via requestPage(...) are loaded on. By default, a single
+     * shared background thread is used.
+     *
+     * @param executor
+     */
+    public void setExecutor(Executor executor) {
+        mExecutor = executor;
+    }
+
+    /**
+     * Sets a listener that is called (from the loading thread) whenever a requested page has
+     * been loaded.
+     *
+     * @param l
+     */
+    public void setOnDataPageLoadedListener(OnDataPageLoadedListener l) {
+        mListener = l;
+    }
+
+    private Executor getExecutor() {
+
+        if (mExecutor != null)
+            return mExecutor;
+
+        synchronized (DataPageCache.class) {
+
+            if (sDefaultExecutor == null) {
+                sDefaultExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "MPAndroidChart-PageLoader");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+            }
+
+            return sDefaultExecutor;
+        }
+    }
+}
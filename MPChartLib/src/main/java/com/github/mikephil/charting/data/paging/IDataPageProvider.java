@@ -0,0 +1,56 @@
+package com.github.mikephil.charting.data.paging;
+
+/**
+ * Interface that allows a PagedLineDataSet to load its samples on demand in fixed-size pages
+ * instead of holding all of them in memory. Implementations may read from a database, a file or
+ * the network. Pages can be requested from a background thread, so implementations must be
+ * thread-safe.
+ */
+public interface IDataPageProvider {
+
+    /**
+     * Returns the total number of samples this provider can deliver.
+     *
+     * @return
+     */
+    int getSampleCount();
+
+    /**
+     * Loads the samples in the range [from, from + count) into the provided arrays. The x-values
+     * must be sorted in ascending order across all pages.
+     *
+     * @param from  index of the first sample to load
+     * @param count number of samples to load
+     * @param xVals array the x-values are written to (starting at index 0)
+     * @param yVals array the y-values are written to (starting at index 0)
+     */
+    void loadPage(int from, int count, float[] xVals, float[] yVals);
+
+    /**
+     * Returns the smallest x-value of all samples.
+     *
+     * @return
+     */
+    float getXMin();
+
+    /**
+     * Returns the largest x-value of all samples.
+     *
+     * @return
+     */
+    float getXMax();
+
+    /**
+     * Returns the smallest y-value of all samples.
+     *
+     * @return
+     */
+    float getYMin();
+
+    /**
+     * Returns the largest y-value of all samples.
+     *
+     * @return
+     */
+    float getYMax();
+}
@@ -0,0 +1,87 @@
+package com.github.mikephil.charting.data.paging;
+
+/**
+ * Simple IDataPageProvider that serves pages from primitive arrays held in memory. Mostly useful
+ * for testing and for data that is already resident in a compact form.
+ */
+public class InMemoryDataPageProvider implements IDataPageProvider {
+
+    private final float[] mXVals;
+    private final float[] mYVals;
+
+    private float mXMin = Float.MAX_VALUE;
+    private float mXMax = -Float.MAX_VALUE;
+    private float mYMin = Float.MAX_VALUE;
+    private float mYMax = -Float.MAX_VALUE;
+
+    /**
+     * number of pages that have been loaded from this provider
+     */
+    private volatile int mLoadCount = 0;
+
+    /**
+     * @param xVals the x-values, sorted in ascending order
+     * @param yVals the y-values, same length as xVals
+     */
+    public InMemoryDataPageProvider(float[] xVals, float[] yVals) {
+
+        if (xVals.length != yVals.length)
+            throw new IllegalArgumentException("xVals and yVals must have the same length");
+
+        mXVals = xVals;
+        mYVals = yVals;
+
+        for (int i = 0; i < xVals.length; i++) {
+
+            if (xVals[i] < mXMin)
+                mXMin = xVals[i];
+            if (xVals[i] > mXMax)
+                mXMax = xVals[i];
+            if (yVals[i] < mYMin)
+                mYMin = yVals[i];
+            if (yVals[i] > mYMax)
+                mYMax = yVals[i];
+        }
+    }
+
+    @Override
+    public int getSampleCount() {
+        return mXVals.length;
+    }
+
+    @Override
+    public void loadPage(int from, int count, float[] xVals, float[] yVals) {
+        System.arraycopy(mXVals, from, xVals, 0, count);
+        System.arraycopy(mYVals, from, yVals, 0, count);
+        mLoadCount++;
+    }
+
+    @Override
+    public float getXMin() {
+        return mXMin;
+    }
+
+    @Override
+    public float getXMax() {
+        return mXMax;
+    }
+
+    @Override
+    public float getYMin() {
+        return mYMin;
+    }
+
+    @Override
+    public float getYMax() {
+        return mYMax;
+    }
+
+    /**
+     * Returns the number of pages that have been loaded from this provider so far.
+     *
+     * @return
+     */
+    public int getLoadCount() {
+        return mLoadCount;
+    }
+}
@@ -0,0 +1,15 @@
+package com.github.mikephil.charting.data.paging;
+
+/**
+ * Listener that is notified when a page of a PagedLineDataSet has been loaded in the background.
+ * This is NOT called on the UI thread, use chart.postInvalidate() to redraw the chart.
+ */
+public interface OnDataPageLoadedListener {
+
+    /**
+     * Called after the page with the given index has been loaded into the cache.
+     *
+     * @param pageIndex
+     */
+    void onDataPageLoaded(int pageIndex);
+}
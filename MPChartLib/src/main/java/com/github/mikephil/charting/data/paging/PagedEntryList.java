@@ -0,0 +1,47 @@
+package com.github.mikephil.charting.data.paging;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only List view of the samples of an IDataPageProvider. Every access resolves the page that
+ * contains the requested index through a DataPageCache. Accessing the list never loads a page on
+ * the calling thread (which usually is the UI thread drawing the chart): if the page is not in the
+ * cache, it is requested in the background and an approximated Entry is returned until it is
+ * loaded. Use DataPageCache.getPage(...) for exact values.
+ */
+public class PagedEntryList extends AbstractList<Entry> implements RandomAccess {
+
+    private final DataPageCache mCache;
+
+    public PagedEntryList(DataPageCache cache) {
+        mCache = cache;
+    }
+
+    public DataPageCache getPageCache() {
+        return mCache;
+    }
+
+    @Override
+    public Entry get(int index) {
+
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException("index: " + index + ", size: " + size());
+
+        int pageIndex = mCache.getPageIndex(index);
+        DataPage page = mCache.getResidentPage(pageIndex);
+
+        if (page != null)
+            return page.getEntry(index);
+
+        mCache.requestPage(pageIndex);
+        return mCache.getEntryOrApproximation(index);
+    }
+
+    @Override
+    public int size() {
+        return mCache.getProvider().getSampleCount();
+    }
+}
@@ -0,0 +1,318 @@
+package com.github.mikephil.charting.data.storage;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * List that stores its elements in a sequence of fixed-capacity chunks instead of one array.
+ * Inserting or removing in the middle only shifts the elements of one chunk, which makes
+ * DataSet.addEntryOrdered(...) cheap for large DataSets with late arriving entries. Index access
+ * is a binary search over the chunk offsets, O(log(n / chunkSize)), and iteration walks the
+ * chunks and is O(1) per element.
+ * <p>
+ * An insert or remove in the middle is O(chunkSize + n / chunkSize), not O(log n): besides
+ * shifting the elements of its chunk, it rewrites the offsets of all following chunks and, when a
+ * chunk is split or dropped, shifts the chunk references behind it. For the default chunk size
+ * both are plain array copies of about a thousand slots for a million entries, compared to the
+ * million references an ArrayList shifts. The offsets are updated eagerly, so reading does not
+ * change any state and may happen from several threads at once.
+ *
+ * @param <T>
+ */
+public class ChunkedEntryList<T> extends AbstractList<T> implements RandomAccess {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final class Chunk {
+
+        final Object[] items;
+        int size;
+
+        Chunk(int capacity) {
+            items = new Object[capacity];
+        }
+    }
+
+    private final int mChunkSize;
+
+    private final ArrayList<Chunk> mChunks = new ArrayList<>();
+
+    /**
+     * index of the first element of each chunk
+     */
+    private int[] mOffsets = new int[16];
+
+    private int mSize = 0;
+
+    public ChunkedEntryList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param chunkSize the maximum number of elements per chunk
+     */
+    public ChunkedEntryList(int chunkSize) {
+
+        if (chunkSize < 2)
+            throw new IllegalArgumentException("chunkSize must be >= 2");
+
+        mChunkSize = chunkSize;
+    }
+
+    public ChunkedEntryList(Collection<? extends T> values) {
+        this(DEFAULT_CHUNK_SIZE);
+        addAll(values);
+    }
+
+    public int getChunkCount() {
+        return mChunks.size();
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T get(int index) {
+        checkIndex(index, mSize);
+
+        int chunk = findChunk(index);
+        return (T) mChunks.get(chunk).items[index - mOffsets[chunk]];
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T set(int index, T element) {
+        checkIndex(index, mSize);
+
+        int chunk = findChunk(index);
+        Object[] items = mChunks.get(chunk).items;
+        int local = index - mOffsets[chunk];
+
+        T old = (T) items[local];
+        items[local] = element;
+        return old;
+    }
+
+    @Override
+    public boolean add(T element) {
+
+        Chunk last = mChunks.isEmpty() ? null : mChunks.get(mChunks.size() - 1);
+
+        if (last == null || last.size == mChunkSize) {
+            last = new Chunk(mChunkSize);
+            mChunks.add(last);
+            ensureOffsetCapacity();
+            mOffsets[mChunks.size() - 1] = mSize;
+        }
+
+        last.items[last.size++] = element;
+        mSize++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, mSize + 1);
+
+        if (index == mSize) {
+            add(element);
+            return;
+        }
+
+        int chunkIndex = findChunk(index);
+        Chunk chunk = mChunks.get(chunkIndex);
+        int local = index - mOffsets[chunkIndex];
+        int firstChanged = chunkIndex + 1;
+
+        if (chunk.size == mChunkSize) {
+
+            // split the full chunk in half
+            Chunk next = new Chunk(mChunkSize);
+            int half = mChunkSize / 2;
+
+            System.arraycopy(chunk.items, half, next.items, 0, chunk.size - half);
+            Arrays.fill(chunk.items, half, chunk.size, null);
+            next.size = chunk.size - half;
+            chunk.size = half;
+
+            mChunks.add(chunkIndex + 1, next);
+
+            if (local > half) {
+                local -= half;
+                chunk = next;
+                chunkIndex++;
+            }
+        }
+
+        System.arraycopy(chunk.items, local, chunk.items, local + 1, chunk.size - local);
+        chunk.items[local] = element;
+        chunk.size++;
+
+        mSize++;
+        modCount++;
+        updateOffsets(firstChanged);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T remove(int index) {
+        checkIndex(index, mSize);
+
+        int chunkIndex = findChunk(index);
+        Chunk chunk = mChunks.get(chunkIndex);
+        int local = index - mOffsets[chunkIndex];
+
+        T old = (T) chunk.items[local];
+
+        System.arraycopy(chunk.items, local + 1, chunk.items, local, chunk.size - local - 1);
+        chunk.items[--chunk.size] = null;
+
+        if (chunk.size == 0) {
+            mChunks.remove(chunkIndex);
+            updateOffsets(chunkIndex);
+        } else {
+            updateOffsets(chunkIndex + 1);
+        }
+
+        mSize--;
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        mChunks.clear();
+        mSize = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkIterator();
+    }
+
+    private void ensureOffsetCapacity() {
+
+        int count = mChunks.size();
+
+        if (mOffsets.length < count)
+            mOffsets = Arrays.copyOf(mOffsets, Math.max(count, mOffsets.length * 2));
+    }
+
+    /**
+     * Recalculates the offsets of the chunks starting at the given one, O(n / chunkSize) for a
+     * modification at the start of the list. Inserts near the end of the list only update the
+     * last few chunks.
+     *
+     * @param chunkIndex
+     */
+    private void updateOffsets(int chunkIndex) {
+
+        ensureOffsetCapacity();
+
+        int count = mChunks.size();
+        int offset = chunkIndex == 0 ? 0
+                : mOffsets[chunkIndex - 1] + mChunks.get(chunkIndex - 1).size;
+
+        for (int i = chunkIndex; i < count; i++) {
+            mOffsets[i] = offset;
+            offset += mChunks.get(i).size;
+        }
+    }
+
+    /**
+     * Returns the index of the chunk that contains the element at the given index.
+     */
+    private int findChunk(int index) {
+
+        int low = 0;
+        int high = mChunks.size() - 1;
+
+        while (low < high) {
+
+            int mid = (low + high + 1) >>> 1;
+
+            if (mOffsets[mid] <= index)
+                low = mid;
+            else
+                high = mid - 1;
+        }
+
+        return low;
+    }
+
+    /**
+     * Iterator that keeps its position in the chunks, so that iterating does not search the
+     * chunk of every element.
+     */
+    private class ChunkIterator implements Iterator<T> {
+
+        private int mCursor = 0;
+        private int mChunk = 0;
+        private int mLocal = 0;
+        private int mLastReturned = -1;
+        private int mExpectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return mCursor < mSize;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T next() {
+
+            if (modCount != mExpectedModCount)
+                throw new ConcurrentModificationException();
+
+            if (mCursor >= mSize)
+                throw new NoSuchElementException();
+
+            Chunk chunk = mChunks.get(mChunk);
+
+            if (mLocal == chunk.size) {
+                chunk = mChunks.get(++mChunk);
+                mLocal = 0;
+            }
+
+            mLastReturned = mCursor++;
+            return (T) chunk.items[mLocal++];
+        }
+
+        @Override
+        public void remove() {
+
+            if (mLastReturned < 0)
+                throw new IllegalStateException();
+
+            if (modCount != mExpectedModCount)
+                throw new ConcurrentModificationException();
+
+            ChunkedEntryList.this.remove(mLastReturned);
+
+            mCursor = mLastReturned;
+            mLastReturned = -1;
+            mExpectedModCount = modCount;
+
+            if (mCursor < mSize) {
+                mChunk = findChunk(mCursor);
+                mLocal = mCursor - mOffsets[mChunk];
+            }
+        }
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
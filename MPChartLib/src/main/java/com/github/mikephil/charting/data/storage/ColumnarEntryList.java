@@ -0,0 +1,43 @@
+package com.github.mikephil.charting.data.storage;
+
+import com.github.mikephil.charting.data.Entry;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read-only List view of an x- and a y-FloatColumn. Entry objects are created on every access,
+ * they are not backed by the columns.
+ */
+public class ColumnarEntryList extends AbstractList<Entry> implements RandomAccess {
+
+    private final FloatColumn mXColumn;
+    private final FloatColumn mYColumn;
+
+    public ColumnarEntryList(FloatColumn xColumn, FloatColumn yColumn) {
+
+        if (xColumn.size() != yColumn.size())
+            throw new IllegalArgumentException("x- and y-column must have the same size");
+
+        mXColumn = xColumn;
+        mYColumn = yColumn;
+    }
+
+    public FloatColumn getXColumn() {
+        return mXColumn;
+    }
+
+    public FloatColumn getYColumn() {
+        return mYColumn;
+    }
+
+    @Override
+    public Entry get(int index) {
+        return new Entry(mXColumn.get(index), mYColumn.get(index));
+    }
+
+    @Override
+    public int size() {
+        return mXColumn.size();
+    }
+}
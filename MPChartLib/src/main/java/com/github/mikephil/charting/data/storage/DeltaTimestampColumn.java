@@ -0,0 +1,146 @@
+package com.github.mikephil.charting.data.storage;
+
+/**
+ * FloatColumn for time-series x-values. Stores one long base timestamp and an int delta per
+ * value, measured in multiples of a fixed resolution (e.g. 1000 for seconds if the timestamps are
+ * in milliseconds). get(...) returns the delta as float x-value relative to the base, so the chart
+ * works with small x-values that a float can represent, while getTimestamp(...) returns the full
+ * precision timestamp.
+ */
+public class DeltaTimestampColumn extends FloatColumn {
+
+    private final long mBase;
+    private final long mResolution;
+
+    private final int[] mDeltas;
+
+    /**
+     * @param timestamps the timestamps, the first one is used as base
+     * @param resolution the number of timestamp units one x-value unit represents, timestamps
+     *                   are rounded to multiples of it
+     */
+    public DeltaTimestampColumn(long[] timestamps, long resolution) {
+        this(timestamps, timestamps.length > 0 ? timestamps[0] : 0L, resolution);
+    }
+
+    /**
+     * @param timestamps the timestamps
+     * @param base       the timestamp x-value 0 corresponds to
+     * @param resolution the number of timestamp units one x-value unit represents, timestamps
+     *                   are rounded to multiples of it
+     */
+    public DeltaTimestampColumn(long[] timestamps, long base, long resolution) {
+
+        if (resolution <= 0)
+            throw new IllegalArgumentException("resolution must be > 0");
+
+        mBase = base;
+        mResolution = resolution;
+        mDeltas = new int[timestamps.length];
+
+        for (int i = 0; i < timestamps.length; i++)
+            mDeltas[i] = toDelta(timestamps[i]);
+    }
+
+    private DeltaTimestampColumn(int[] deltas, long base, long resolution) {
+        mBase = base;
+        mResolution = resolution;
+        mDeltas = deltas;
+    }
+
+    private int toDelta(long timestamp) {
+
+        long delta = Math.round((timestamp - mBase) / (double) mResolution);
+
+        if (delta > Integer.MAX_VALUE || delta < Integer.MIN_VALUE)
+            throw new IllegalArgumentException("Timestamp " + timestamp
+                    + " is too far from the base for the resolution " + mResolution);
+
+        return (int) delta;
+    }
+
+    public long getBase() {
+        return mBase;
+    }
+
+    public long getResolution() {
+        return mResolution;
+    }
+
+    /**
+     * Returns the full precision timestamp at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public long getTimestamp(int index) {
+        return mBase + mDeltas[index] * mResolution;
+    }
+
+    /**
+     * Replaces the timestamp at the given index.
+     *
+     * @param index
+     * @param timestamp
+     */
+    public void setTimestamp(int index, long timestamp) {
+        mDeltas[index] = toDelta(timestamp);
+    }
+
+    /**
+     * Converts an x-value of this column (e.g. of an axis label or a highlight) to a timestamp.
+     *
+     * @param x
+     * @return
+     */
+    public long toTimestamp(float x) {
+        return mBase + Math.round(x * (double) mResolution);
+    }
+
+    /**
+     * Converts a timestamp to an x-value of this column.
+     *
+     * @param timestamp
+     * @return
+     */
+    public float toX(long timestamp) {
+        return (float) ((timestamp - mBase) / (double) mResolution);
+    }
+
+    @Override
+    public int size() {
+        return mDeltas.length;
+    }
+
+    @Override
+    public float get(int index) {
+        return mDeltas[index];
+    }
+
+    @Override
+    public void set(int index, float value) {
+        mDeltas[index] = Math.round(value);
+    }
+
+    @Override
+    public void get(int from, int count, float[] out, int offset) {
+        for (int i = 0; i < count; i++)
+            out[offset + i] = mDeltas[from + i];
+    }
+
+    @Override
+    public long getByteSize() {
+        return mDeltas.length * 4L + 16L;
+    }
+
+    @Override
+    public float getMaxError(float value) {
+        // deltas larger than 2^24 are not exactly representable as float
+        return Math.abs(value) > (1 << 24) ? Math.ulp(value) / 2f : 0f;
+    }
+
+    @Override
+    public DeltaTimestampColumn copy() {
+        return new DeltaTimestampColumn(mDeltas.clone(), mBase, mResolution);
+    }
+}
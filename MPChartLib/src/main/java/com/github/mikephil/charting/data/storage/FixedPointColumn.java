@@ -0,0 +1,222 @@
+package com.github.mikephil.charting.data.storage;
+
+/**
+ * FloatColumn that stores the values as 16-bit unsigned fixed-point numbers. The values are split
+ * into blocks, each block has its own offset (the minimum of the block) and scale, so a value is
+ * decoded as offset + q * scale. The absolute error of a value is at most half the scale of its
+ * block, i.e. (blockMax - blockMin) / 131068. NaN values are stored as a reserved level and do
+ * not count towards the range of their block.
+ */
+public class FixedPointColumn extends FloatColumn {
+
+    /**
+     * default number of values that share one offset and scale
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    private static final int LEVELS = 0xfffe;
+
+    /**
+     * the level reserved for NaN values
+     */
+    private static final int NAN = 0xffff;
+
+    protected final short[] mValues;
+
+    protected final float[] mOffsets;
+    protected final float[] mScales;
+
+    protected final int mBlockSize;
+
+    public FixedPointColumn(float[] values) {
+        this(values, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param values    the values to encode
+     * @param blockSize number of values that share one offset and scale
+     */
+    private FixedPointColumn(short[] values, float[] offsets, float[] scales, int blockSize) {
+        mValues = values;
+        mOffsets = offsets;
+        mScales = scales;
+        mBlockSize = blockSize;
+    }
+
+    public FixedPointColumn(float[] values, int blockSize) {
+
+        if (blockSize < 1)
+            throw new IllegalArgumentException("blockSize must be > 0");
+
+        mBlockSize = blockSize;
+        mValues = new short[values.length];
+
+        int blocks = (values.length + blockSize - 1) / blockSize;
+        mOffsets = new float[blocks];
+        mScales = new float[blocks];
+
+        for (int b = 0; b < blocks; b++)
+            encodeBlock(b, values, b * blockSize);
+    }
+
+    /**
+     * Encodes the block with the given index from the given source values.
+     *
+     * @param block
+     * @param src    source values
+     * @param srcPos index in src of the first value of the block
+     */
+    private void encodeBlock(int block, float[] src, int srcPos) {
+
+        int from = block * mBlockSize;
+        int count = Math.min(mBlockSize, mValues.length - from);
+
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        for (int i = 0; i < count; i++) {
+            float v = src[srcPos + i];
+            if (v < min)
+                min = v;
+            if (v > max)
+                max = v;
+        }
+
+        // only NaN values in the block
+        if (min > max)
+            min = max = 0f;
+
+        float scale = (max - min) / LEVELS;
+
+        mOffsets[block] = min;
+        mScales[block] = scale;
+
+        for (int i = 0; i < count; i++)
+            mValues[from + i] = quantize(src[srcPos + i], min, scale);
+    }
+
+    private static short quantize(float value, float offset, float scale) {
+
+        if (Float.isNaN(value))
+            return (short) NAN;
+
+        if (scale == 0f)
+            return 0;
+
+        int q = Math.round((value - offset) / scale);
+
+        if (q < 0)
+            q = 0;
+        else if (q > LEVELS)
+            q = LEVELS;
+
+        return (short) q;
+    }
+
+    @Override
+    public int size() {
+        return mValues.length;
+    }
+
+    @Override
+    public float get(int index) {
+
+        int q = mValues[index] & 0xffff;
+
+        if (q == NAN)
+            return Float.NaN;
+
+        int block = index / mBlockSize;
+        return mOffsets[block] + q * mScales[block];
+    }
+
+    @Override
+    public void set(int index, float value) {
+
+        int block = index / mBlockSize;
+        float offset = mOffsets[block];
+        float scale = mScales[block];
+
+        if (Float.isNaN(value) || value >= offset && value <= offset + scale * LEVELS) {
+            mValues[index] = quantize(value, offset, scale);
+            return;
+        }
+
+        // the value is out of the range of its block, re-encode the whole block
+        int from = block * mBlockSize;
+        int count = Math.min(mBlockSize, mValues.length - from);
+
+        float[] decoded = new float[count];
+        get(from, count, decoded, 0);
+        decoded[index - from] = value;
+
+        encodeBlock(block, decoded, 0);
+    }
+
+    @Override
+    public void get(int from, int count, float[] out, int offset) {
+
+        final short[] values = mValues;
+        final int blockSize = mBlockSize;
+
+        int i = from;
+        int end = from + count;
+
+        while (i < end) {
+
+            int block = i / blockSize;
+            int blockEnd = Math.min(end, (block + 1) * blockSize);
+
+            final float blockOffset = mOffsets[block];
+            final float scale = mScales[block];
+
+            for (; i < blockEnd; i++) {
+                int q = values[i] & 0xffff;
+                out[offset + i - from] = q == NAN ? Float.NaN : blockOffset + q * scale;
+            }
+        }
+    }
+
+    @Override
+    public long getByteSize() {
+        return mValues.length * 2L + mOffsets.length * 8L;
+    }
+
+    /**
+     * Returns the maximum error of the block the given value would be stored in. As the block is
+     * not known from the value alone, this returns the largest error of all blocks.
+     *
+     * @param value
+     * @return
+     */
+    @Override
+    public float getMaxError(float value) {
+
+        float max = 0f;
+
+        for (float scale : mScales)
+            max = Math.max(max, scale);
+
+        // rounding error plus float error of the decode
+        return max / 2f + Math.ulp(Math.abs(value)) * 2f;
+    }
+
+    /**
+     * Returns the maximum absolute error of the value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public float getMaxErrorAt(int index) {
+        return mScales[index / mBlockSize] / 2f + Math.ulp(Math.abs(get(index))) * 2f;
+    }
+
+    @Override
+    public FixedPointColumn copy() {
+        return new FixedPointColumn(mValues.clone(), mOffsets.clone(), mScales.clone(), mBlockSize);
+    }
+
+    public int getBlockSize() {
+        return mBlockSize;
+    }
+}
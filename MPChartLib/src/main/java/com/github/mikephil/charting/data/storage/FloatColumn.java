@@ -0,0 +1,68 @@
+package com.github.mikephil.charting.data.storage;
+
+/**
+ * Column of float values used by columnar DataSets instead of one Entry object per value.
+ * Subclasses may store the values in a compressed form, in which case get(...) decodes them on
+ * the fly.
+ */
+public abstract class FloatColumn {
+
+    /**
+     * Returns the number of values in this column.
+     *
+     * @return
+     */
+    public abstract int size();
+
+    /**
+     * Returns the (decoded) value at the given index.
+     *
+     * @param index
+     * @return
+     */
+    public abstract float get(int index);
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index
+     * @param value
+     */
+    public abstract void set(int index, float value);
+
+    /**
+     * Decodes count values starting at from into the given array.
+     *
+     * @param from   index of the first value
+     * @param count  number of values
+     * @param out    array the values are written to
+     * @param offset index in out the first value is written to
+     */
+    public void get(int from, int count, float[] out, int offset) {
+        for (int i = 0; i < count; i++)
+            out[offset + i] = get(from + i);
+    }
+
+    /**
+     * Returns the number of bytes the values of this column occupy.
+     *
+     * @return
+     */
+    public abstract long getByteSize();
+
+    /**
+     * Returns the maximum absolute difference between a value passed to set(...) and the value
+     * returned by get(...) for the given original value.
+     *
+     * @param value
+     * @return
+     */
+    public abstract float getMaxError(float value);
+
+    /**
+     * Returns a deep copy of this column that does not share its values with this one.
+     *
+     * @return
+     */
+    public abstract FloatColumn copy();
+}
@@ -0,0 +1,167 @@
+package com.github.mikephil.charting.data.storage;
+
+/**
+ * FloatColumn that stores the values as 16-bit IEEE 754 half-precision floats. Values keep about
+ * 3 significant decimal digits (relative error <= 2^-11 in the normal range) and must be within
+ * +-65504, larger values are stored as infinity.
+ */
+public class HalfFloatColumn extends FloatColumn {
+
+    /**
+     * largest finite half-float value
+     */
+    public static final float MAX_VALUE = 65504f;
+
+    /**
+     * smallest positive normal half-float value
+     */
+    public static final float MIN_NORMAL = 6.1035156e-5f;
+
+    protected final short[] mValues;
+
+    public HalfFloatColumn(int size) {
+        mValues = new short[size];
+    }
+
+    private HalfFloatColumn(short[] values) {
+        mValues = values;
+    }
+
+    public HalfFloatColumn(float[] values) {
+        this(values.length);
+
+        for (int i = 0; i < values.length; i++)
+            mValues[i] = toHalf(values[i]);
+    }
+
+    @Override
+    public int size() {
+        return mValues.length;
+    }
+
+    @Override
+    public float get(int index) {
+        return toFloat(mValues[index]);
+    }
+
+    @Override
+    public void set(int index, float value) {
+        mValues[index] = toHalf(value);
+    }
+
+    @Override
+    public void get(int from, int count, float[] out, int offset) {
+
+        final short[] values = mValues;
+
+        for (int i = 0; i < count; i++)
+            out[offset + i] = toFloat(values[from + i]);
+    }
+
+    @Override
+    public long getByteSize() {
+        return mValues.length * 2L;
+    }
+
+    @Override
+    public float getMaxError(float value) {
+
+        float abs = Math.abs(value);
+
+        if (abs > MAX_VALUE)
+            return Float.POSITIVE_INFINITY;
+
+        // subnormals have a fixed spacing of 2^-24
+        if (abs < MIN_NORMAL)
+            return 0x1p-25f;
+
+        // half of the spacing between two adjacent half-floats (10 bit mantissa)
+        return Math.ulp(abs) * (1 << 12);
+    }
+
+    @Override
+    public HalfFloatColumn copy() {
+        return new HalfFloatColumn(mValues.clone());
+    }
+
+    /**
+     * Converts a 32-bit float to a 16-bit half-float, rounding to nearest even.
+     *
+     * @param value
+     * @return
+     */
+    public static short toHalf(float value) {
+
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exp = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+
+        // NaN and infinity
+        if (exp == 0xff)
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0));
+
+        int halfExp = exp - 127 + 15;
+
+        // overflow, store as infinity
+        if (halfExp >= 0x1f)
+            return (short) (sign | 0x7c00);
+
+        if (halfExp <= 0) {
+
+            // too small even for a subnormal half-float
+            if (halfExp < -10)
+                return (short) sign;
+
+            // subnormal, add the implicit leading bit and shift into place
+            mantissa |= 0x800000;
+            int shift = 14 - halfExp;
+            int half = mantissa >> shift;
+            int rest = mantissa & ((1 << shift) - 1);
+            int halfway = 1 << (shift - 1);
+
+            if (rest > halfway || (rest == halfway && (half & 1) != 0))
+                half++;
+
+            return (short) (sign | half);
+        }
+
+        int half = (halfExp << 10) | (mantissa >> 13);
+        int rest = mantissa & 0x1fff;
+
+        // round to nearest even, a carry into the exponent is correct
+        if (rest > 0x1000 || (rest == 0x1000 && (half & 1) != 0))
+            half++;
+
+        return (short) (sign | half);
+    }
+
+    /**
+     * Converts a 16-bit half-float to a 32-bit float.
+     *
+     * @param half
+     * @return
+     */
+    public static float toFloat(short half) {
+
+        int h = half & 0xffff;
+        int sign = (h & 0x8000) << 16;
+        int exp = (h >>> 10) & 0x1f;
+        int mantissa = h & 0x3ff;
+
+        if (exp == 0) {
+
+            if (mantissa == 0)
+                return Float.intBitsToFloat(sign);
+
+            // subnormal
+            float value = mantissa * 0x1p-24f;
+            return sign != 0 ? -value : value;
+        }
+
+        if (exp == 0x1f)
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+
+        return Float.intBitsToFloat(sign | ((exp - 15 + 127) << 23) | (mantissa << 13));
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.mikephil.charting.data.storage;
+
+/**
+ * FloatColumn that stores the values uncompressed as 32-bit floats.
+ */
+public class PlainFloatColumn extends FloatColumn {
+
+    protected final float[] mValues;
+
+    /**
+     * @param values the values of the column, the array is used directly (not copied)
+     */
+    public PlainFloatColumn(float[] values) {
+        mValues = values;
+    }
+
+    @Override
+    public int size() {
+        return mValues.length;
+    }
+
+    @Override
+    public float get(int index) {
+        return mValues[index];
+    }
+
+    @Override
+    public void set(int index, float value) {
+        mValues[index] = value;
+    }
+
+    @Override
+    public void get(int from, int count, float[] out, int offset) {
+        System.arraycopy(mValues, from, out, offset, count);
+    }
+
+    @Override
+    public long getByteSize() {
+        return mValues.length * 4L;
+    }
+
+    @Override
+    public float getMaxError(float value) {
+        return 0f;
+    }
+
+    @Override
+    public PlainFloatColumn copy() {
+        return new PlainFloatColumn(mValues.clone());
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.mikephil.charting.formatter;
+
+import com.github.mikephil.charting.components.AxisBase;
+import com.github.mikephil.charting.data.storage.DeltaTimestampColumn;
+
+/**
+ * Axis formatter for charts with TimeSeriesDataSets. Converts the axis value back to the full
+ * precision timestamp and passes it to getFormattedTimestamp(...).
+ */
+public abstract class TimestampAxisValueFormatter implements IAxisValueFormatter
+{
+    private final DeltaTimestampColumn mColumn;
+
+    /**
+     * @param column the timestamp column of the DataSet, e.g. TimeSeriesDataSet.getTimestampColumn()
+     */
+    public TimestampAxisValueFormatter(DeltaTimestampColumn column) {
+        mColumn = column;
+    }
+
+    @Override
+    public String getFormattedValue(float value, AxisBase axis) {
+        return getFormattedTimestamp(mColumn.toTimestamp(value), axis);
+    }
+
+    /**
+     * Called with the timestamp of an axis value that is to be formatted.
+     *
+     * @param timestamp the timestamp the axis value corresponds to
+     * @param axis      the axis the value belongs to
+     * @return
+     */
+    public abstract String getFormattedTimestamp(long timestamp, AxisBase axis);
+}
@@ -3,10 +3,13 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
 
+import java.util.List;
+
 /**
  * Created by Philipp Jahoda on 22/07/15.
  */
@@ -29,11 +32,22 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         BarData barData = mChart.getBarData();
 
         IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
+
+        float xVal = (float) pos.x;
+
+        // bars narrower than a pixel are drawn aggregated, resolve the tapped column to an entry
+        Highlight aggregated = getAggregatedHighlight(high, set, x, y, (float) pos.y);
+
+        if (aggregated != null) {
+            high = aggregated;
+            xVal = high.getX();
+        }
+
         if (set.isStacked()) {
 
             return getStackedHighlight(high,
                     set,
-                    (float) pos.x,
+                    xVal,
                     (float) pos.y);
         }
 
@@ -42,6 +56,101 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         return high;
     }
 
+    /**
+     * buffer for the x-values at the edges of a pixel column
+     */
+    private float[] mColumnBuffer = new float[2];
+
+    /**
+     * If the bars of the given DataSet are drawn aggregated per pixel column (see
+     * BarDataProvider.isBarAggregationEnabled()), returns the Highlight for the entry that defines
+     * the extent of the tapped column in the direction of the touched value: the highest bar if
+     * yVal is positive, the lowest otherwise. Returns null if the bars are not aggregated.
+     *
+     * @param high the Highlight for the closest x-value
+     * @param set
+     * @param x    touch position in pixels
+     * @param y    touch position in pixels
+     * @param yVal touched y-value
+     * @return
+     */
+    protected Highlight getAggregatedHighlight(Highlight high, IBarDataSet set, float x, float y, float yVal) {
+
+        if (!mChart.isBarAggregationEnabled())
+            return null;
+
+        getPixelColumn(x, y, mColumnBuffer);
+
+        final float from = mColumnBuffer[0];
+        final float to = mColumnBuffer[1];
+
+        // width of a bar in pixels
+        if (to <= from || mChart.getBarData().getBarWidth() / (to - from) >= mChart.getBarAggregationThreshold())
+            return null;
+
+        BarEntry best = null;
+        float bestExtent = 0f;
+
+        for (int i = Math.max(0, set.getEntryIndex(from, Float.NaN, DataSet.Rounding.UP));
+             i < set.getEntryCount(); i++) {
+
+            BarEntry e = set.getEntryForIndex(i);
+
+            if (e.getX() >= to)
+                break;
+
+            if (e.getX() < from)
+                continue;
+
+            final float extent;
+
+            if (yVal >= 0f)
+                extent = e.getYVals() == null ? e.getY() : e.getPositiveSum();
+            else
+                extent = e.getYVals() == null ? -e.getY() : e.getNegativeSum();
+
+            if (best == null || extent > bestExtent) {
+                best = e;
+                bestExtent = extent;
+            }
+        }
+
+        if (best == null)
+            return null;
+
+        List<Highlight> highlights = buildHighlights(set, high.getDataSetIndex(), best.getX(),
+                DataSet.Rounding.CLOSEST);
+
+        for (Highlight h : highlights) {
+            if (h.getY() == best.getY())
+                return h;
+        }
+
+        return highlights.isEmpty() ? null : highlights.get(0);
+    }
+
+    /**
+     * Writes the x-values at both edges of the pixel column that contains the given touch
+     * position into out, ordered ascending.
+     *
+     * @param x
+     * @param y
+     * @param out
+     */
+    protected void getPixelColumn(float x, float y, float[] out) {
+
+        final float column = (float) Math.floor(x);
+
+        MPPointD from = getValsForTouch(column, y);
+        MPPointD to = getValsForTouch(column + 1f, y);
+
+        out[0] = (float) Math.min(from.x, to.x);
+        out[1] = (float) Math.max(from.x, to.x);
+
+        MPPointD.recycleInstance(from);
+        MPPointD.recycleInstance(to);
+    }
+
     /**
      * This method creates the Highlight object that also indicates which value of a stacked BarEntry has been
      * selected.
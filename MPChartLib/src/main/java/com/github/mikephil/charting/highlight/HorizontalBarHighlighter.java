@@ -32,11 +32,22 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 			return null;
 
 		IBarDataSet set = barData.getDataSetByIndex(high.getDataSetIndex());
+
+		float xVal = (float) pos.y;
+
+		// bars narrower than a pixel are drawn aggregated, resolve the tapped column to an entry
+		Highlight aggregated = getAggregatedHighlight(high, set, x, y, (float) pos.x);
+
+		if (aggregated != null) {
+			high = aggregated;
+			xVal = high.getX();
+		}
+
 		if (set.isStacked()) {
 
 			return getStackedHighlight(high,
 					set,
-					(float) pos.y,
+					xVal,
 					(float) pos.x);
 		}
 
@@ -78,6 +89,22 @@ public class HorizontalBarHighlighter extends BarHighlighter {
 		return highlights;
 	}
 
+	@Override
+	protected void getPixelColumn(float x, float y, float[] out) {
+
+		// the bars are laid out along the pixel-rows
+		final float row = (float) Math.floor(x);
+
+		MPPointD from = getValsForTouch(y, row);
+		MPPointD to = getValsForTouch(y, row + 1f);
+
+		out[0] = (float) Math.min(from.y, to.y);
+		out[1] = (float) Math.max(from.y, to.y);
+
+		MPPointD.recycleInstance(from);
+		MPPointD.recycleInstance(to);
+	}
+
 	@Override
 	protected float getDistance(float x1, float y1, float x2, float y2) {
 		return Math.abs(y1 - y2);
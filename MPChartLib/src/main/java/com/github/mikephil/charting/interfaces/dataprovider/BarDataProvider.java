@@ -8,4 +8,6 @@ public interface BarDataProvider extends BarLineScatterCandleBubbleDataProvider
     boolean isDrawBarShadowEnabled();
     boolean isDrawValueAboveBarEnabled();
     boolean isHighlightFullBarEnabled();
+    boolean isBarAggregationEnabled();
+    float getBarAggregationThreshold();
 }
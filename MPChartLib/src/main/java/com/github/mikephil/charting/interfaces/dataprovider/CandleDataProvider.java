@@ -5,4 +5,6 @@ import com.github.mikephil.charting.data.CandleData;
 public interface CandleDataProvider extends BarLineScatterCandleBubbleDataProvider {
 
     CandleData getCandleData();
+    boolean isCandleResamplingEnabled();
+    float getCandleResamplingThreshold();
 }
@@ -24,4 +24,33 @@ public interface IBubbleDataSet extends IBarLineScatterCandleBubbleDataSet<Bubbl
       * @return
      */
     float getHighlightCircleWidth();
+
+    /**
+     * Returns true if the DataSet is drawn as a density map once enough entries are visible.
+     *
+     * @return
+     */
+    boolean isDrawDensityEnabled();
+
+    /**
+     * Returns the number of visible entries from which on the DataSet is drawn as a density map.
+     *
+     * @return
+     */
+    int getDensityThreshold();
+
+    /**
+     * Returns the size of a cell of the density map in dp.
+     *
+     * @return
+     */
+    float getDensityCellSize();
+
+    /**
+     * Returns the colors of the density map, from a single entry to the maximum count per cell,
+     * or null to fade in the color of the DataSet.
+     *
+     * @return
+     */
+    int[] getDensityColors();
 }
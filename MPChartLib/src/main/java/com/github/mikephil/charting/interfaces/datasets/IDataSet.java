@@ -175,6 +175,8 @@ public interface IDataSet<T extends Entry> {
      * Entries are added to their appropriate index in the values array respective to their x-position.
      * This will also recalculate the current minimum and maximum
      * values of the DataSet and the value-sum.
+     * For large DataSets with many out-of-order inserts, create the DataSet with a
+     * ChunkedEntryList so the insert does not shift all following entries.
      *
      * @param e
      */
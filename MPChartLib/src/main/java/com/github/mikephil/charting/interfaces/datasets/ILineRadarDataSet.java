@@ -24,6 +24,15 @@ public interface ILineRadarDataSet<T extends Entry> extends ILineScatterCandleRa
      */
     Drawable getFillDrawable();
 
+    /**
+     * Returns the colors of the vertical gradient used for filling the line surface, from the
+     * top to the bottom of the chart, or null if the surface is filled with the fill color or
+     * drawable.
+     *
+     * @return
+     */
+    int[] getFillGradientColors();
+
     /**
      * Returns the alpha value that is used for filling the line surface,
      * default: 85
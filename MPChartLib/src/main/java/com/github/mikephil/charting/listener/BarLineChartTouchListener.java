@@ -13,6 +13,7 @@ import com.github.mikephil.charting.charts.BarLineChartBase;
 import com.github.mikephil.charting.charts.HorizontalBarChart;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PagedLineDataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
@@ -174,6 +175,11 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
 
                     performDrag(event, x, y);
 
+                    if (mChart.hasPagedDataSets()) {
+                        mVelocityTracker.computeCurrentVelocity(1000, Utils.getMaximumFlingVelocity());
+                        prefetchPages(mVelocityTracker.getXVelocity(event.getPointerId(0)));
+                    }
+
                 } else if (mTouchMode == X_ZOOM || mTouchMode == Y_ZOOM || mTouchMode == PINCH_ZOOM) {
 
                     mChart.disableScroll();
@@ -337,6 +343,33 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
             l.onChartTranslate(event, distanceX, distanceY);
     }
 
+    /**
+     * Lets all paged DataSets of the chart load the pages that are about to become visible,
+     * based on the direction and velocity of the current pan or fling. The DataSets only request
+     * pages when the visible range crosses a page boundary or the direction changes.
+     *
+     * @param velocityX the horizontal velocity in pixels per second
+     */
+    private void prefetchPages(float velocityX) {
+
+        if (!mChart.hasPagedDataSets() || mChart.getData() == null
+                || mChart instanceof HorizontalBarChart)
+            return;
+
+        float low = mChart.getLowestVisibleX();
+        float high = mChart.getHighestVisibleX();
+        float contentWidth = mChart.getViewPortHandler().contentWidth();
+
+        // moving the finger to the right reveals lower x-values
+        float velocityValues = contentWidth > 0f ? -velocityX / contentWidth * (high - low) : 0f;
+
+        for (IDataSet set : mChart.getData().getDataSets()) {
+
+            if (set instanceof PagedLineDataSet)
+                ((PagedLineDataSet) set).prefetch(low, high, velocityValues);
+        }
+    }
+
     /**
      * Performs the all operations necessary for pinch and axis zoom.
      *
@@ -678,6 +711,8 @@ public class BarLineChartTouchListener extends ChartTouchListener<BarLineChartBa
 
         performDrag(event, dragDistanceX, dragDistanceY);
 
+        prefetchPages(mDecelerationVelocity.x);
+
         event.recycle();
         mMatrix = mChart.getViewPortHandler().refresh(mMatrix, mChart, false);
 
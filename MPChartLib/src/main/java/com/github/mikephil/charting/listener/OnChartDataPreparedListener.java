@@ -0,0 +1,24 @@
+package com.github.mikephil.charting.listener;
+
+import com.github.mikephil.charting.data.ChartData;
+
+/**
+ * Listener for callbacks when ChartData that has been prepared in the background has been set
+ * to the chart. Both callbacks are called on the UI thread.
+ */
+public interface OnChartDataPreparedListener<T extends ChartData<?>> {
+
+    /**
+     * Called after the prepared data has been set to the chart.
+     *
+     * @param data
+     */
+    void onChartDataPrepared(T data);
+
+    /**
+     * Called if creating or preparing the data failed. The chart is left untouched.
+     *
+     * @param e
+     */
+    void onChartDataPreparationFailed(Exception e);
+}
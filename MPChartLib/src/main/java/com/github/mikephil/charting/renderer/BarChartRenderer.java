@@ -11,6 +11,7 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
@@ -97,6 +98,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // initialize the buffer
+        BarBuffer buffer = mBarBuffers[index];
+        buffer.setPhases(phaseX, phaseY);
+        buffer.setDataSet(index);
+        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+
+        // only the bars that are at least partially visible
+        limitToVisibleBars(buffer, dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -107,7 +118,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = buffer.getFrom(), count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()), buffer.getTo() + 1);
                 i < count;
                 i++) {
 
@@ -133,16 +144,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.getFedSize());
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -152,7 +156,16 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // position of the first bar for the colors, stacks count one per value
+        final int firstPos = buffer.getFirstBarPosition();
+
+        // bars narrower than the threshold are drawn one rect per pixel column
+        if (isAggregated(buffer, false)) {
+            drawAggregatedBars(c, dataSet, buffer, firstPos, false);
+            return;
+        }
+
+        for (int j = 0, pos = firstPos; j < buffer.getFedSize(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsLeft(buffer.buffer[j + 2]))
                 continue;
@@ -188,6 +201,175 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
         }
     }
 
+    /**
+     * Limits the given buffer to the entries of the DataSet whose bars are at least partially
+     * visible, so that only those are fed and transformed.
+     *
+     * @param buffer
+     * @param dataSet
+     */
+    protected void limitToVisibleBars(BarBuffer buffer, IBarDataSet dataSet) {
+
+        final float barWidthHalf = mChart.getBarData().getBarWidth() / 2f;
+
+        buffer.limitFrom(dataSet.getEntryIndex(mChart.getLowestVisibleX() - barWidthHalf,
+                Float.NaN, DataSet.Rounding.DOWN));
+        buffer.limitTo(dataSet.getEntryIndex(mChart.getHighestVisibleX() + barWidthHalf,
+                Float.NaN, DataSet.Rounding.UP));
+    }
+
+    /**
+     * Returns true if the bars in the given, already transformed buffer are narrower than the
+     * aggregation threshold of the chart and should be drawn aggregated per pixel column.
+     *
+     * @param buffer
+     * @param horizontal true if the bars are laid out along the y-axis
+     * @return
+     */
+    protected boolean isAggregated(BarBuffer buffer, boolean horizontal) {
+
+        if (!mChart.isBarAggregationEnabled() || buffer.getFedSize() < 4)
+            return false;
+
+        final float[] b = buffer.buffer;
+        final float width = horizontal ? Math.abs(b[3] - b[1]) : Math.abs(b[2] - b[0]);
+
+        return width < mChart.getBarAggregationThreshold();
+    }
+
+    /**
+     * extents (left, top, right, bottom) per stack-index of the pixel column being aggregated
+     */
+    private float[] mColumnExtents = new float[4];
+
+    /**
+     * color position of the first bar per stack-index of the pixel column, -1 if empty
+     */
+    private int[] mColumnPositions = new int[1];
+
+    /**
+     * Draws the bars of the given, already transformed buffer aggregated per pixel column: all
+     * bars whose center falls into the same column are drawn as one rect covering their extents,
+     * separately for every stack-index.
+     *
+     * @param c
+     * @param dataSet
+     * @param buffer
+     * @param firstPos   color position of the first bar in the buffer
+     * @param horizontal true if the bars are laid out along the y-axis
+     */
+    protected void drawAggregatedBars(Canvas c, IBarDataSet dataSet, BarBuffer buffer, int firstPos,
+                                      boolean horizontal) {
+
+        final int slots = dataSet.isStacked() ? dataSet.getStackSize() : 1;
+
+        if (mColumnPositions.length < slots) {
+            mColumnPositions = new int[slots];
+            mColumnExtents = new float[slots * 4];
+        }
+
+        for (int k = 0; k < slots; k++)
+            mColumnPositions[k] = -1;
+
+        final float[] b = buffer.buffer;
+        int column = Integer.MIN_VALUE;
+
+        for (int j = 0, pos = firstPos; j < buffer.getFedSize(); j += 4, pos++) {
+
+            if (horizontal) {
+
+                if (!mViewPortHandler.isInBoundsTop(b[j + 3]))
+                    break;
+
+                if (!mViewPortHandler.isInBoundsBottom(b[j + 1]))
+                    continue;
+
+            } else {
+
+                if (!mViewPortHandler.isInBoundsLeft(b[j + 2]))
+                    continue;
+
+                if (!mViewPortHandler.isInBoundsRight(b[j]))
+                    break;
+            }
+
+            final float center = horizontal ? (b[j + 1] + b[j + 3]) / 2f : (b[j] + b[j + 2]) / 2f;
+            final int col = (int) Math.floor(center);
+
+            if (col != column) {
+                drawAggregatedColumn(c, dataSet, slots, horizontal);
+                column = col;
+            }
+
+            final int slot = Math.min(buffer.getStackIndex(j / 4), slots - 1);
+            final int e = slot * 4;
+
+            if (mColumnPositions[slot] < 0) {
+                mColumnPositions[slot] = pos;
+                mColumnExtents[e] = Math.min(b[j], b[j + 2]);
+                mColumnExtents[e + 1] = Math.min(b[j + 1], b[j + 3]);
+                mColumnExtents[e + 2] = Math.max(b[j], b[j + 2]);
+                mColumnExtents[e + 3] = Math.max(b[j + 1], b[j + 3]);
+            } else {
+                mColumnExtents[e] = Math.min(mColumnExtents[e], Math.min(b[j], b[j + 2]));
+                mColumnExtents[e + 1] = Math.min(mColumnExtents[e + 1], Math.min(b[j + 1], b[j + 3]));
+                mColumnExtents[e + 2] = Math.max(mColumnExtents[e + 2], Math.max(b[j], b[j + 2]));
+                mColumnExtents[e + 3] = Math.max(mColumnExtents[e + 3], Math.max(b[j + 1], b[j + 3]));
+            }
+        }
+
+        drawAggregatedColumn(c, dataSet, slots, horizontal);
+    }
+
+    /**
+     * Draws and resets the aggregated rects of the current pixel column.
+     *
+     * @param c
+     * @param dataSet
+     * @param slots
+     * @param horizontal
+     */
+    private void drawAggregatedColumn(Canvas c, IBarDataSet dataSet, int slots, boolean horizontal) {
+
+        final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
+        final boolean isSingleColor = dataSet.getColors().size() == 1;
+        final boolean drawBorder = dataSet.getBarBorderWidth() > 0.f;
+        final boolean isInverted = mChart.isInverted(dataSet.getAxisDependency());
+
+        for (int slot = 0; slot < slots; slot++) {
+
+            final int pos = mColumnPositions[slot];
+
+            if (pos < 0)
+                continue;
+
+            final int e = slot * 4;
+            final float left = mColumnExtents[e];
+            final float top = mColumnExtents[e + 1];
+            final float right = mColumnExtents[e + 2];
+            final float bottom = mColumnExtents[e + 3];
+
+            if (!isSingleColor)
+                mRenderPaint.setColor(dataSet.getColor(pos));
+
+            if (isCustomFill) {
+
+                final Fill.Direction direction = horizontal
+                        ? (isInverted ? Fill.Direction.LEFT : Fill.Direction.RIGHT)
+                        : (isInverted ? Fill.Direction.DOWN : Fill.Direction.UP);
+
+                dataSet.getFill(pos).fillRect(c, mRenderPaint, left, top, right, bottom, direction);
+            } else {
+                c.drawRect(left, top, right, bottom, mRenderPaint);
+            }
+
+            if (drawBorder)
+                c.drawRect(left, top, right, bottom, mBarBorderPaint);
+
+            mColumnPositions[slot] = -1;
+        }
+    }
+
     protected void prepareBarHighlight(float x, float y1, float y2, float barWidthHalf, Transformer trans) {
 
         float left = x - barWidthHalf;
@@ -248,7 +430,9 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getFrom();
+
+                    for (int j = 0; j < buffer.getFedSize(); j += 4) {
 
                         float x = (buffer.buffer[j] + buffer.buffer[j + 2]) / 2f;
 
@@ -259,7 +443,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                 || !mViewPortHandler.isInBoundsLeft(x))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
 
                         if (dataSet.isDrawValuesEnabled()) {
@@ -267,7 +451,7 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                                     val >= 0 ?
                                             (buffer.buffer[j + 1] + posOffset) :
                                             (buffer.buffer[j + 3] + negOffset),
-                                    dataSet.getValueTextColor(j / 4));
+                                    dataSet.getValueTextColor(from + j / 4));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -298,9 +482,10 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()
+                            && bufferIndex < buffer.getFedSize()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -1,13 +1,22 @@
 package com.github.mikephil.charting.renderer;
 
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+import android.graphics.RectF;
+
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
+
 /**
  * Created by Philipp Jahoda on 09/06/16.
  */
@@ -18,10 +27,231 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
      */
     protected XBounds mXBounds = new XBounds();
 
+    /**
+     * the retained entry values of all DataSets drawn by this renderer
+     */
+    private HashMap<IDataSet, RetainedGeometry> mRetainedGeometry = new HashMap<>();
+
+    /**
+     * if true, the entry values are retained between frames
+     */
+    private boolean mRetainedGeometryEnabled = false;
+
+    /**
+     * the density grids of all DataSets drawn as density map by this renderer
+     */
+    private HashMap<IDataSet, DensityGrid> mDensityGrids = new HashMap<>();
+
+    private Paint mDensityPaint = new Paint();
+
+    private float[] mDensityBuffer = new float[4];
+
+    private RectF mDensityRect = new RectF();
+
     public BarLineScatterCandleBubbleRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
     }
 
+    /**
+     * Returns the x-value of the entry at the given index, without creating an Entry for
+     * DataSets that store their values in columns (see DataSet.getEntryX(...)).
+     *
+     * @param set
+     * @param index
+     * @return
+     */
+    protected static float getEntryX(IDataSet set, int index) {
+        return set instanceof DataSet ? ((DataSet<?>) set).getEntryX(index) : set.getEntryForIndex(index).getX();
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index, without creating an Entry for
+     * DataSets that store their values in columns (see DataSet.getEntryY(...)).
+     *
+     * @param set
+     * @param index
+     * @return
+     */
+    protected static float getEntryY(IDataSet set, int index) {
+        return set instanceof DataSet ? ((DataSet<?>) set).getEntryY(index) : set.getEntryForIndex(index).getY();
+    }
+
+    /**
+     * If enabled, the values of the drawn entries (plus a margin) are retained between frames, so
+     * that panning and zooming do not read the entries again. Entries are read again when the
+     * DataSet changes through its own methods (notifyDataSetChanged(), replaceY(...), adding or
+     * removing entries). IMPORTANT: Entries that are modified directly (e.g. with Entry.setY(...))
+     * are NOT picked up, call notifyDataSetChanged() on the DataSet after modifying them, calling
+     * invalidate() on the chart is not enough. Default: false
+     *
+     * @param enabled
+     */
+    public void setRetainedGeometryEnabled(boolean enabled) {
+        mRetainedGeometryEnabled = enabled;
+
+        if (!enabled)
+            clearRetainedGeometry();
+    }
+
+    /**
+     * Returns true if the values of the drawn entries are retained between frames.
+     *
+     * @return
+     */
+    public boolean isRetainedGeometryEnabled() {
+        return mRetainedGeometryEnabled;
+    }
+
+    /**
+     * Returns the values of the entries between min and max (inclusive) of the given DataSet.
+     * If retaining is enabled (see setRetainedGeometryEnabled(...)), entries are only read if
+     * they are not retained yet or the DataSet has changed, otherwise they are read on every call.
+     *
+     * @param set
+     * @param min
+     * @param max
+     * @return
+     */
+    protected RetainedGeometry getRetainedGeometry(IDataSet set, int min, int max) {
+
+        RetainedGeometry geometry = mRetainedGeometry.get(set);
+
+        if (geometry == null) {
+            geometry = createRetainedGeometry();
+            mRetainedGeometry.put(set, geometry);
+        }
+
+        if (mRetainedGeometryEnabled)
+            geometry.update(set, min, max);
+        else
+            geometry.reload(set, min, max);
+
+        return geometry;
+    }
+
+    /**
+     * Returns the retained values of the given DataSet as they are, or null if there are none.
+     *
+     * @param set
+     * @return
+     */
+    protected RetainedGeometry peekRetainedGeometry(IDataSet set) {
+        return mRetainedGeometry.get(set);
+    }
+
+    /**
+     * Creates the object that retains the entry values of a DataSet, override to retain more
+     * than x- and y-values.
+     *
+     * @return
+     */
+    protected RetainedGeometry createRetainedGeometry() {
+        return new RetainedGeometry();
+    }
+
+    /**
+     * Drops the retained entry values of all DataSets, called when the chart data changes.
+     */
+    protected void clearRetainedGeometry() {
+        mRetainedGeometry.clear();
+    }
+
+    /**
+     * Draws the given DataSet as a density map: the entries are counted per cell of the given
+     * size in pixels and the counts are mapped to the given colors. The counts are reused while
+     * only the pan offset changes. Returns false if the density map could not be drawn.
+     *
+     * @param c
+     * @param set
+     * @param trans
+     * @param cellSize size of a cell in pixels
+     * @param colors   colors from a single entry to the maximum count, null to fade in the color
+     *                 of the DataSet
+     * @return
+     */
+    protected boolean drawDensity(Canvas c, IDataSet set, Transformer trans, float cellSize,
+                                  int[] colors) {
+
+        final float[] visible = mDensityBuffer;
+        visible[0] = mViewPortHandler.contentLeft();
+        visible[1] = mViewPortHandler.contentTop();
+        visible[2] = mViewPortHandler.contentRight();
+        visible[3] = mViewPortHandler.contentBottom();
+
+        trans.pixelsToValue(visible);
+
+        final float xMin = Math.min(visible[0], visible[2]);
+        final float xMax = Math.max(visible[0], visible[2]);
+        final float yMin = Math.min(visible[1], visible[3]);
+        final float yMax = Math.max(visible[1], visible[3]);
+
+        // the y-axis is inverted if the top of the content has the lower value
+        final boolean flipped = visible[1] < visible[3];
+
+        final float cellWidth = cellSize * (xMax - xMin) / mViewPortHandler.contentWidth();
+        final float cellHeight = cellSize * (yMax - yMin) / mViewPortHandler.contentHeight();
+
+        if (!(cellWidth > 0f) || !(cellHeight > 0f)
+                || Float.isInfinite(cellWidth) || Float.isInfinite(cellHeight))
+            return false;
+
+        DensityGrid grid = mDensityGrids.get(set);
+
+        if (grid == null) {
+            grid = new DensityGrid();
+            mDensityGrids.put(set, grid);
+        }
+
+        // the entries are revealed from the left while animating the x-axis
+        final float phaseX = Math.max(0.f, Math.min(1.f, mAnimator.getPhaseX()));
+        final int maxIndex = (int) Math.ceil(set.getEntryCount() * phaseX) - 1;
+
+        grid.update(set, cellWidth, cellHeight, xMin, xMax, yMin, yMax, maxIndex, mAnimator.getPhaseY());
+
+        if (colors == null || colors.length == 0) {
+            final int color = set.getColor();
+            colors = new int[]{
+                    Color.argb(64, Color.red(color), Color.green(color), Color.blue(color)), color};
+        }
+
+        Bitmap bitmap = grid.getBitmap(colors, flipped);
+
+        if (bitmap == null)
+            return false;
+
+        mDensityRect.set(grid.getLeft(), grid.getTop(), grid.getRight(), grid.getBottom());
+        trans.rectValueToPixel(mDensityRect);
+
+        c.save();
+        c.clipRect(mViewPortHandler.getContentRect());
+        c.drawBitmap(bitmap, null, mDensityRect, mDensityPaint);
+        c.restore();
+
+        return true;
+    }
+
+    /**
+     * Returns the density grid of the given DataSet, or null if it has not been drawn as density
+     * map.
+     *
+     * @param set
+     * @return
+     */
+    protected DensityGrid getDensityGrid(IDataSet set) {
+        return mDensityGrids.get(set);
+    }
+
+    /**
+     * Drops the density grids of all DataSets and recycles their Bitmaps.
+     */
+    protected void clearDensityGrids() {
+
+        for (DensityGrid grid : mDensityGrids.values())
+            grid.clear();
+
+        mDensityGrids.clear();
+    }
+
     /**
      * Returns true if the DataSet values should be drawn, false if not.
      *
@@ -85,11 +315,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            int indexFrom = dataSet.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN);
+            int indexTo = dataSet.getEntryIndex(high, Float.NaN, DataSet.Rounding.UP);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = indexFrom < 0 ? 0 : indexFrom;
+            max = indexTo < 0 ? 0 : indexTo;
             range = (int) ((max - min) * phaseX);
         }
     }
@@ -9,6 +9,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.BubbleData;
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
@@ -40,7 +41,21 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
     @Override
     public void initBuffers() {
+        clearRetainedGeometry();
+        clearDensityGrids();
+    }
 
+    @Override
+    protected RetainedGeometry createRetainedGeometry() {
+
+        // x, y and the bubble size
+        return new RetainedGeometry(3) {
+            @Override
+            protected void read(Entry e, float[] values, int offset) {
+                super.read(e, values, offset);
+                values[offset + 2] = ((BubbleEntry) e).getSize();
+            }
+        };
     }
 
     @Override
@@ -76,6 +91,12 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        if (dataSet.isDrawDensityEnabled()
+                && mXBounds.range + 1 >= dataSet.getDensityThreshold()
+                && drawDensity(c, dataSet, trans, Utils.convertDpToPixel(dataSet.getDensityCellSize()),
+                dataSet.getDensityColors()))
+            return;
+
         sizeBuffer[0] = 0f;
         sizeBuffer[2] = 1f;
 
@@ -88,30 +109,45 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+        final int max = mXBounds.range + mXBounds.min;
 
-            final BubbleEntry entry = dataSet.getEntryForIndex(j);
+        RetainedGeometry geometry = getRetainedGeometry(dataSet, mXBounds.min, max);
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
-            trans.pointValuesToPixel(pointBuffer);
+        if (max < mXBounds.min)
+            return;
 
-            float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+        final int size = (max - mXBounds.min + 1) * 2;
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf)
-                    || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf))
+        if (pointBuffer.length < size)
+            pointBuffer = new float[size];
+
+        // transform the retained values of the whole visible range at once
+        geometry.getPoints(mXBounds.min, max, phaseY, pointBuffer, 0);
+        trans.pointValuesToPixel(pointBuffer, 0, size);
+
+        for (int j = mXBounds.min; j <= max; j++) {
+
+            final int k = (j - mXBounds.min) * 2;
+
+            final float x = pointBuffer[k];
+            final float y = pointBuffer[k + 1];
+
+            float shapeHalf = getShapeSize(geometry.getValue(j, 2), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+
+            if (!mViewPortHandler.isInBoundsTop(y + shapeHalf)
+                    || !mViewPortHandler.isInBoundsBottom(y - shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf))
+            if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf))
                 continue;
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf))
+            if (!mViewPortHandler.isInBoundsRight(x - shapeHalf))
                 break;
 
             final int color = dataSet.getColor(j);
 
             mRenderPaint.setColor(color);
-            c.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+            c.drawCircle(x, y, shapeHalf, mRenderPaint);
         }
     }
 
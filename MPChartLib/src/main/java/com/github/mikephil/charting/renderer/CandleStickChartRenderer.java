@@ -18,6 +18,7 @@ import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.util.HashMap;
 import java.util.List;
 
 public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
@@ -38,7 +39,7 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
 
     @Override
     public void initBuffers() {
-
+        mResamplers.clear();
     }
 
     @Override
@@ -53,202 +54,576 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
+    /**
+     * the merged candles of the DataSets drawn zoomed out
+     */
+    private HashMap<ICandleDataSet, OhlcResampler> mResamplers = new HashMap<>();
+
+    /**
+     * Returns the resampler of the given DataSet.
+     *
+     * @param set
+     * @return
+     */
+    protected OhlcResampler getResampler(ICandleDataSet set) {
+
+        OhlcResampler resampler = mResamplers.get(set);
+
+        if (resampler == null) {
+            resampler = new OhlcResampler();
+            mResamplers.put(set, resampler);
+        }
+
+        return resampler;
+    }
+
+    /**
+     * Returns the number of entries that are merged into one candle for the currently visible
+     * range of the given DataSet, 1 if the candles are drawn as they are.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected int getResamplingBucketSize(ICandleDataSet dataSet) {
+
+        if (!mChart.isCandleResamplingEnabled())
+            return 1;
+
+        final float width = mViewPortHandler.contentWidth();
+
+        if (width <= 0f)
+            return 1;
+
+        // entries per threshold pixels
+        final float entries = (mXBounds.max - mXBounds.min + 1) / width * mChart.getCandleResamplingThreshold();
+
+        return OhlcResampler.getBucketSize(entries);
+    }
+
     @SuppressWarnings("ResourceAsColor")
     protected void drawDataSet(Canvas c, ICandleDataSet dataSet) {
 
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-        float barSpace = dataSet.getBarSpace();
-        boolean showCandleBar = dataSet.getShowCandleBar();
-
         mXBounds.set(mChart, dataSet);
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
+        final int bucketSize = getResamplingBucketSize(dataSet);
+
+        if (bucketSize > 1) {
+
+            OhlcResampler resampler = getResampler(dataSet);
+
+            float[] candles = resampler.getCandles(dataSet, bucketSize);
+            resampler.setBucketSize(bucketSize);
+
+            final int last = (mXBounds.range + mXBounds.min) / bucketSize;
+
+            // draw the merged candles
+            for (int b = mXBounds.min / bucketSize; b <= last; b++) {
+
+                final int j = b * OhlcResampler.STRIDE;
+
+                if (j >= candles.length)
+                    break;
+
+                drawCandle(c, dataSet, trans, b * bucketSize,
+                        candles[j], candles[j + 1],
+                        candles[j + 2], candles[j + 3], candles[j + 4], candles[j + 5]);
+            }
+
+            return;
+        }
+
+        if (mResamplers.containsKey(dataSet))
+            getResampler(dataSet).setBucketSize(1);
+
+        // the colors do not depend on the entry, draw all candles of a direction at once
+        if (isBatchable(dataSet)) {
+            drawCandlesBatched(c, dataSet, trans);
+            return;
+        }
+
         // draw the body
         for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
 
             // get the entry
             CandleEntry e = dataSet.getEntryForIndex(j);
 
+            if (e == null)
+                continue;
+
+            drawCandle(c, dataSet, trans, j, e.getX(), e.getX(),
+                    e.getOpen(), e.getHigh(), e.getLow(), e.getClose());
+        }
+    }
+
+    /**
+     * candle directions, the candles of a direction are drawn in one batch
+     */
+    private static final int INCREASING = 0;
+    private static final int DECREASING = 1;
+    private static final int NEUTRAL = 2;
+
+    /**
+     * shadow (or range / open / close tick) lines per direction
+     */
+    private float[][] mShadowBatches = new float[][]{new float[0], new float[0], new float[0]};
+    private int[] mShadowBatchSizes = new int[3];
+
+    /**
+     * body lines per direction
+     */
+    private float[][] mBodyBatches = new float[][]{new float[0], new float[0], new float[0]};
+    private int[] mBodyBatchSizes = new int[3];
+
+    private float[] mBodyWidthBuffer = new float[4];
+
+    /**
+     * true per direction if its bodies are filled
+     */
+    private boolean[] mFilledBuffer = new boolean[3];
+
+    /**
+     * Returns true if the colors of the candles of the given DataSet only depend on their
+     * direction, so that all candles of a direction can be drawn in one batch.
+     *
+     * @param dataSet
+     * @return
+     */
+    protected boolean isBatchable(ICandleDataSet dataSet) {
+
+        if (dataSet.getColors().size() == 1)
+            return true;
+
+        return dataSet.getIncreasingColor() != ColorTemplate.COLOR_NONE
+                && dataSet.getDecreasingColor() != ColorTemplate.COLOR_NONE
+                && dataSet.getNeutralColor() != ColorTemplate.COLOR_NONE
+                && (dataSet.getShadowColorSameAsCandle()
+                || dataSet.getShadowColor() != ColorTemplate.COLOR_NONE);
+    }
+
+    /**
+     * Returns the color of the candles of the given direction.
+     *
+     * @param dataSet
+     * @param direction
+     * @return
+     */
+    private int getDirectionColor(ICandleDataSet dataSet, int direction) {
+
+        final int color = direction == INCREASING ? dataSet.getIncreasingColor()
+                : direction == DECREASING ? dataSet.getDecreasingColor()
+                : dataSet.getNeutralColor();
+
+        return color == ColorTemplate.COLOR_NONE ? dataSet.getColor() : color;
+    }
+
+    /**
+     * Makes sure the given batch can take another count values.
+     */
+    private static float[] ensureBatch(float[][] batches, int direction, int size, int count) {
+
+        float[] batch = batches[direction];
+
+        if (batch.length < size + count) {
+            batch = new float[Math.max(size + count, batch.length * 2)];
+            System.arraycopy(batches[direction], 0, batch, 0, size);
+            batches[direction] = batch;
+        }
+
+        return batch;
+    }
+
+    /**
+     * Draws the visible candles of the given DataSet grouped by their direction: the shadows of
+     * each direction with one drawLines(...) call, then the bodies. Filled bodies are drawn as
+     * lines as wide as the body, hollow bodies as their outlines. Only works if the colors do not
+     * depend on the entry, see isBatchable(...).
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     */
+    protected void drawCandlesBatched(Canvas c, ICandleDataSet dataSet, Transformer trans) {
+
+        final float phaseY = mAnimator.getPhaseY();
+        final float barSpace = dataSet.getBarSpace();
+        final boolean showCandleBar = dataSet.getShowCandleBar();
+
+        final boolean[] filled = mFilledBuffer;
+        filled[INCREASING] = dataSet.getIncreasingPaintStyle() == Paint.Style.FILL;
+        filled[DECREASING] = dataSet.getDecreasingPaintStyle() == Paint.Style.FILL;
+        filled[NEUTRAL] = false;
+
+        for (int d = 0; d < 3; d++) {
+            mShadowBatchSizes[d] = 0;
+            mBodyBatchSizes[d] = 0;
+        }
+
+        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
+
+            CandleEntry e = dataSet.getEntryForIndex(j);
+
             if (e == null)
                 continue;
 
             final float xPos = e.getX();
+            final float left = xPos - 0.5f + barSpace;
+            final float right = xPos + 0.5f - barSpace;
+
+            final float open = e.getOpen() * phaseY;
+            final float close = e.getClose() * phaseY;
+            final float high = e.getHigh() * phaseY;
+            final float low = e.getLow() * phaseY;
+
+            final int d = open < close ? INCREASING : open > close ? DECREASING : NEUTRAL;
 
-            final float open = e.getOpen();
-            final float close = e.getClose();
-            final float high = e.getHigh();
-            final float low = e.getLow();
+            int n = mShadowBatchSizes[d];
 
             if (showCandleBar) {
-                // calculate the shadow
-
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
-
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
 
-                trans.pointValuesToPixel(mShadowBuffers);
+                final float top = Math.max(open, close);
+                final float bottom = Math.min(open, close);
+
+                float[] shadows = ensureBatch(mShadowBatches, d, n, 8);
+
+                shadows[n++] = xPos;
+                shadows[n++] = high;
+                shadows[n++] = xPos;
+                shadows[n++] = top;
+                shadows[n++] = xPos;
+                shadows[n++] = low;
+                shadows[n++] = xPos;
+                shadows[n++] = bottom;
 
-                // draw the shadows
+                mShadowBatchSizes[d] = n;
 
-                if (dataSet.getShadowColorSameAsCandle()) {
+                int b = mBodyBatchSizes[d];
 
-                    if (open > close)
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
+                if (d == NEUTRAL) {
 
-                    else if (open < close)
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
+                    float[] bodies = ensureBatch(mBodyBatches, d, b, 4);
 
-                    else
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
+                    bodies[b++] = left;
+                    bodies[b++] = open;
+                    bodies[b++] = right;
+                    bodies[b++] = open;
+
+                } else if (filled[d]) {
+
+                    float[] bodies = ensureBatch(mBodyBatches, d, b, 4);
+
+                    bodies[b++] = xPos;
+                    bodies[b++] = top;
+                    bodies[b++] = xPos;
+                    bodies[b++] = bottom;
 
                 } else {
-                    mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
-                                    dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
-                    );
+
+                    float[] bodies = ensureBatch(mBodyBatches, d, b, 16);
+
+                    bodies[b++] = left;
+                    bodies[b++] = top;
+                    bodies[b++] = right;
+                    bodies[b++] = top;
+
+                    bodies[b++] = right;
+                    bodies[b++] = top;
+                    bodies[b++] = right;
+                    bodies[b++] = bottom;
+
+                    bodies[b++] = right;
+                    bodies[b++] = bottom;
+                    bodies[b++] = left;
+                    bodies[b++] = bottom;
+
+                    bodies[b++] = left;
+                    bodies[b++] = bottom;
+                    bodies[b++] = left;
+                    bodies[b++] = top;
                 }
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
+                mBodyBatchSizes[d] = b;
 
-                c.drawLines(mShadowBuffers, mRenderPaint);
+            } else {
 
-                // calculate the body
+                // range, open and close ticks
+                float[] ticks = ensureBatch(mShadowBatches, d, n, 12);
 
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+                ticks[n++] = xPos;
+                ticks[n++] = high;
+                ticks[n++] = xPos;
+                ticks[n++] = low;
 
-                trans.pointValuesToPixel(mBodyBuffers);
+                ticks[n++] = left;
+                ticks[n++] = open;
+                ticks[n++] = xPos;
+                ticks[n++] = open;
 
-                // draw body differently for increasing and decreasing entry
-                if (open > close) { // decreasing
+                ticks[n++] = right;
+                ticks[n++] = close;
+                ticks[n++] = xPos;
+                ticks[n++] = close;
 
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+                mShadowBatchSizes[d] = n;
+            }
+        }
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+        mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[3],
-                            mBodyBuffers[2], mBodyBuffers[1],
-                            mRenderPaint);
+        // the shadows of all directions first, the bodies are drawn on top
+        for (int d = 0; d < 3; d++) {
 
-                } else if (open < close) {
+            final int size = mShadowBatchSizes[d];
 
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+            if (size == 0)
+                continue;
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+            trans.pointValuesToPixel(mShadowBatches[d], 0, size);
 
-                    c.drawRect(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                } else { // equal values
+            final int color = getDirectionColor(dataSet, d);
 
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
+            if (!showCandleBar || dataSet.getShadowColorSameAsCandle())
+                mRenderPaint.setColor(color);
+            else
+                mRenderPaint.setColor(dataSet.getShadowColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor()
+                        : dataSet.getShadowColor());
 
-                    c.drawLine(
-                            mBodyBuffers[0], mBodyBuffers[1],
-                            mBodyBuffers[2], mBodyBuffers[3],
-                            mRenderPaint);
-                }
-            } else {
+            c.drawLines(mShadowBatches[d], 0, size, mRenderPaint);
+        }
 
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
+        if (!showCandleBar)
+            return;
 
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
+        // width of a body in pixels, the same for all candles
+        mBodyWidthBuffer[0] = -0.5f + barSpace;
+        mBodyWidthBuffer[2] = 0.5f - barSpace;
+        trans.pointValuesToPixel(mBodyWidthBuffer);
 
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
+        final float bodyWidth = Math.abs(mBodyWidthBuffer[2] - mBodyWidthBuffer[0]);
+        final float shadowWidth = mRenderPaint.getStrokeWidth();
+        final Paint.Cap cap = mRenderPaint.getStrokeCap();
 
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
+        for (int d = 0; d < 3; d++) {
 
-                // draw the ranges
-                int barColor;
+            final int size = mBodyBatchSizes[d];
+
+            if (size == 0)
+                continue;
+
+            trans.pointValuesToPixel(mBodyBatches[d], 0, size);
+
+            mRenderPaint.setColor(getDirectionColor(dataSet, d));
+
+            if (filled[d]) {
+                mRenderPaint.setStrokeWidth(bodyWidth);
+                mRenderPaint.setStrokeCap(Paint.Cap.BUTT);
+            } else if (d != NEUTRAL) {
+                // closes the corners of the outlines
+                mRenderPaint.setStrokeCap(Paint.Cap.SQUARE);
+            }
+
+            c.drawLines(mBodyBatches[d], 0, size, mRenderPaint);
+
+            mRenderPaint.setStrokeWidth(shadowWidth);
+            mRenderPaint.setStrokeCap(cap);
+        }
+    }
+
+    /**
+     * Draws a single candle that covers the entries between xFrom and xTo (equal for a candle of
+     * a single entry).
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param colorIndex index of the entry used for the color
+     * @param xFrom
+     * @param xTo
+     * @param open
+     * @param high
+     * @param low
+     * @param close
+     */
+    @SuppressWarnings("ResourceAsColor")
+    protected void drawCandle(Canvas c, ICandleDataSet dataSet, Transformer trans, int colorIndex,
+                              float xFrom, float xTo, float open, float high, float low, float close) {
+
+        final float phaseY = mAnimator.getPhaseY();
+        final float barSpace = dataSet.getBarSpace();
+        final boolean showCandleBar = dataSet.getShowCandleBar();
+
+        final float xPos = (xFrom + xTo) / 2f;
+
+        if (showCandleBar) {
+            // calculate the shadow
+
+            mShadowBuffers[0] = xPos;
+            mShadowBuffers[2] = xPos;
+            mShadowBuffers[4] = xPos;
+            mShadowBuffers[6] = xPos;
+
+            if (open > close) {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = open * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = close * phaseY;
+            } else if (open < close) {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = close * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = open * phaseY;
+            } else {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = open * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = mShadowBuffers[3];
+            }
+
+            trans.pointValuesToPixel(mShadowBuffers);
+
+            // draw the shadows
+
+            if (dataSet.getShadowColorSameAsCandle()) {
 
                 if (open > close)
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
+                    mRenderPaint.setColor(
+                            dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
+                                    dataSet.getColor(colorIndex) :
+                                    dataSet.getDecreasingColor()
+                    );
+
                 else if (open < close)
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
+                    mRenderPaint.setColor(
+                            dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
+                                    dataSet.getColor(colorIndex) :
+                                    dataSet.getIncreasingColor()
+                    );
+
                 else
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
+                    mRenderPaint.setColor(
+                            dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
+                                    dataSet.getColor(colorIndex) :
+                                    dataSet.getNeutralColor()
+                    );
 
-                mRenderPaint.setColor(barColor);
-                c.drawLine(
-                        mRangeBuffers[0], mRangeBuffers[1],
-                        mRangeBuffers[2], mRangeBuffers[3],
+            } else {
+                mRenderPaint.setColor(
+                        dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
+                                dataSet.getColor(colorIndex) :
+                                dataSet.getShadowColor()
+                );
+            }
+
+            mRenderPaint.setStyle(Paint.Style.STROKE);
+
+            c.drawLines(mShadowBuffers, mRenderPaint);
+
+            // calculate the body
+
+            mBodyBuffers[0] = xFrom - 0.5f + barSpace;
+            mBodyBuffers[1] = close * phaseY;
+            mBodyBuffers[2] = (xTo + 0.5f - barSpace);
+            mBodyBuffers[3] = open * phaseY;
+
+            trans.pointValuesToPixel(mBodyBuffers);
+
+            // draw body differently for increasing and decreasing entry
+            if (open > close) { // decreasing
+
+                if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(colorIndex));
+                } else {
+                    mRenderPaint.setColor(dataSet.getDecreasingColor());
+                }
+
+                mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
+
+                c.drawRect(
+                        mBodyBuffers[0], mBodyBuffers[3],
+                        mBodyBuffers[2], mBodyBuffers[1],
                         mRenderPaint);
-                c.drawLine(
-                        mOpenBuffers[0], mOpenBuffers[1],
-                        mOpenBuffers[2], mOpenBuffers[3],
+
+            } else if (open < close) {
+
+                if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(colorIndex));
+                } else {
+                    mRenderPaint.setColor(dataSet.getIncreasingColor());
+                }
+
+                mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
+
+                c.drawRect(
+                        mBodyBuffers[0], mBodyBuffers[1],
+                        mBodyBuffers[2], mBodyBuffers[3],
                         mRenderPaint);
+            } else { // equal values
+
+                if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(colorIndex));
+                } else {
+                    mRenderPaint.setColor(dataSet.getNeutralColor());
+                }
+
                 c.drawLine(
-                        mCloseBuffers[0], mCloseBuffers[1],
-                        mCloseBuffers[2], mCloseBuffers[3],
+                        mBodyBuffers[0], mBodyBuffers[1],
+                        mBodyBuffers[2], mBodyBuffers[3],
                         mRenderPaint);
             }
+        } else {
+
+            mRangeBuffers[0] = xPos;
+            mRangeBuffers[1] = high * phaseY;
+            mRangeBuffers[2] = xPos;
+            mRangeBuffers[3] = low * phaseY;
+
+            mOpenBuffers[0] = xFrom - 0.5f + barSpace;
+            mOpenBuffers[1] = open * phaseY;
+            mOpenBuffers[2] = xPos;
+            mOpenBuffers[3] = open * phaseY;
+
+            mCloseBuffers[0] = xTo + 0.5f - barSpace;
+            mCloseBuffers[1] = close * phaseY;
+            mCloseBuffers[2] = xPos;
+            mCloseBuffers[3] = close * phaseY;
+
+            trans.pointValuesToPixel(mRangeBuffers);
+            trans.pointValuesToPixel(mOpenBuffers);
+            trans.pointValuesToPixel(mCloseBuffers);
+
+            // draw the ranges
+            int barColor;
+
+            if (open > close)
+                barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(colorIndex)
+                        : dataSet.getDecreasingColor();
+            else if (open < close)
+                barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(colorIndex)
+                        : dataSet.getIncreasingColor();
+            else
+                barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(colorIndex)
+                        : dataSet.getNeutralColor();
+
+            mRenderPaint.setColor(barColor);
+            c.drawLine(
+                    mRangeBuffers[0], mRangeBuffers[1],
+                    mRangeBuffers[2], mRangeBuffers[3],
+                    mRenderPaint);
+            c.drawLine(
+                    mOpenBuffers[0], mOpenBuffers[1],
+                    mOpenBuffers[2], mOpenBuffers[3],
+                    mRenderPaint);
+            c.drawLine(
+                    mCloseBuffers[0], mCloseBuffers[1],
+                    mCloseBuffers[2], mCloseBuffers[3],
+                    mRenderPaint);
         }
     }
 
@@ -348,11 +723,29 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
             if (!isInBoundsX(e, set))
                 continue;
 
+            float x = e.getX();
             float lowValue = e.getLow() * mAnimator.getPhaseY();
             float highValue = e.getHigh() * mAnimator.getPhaseY();
+
+            OhlcResampler resampler = mResamplers.get(set);
+
+            // the entry is drawn as part of a merged candle, highlight that one
+            if (resampler != null && resampler.getBucketSize() > 1) {
+
+                final int bucketSize = resampler.getBucketSize();
+                final float[] candles = resampler.getCandles(set, bucketSize);
+                final int j = set.getEntryIndex(e) / bucketSize * OhlcResampler.STRIDE;
+
+                if (j >= 0 && j < candles.length) {
+                    x = (candles[j] + candles[j + 1]) / 2f;
+                    highValue = candles[j + 3] * mAnimator.getPhaseY();
+                    lowValue = candles[j + 4] * mAnimator.getPhaseY();
+                }
+            }
+
             float y = (lowValue + highValue) / 2f;
 
-            MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(e.getX(), y);
+            MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(x, y);
 
             high.setDraw((float) pix.x, (float) pix.y);
 
@@ -0,0 +1,187 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Bounded cache of circle sprites, keyed by their style (radius, hole radius and color) so that
+ * all DataSets with the same circle style share the same Bitmap. The least recently used sprites
+ * are recycled once more than the maximum number of sprites are cached, but never the ones used
+ * in the current frame (see beginFrame()): if a frame uses more styles than the maximum, the cache
+ * grows to hold all of them until the next frame.
+ */
+public class CircleSpriteCache {
+
+    /**
+     * the style of a sprite
+     */
+    private static final class Key {
+
+        final float radius;
+        final float holeRadius;
+        final int color;
+
+        Key(float radius, float holeRadius, int color) {
+            this.radius = radius;
+            this.holeRadius = holeRadius;
+            this.color = color;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (!(o instanceof Key))
+                return false;
+
+            Key other = (Key) o;
+            return radius == other.radius && holeRadius == other.holeRadius && color == other.color;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Float.floatToIntBits(radius);
+            result = 31 * result + Float.floatToIntBits(holeRadius);
+            return 31 * result + color;
+        }
+    }
+
+    /**
+     * a cached sprite and the frame it has last been used in
+     */
+    private static final class Sprite {
+
+        final Bitmap bitmap;
+        long frame;
+
+        Sprite(Bitmap bitmap, long frame) {
+            this.bitmap = bitmap;
+            this.frame = frame;
+        }
+    }
+
+    private int mMaxSize = 32;
+
+    private long mFrame = 0;
+
+    /**
+     * the sprites, least recently used first
+     */
+    private LinkedHashMap<Key, Sprite> mSprites = new LinkedHashMap<>(16, 0.75f, true);
+
+    private Paint mPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+
+    private Path mPathBuffer = new Path();
+
+    public CircleSpriteCache() {
+        mPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Starts a new frame. The sprites returned before can be recycled from now on, the ones
+     * exceeding the maximum size are recycled right away.
+     */
+    public void beginFrame() {
+        mFrame++;
+        trimToSize();
+    }
+
+    /**
+     * Returns the sprite of a circle with the given radius and color and a transparent hole of
+     * the given radius, the center of the circle is at (radius, radius). The sprite is not
+     * recycled before the next call to beginFrame(). Returns null if the Bitmap could not be
+     * created.
+     *
+     * @param radius
+     * @param holeRadius
+     * @param color
+     * @return
+     */
+    public Bitmap getRing(float radius, float holeRadius, int color) {
+
+        Key key = new Key(radius, holeRadius, color);
+        Sprite cached = mSprites.get(key);
+
+        if (cached != null) {
+            cached.frame = mFrame;
+            return cached.bitmap;
+        }
+
+        final int size = (int) (radius * 2.1);
+
+        if (size < 1)
+            return null;
+
+        Bitmap sprite = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
+
+        if (sprite == null)
+            return null;
+
+        // the circle with the hole cut out
+        mPathBuffer.reset();
+        mPathBuffer.addCircle(radius, radius, radius, Path.Direction.CW);
+        mPathBuffer.addCircle(radius, radius, holeRadius, Path.Direction.CCW);
+
+        mPaint.setColor(color);
+        new Canvas(sprite).drawPath(mPathBuffer, mPaint);
+
+        mSprites.put(key, new Sprite(sprite, mFrame));
+        trimToSize();
+
+        return sprite;
+    }
+
+    /**
+     * Recycles the least recently used sprites until at most the maximum number of sprites are
+     * cached, skipping the ones used in the current frame.
+     */
+    private void trimToSize() {
+
+        Iterator<Sprite> it = mSprites.values().iterator();
+
+        while (mSprites.size() > mMaxSize && it.hasNext()) {
+
+            Sprite sprite = it.next();
+
+            if (sprite.frame == mFrame)
+                continue;
+
+            sprite.bitmap.recycle();
+            it.remove();
+        }
+    }
+
+    /**
+     * Sets the maximum number of cached sprites. Default: 32
+     *
+     * @param maxSize
+     */
+    public void setMaxSize(int maxSize) {
+        mMaxSize = Math.max(1, maxSize);
+        trimToSize();
+    }
+
+    /**
+     * Returns the number of cached sprites.
+     *
+     * @return
+     */
+    public int size() {
+        return mSprites.size();
+    }
+
+    /**
+     * Recycles all cached sprites.
+     */
+    public void clear() {
+
+        for (Sprite sprite : mSprites.values())
+            sprite.bitmap.recycle();
+
+        mSprites.clear();
+    }
+}
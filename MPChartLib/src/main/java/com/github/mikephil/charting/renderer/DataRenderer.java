@@ -143,6 +143,31 @@ public abstract class DataRenderer extends Renderer {
      */
     public abstract void drawData(Canvas c);
 
+    /**
+     * Draws the data of one tile of a row of tiles as wide as the content rect, with the origin of
+     * the canvas at the top left corner of the tile. Tile 0 starts at the left edge of the content
+     * when the chart is not panned. The touch matrix is moved to the tile while drawing, so the
+     * transformers pick up the translation.
+     *
+     * @param c
+     * @param index
+     * @param tileWidth
+     */
+    public void drawDataTile(Canvas c, int index, int tileWidth) {
+
+        int restoreCount = c.save();
+        c.translate(-mViewPortHandler.contentLeft(), -mViewPortHandler.contentTop());
+
+        final float transX = mViewPortHandler.setTouchTransX(-index * (float) tileWidth);
+
+        try {
+            drawData(c);
+        } finally {
+            mViewPortHandler.setTouchTransX(transX);
+            c.restoreToCount(restoreCount);
+        }
+    }
+
     /**
      * Loops over all Entrys and draws their values.
      *
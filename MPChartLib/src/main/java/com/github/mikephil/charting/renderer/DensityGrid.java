@@ -0,0 +1,466 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.data.ChartDataPreparer;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * Counts the entries of a DataSet per cell of a grid for drawing very large scatter and bubble
+ * DataSets as a density map instead of shape by shape. The cells have a fixed size in pixels and
+ * are aligned to the minimum values of the DataSet, the grid covers the visible area plus a
+ * margin on each side. While only the pan offset changes, the grid and its Bitmap are reused
+ * and just drawn at a different position. The entries are counted again if the visible area
+ * leaves the grid, the zoom level changes or the DataSet has changed (see BaseDataSet.getVersion()).
+ * DataSets that do not keep track of their changes are counted again on every update.
+ * Large DataSets are counted in parallel on the compute pool of the ChartDataPreparer (see
+ * ChartDataPreparer.setParallelThreshold(...)).
+ */
+public class DensityGrid {
+
+    /**
+     * the margin on each side as a fraction of the visible area
+     */
+    private float mMarginFactor = 0.5f;
+
+    /**
+     * relative difference of the cell size up to which the grid is still considered the same
+     * zoom level, avoids counting again because of rounding errors while panning
+     */
+    private static final float CELL_SIZE_TOLERANCE = 0.001f;
+
+    private IDataSet mDataSet = null;
+    private long mVersion;
+    private int mEntryCount;
+    private int mMaxIndex;
+    private float mPhaseY;
+
+    /**
+     * size of a cell in values
+     */
+    private float mCellWidth, mCellHeight;
+
+    /**
+     * bounds of the grid in values
+     */
+    private float mLeft, mBottom;
+
+    private int mColumns = 0;
+    private int mRows = 0;
+
+    /**
+     * entry count per cell, row by row starting at the bottom
+     */
+    private int[] mCounts = new int[0];
+
+    private int mMaxCount = 0;
+
+    /**
+     * counts of the chunks that are counted in parallel, reused for every count
+     */
+    private int[][] mChunkCounts = new int[0][];
+
+    private long mEntryReads = 0;
+
+    private Bitmap mBitmap = null;
+    private boolean mBitmapValid = false;
+    private int[] mBitmapColors = null;
+    private boolean mBitmapFlipped = false;
+    private int[] mPixels = new int[0];
+
+    /**
+     * Makes sure the visible area is covered by the grid and the entries are counted. Returns
+     * true if the entries had to be counted.
+     *
+     * @param set
+     * @param cellWidth  size of a cell in values
+     * @param cellHeight
+     * @param xMin       visible area in values
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     * @param maxIndex   index of the last entry to count (animation)
+     * @param phaseY
+     * @return
+     */
+    public boolean update(IDataSet set, float cellWidth, float cellHeight,
+                          float xMin, float xMax, float yMin, float yMax,
+                          int maxIndex, float phaseY) {
+
+        if (contains(set, cellWidth, cellHeight, xMin, xMax, yMin, yMax, maxIndex, phaseY))
+            return false;
+
+        mDataSet = set;
+        mVersion = BaseDataSet.getVersionOf(set);
+        mEntryCount = set.getEntryCount();
+        mMaxIndex = maxIndex;
+        mPhaseY = phaseY;
+        mCellWidth = cellWidth;
+        mCellHeight = cellHeight;
+
+        final float marginX = (xMax - xMin) * mMarginFactor;
+        final float marginY = (yMax - yMin) * mMarginFactor;
+
+        // align the cells to the minimum values, so that they don't move while panning
+        final float originX = set.getXMin();
+        final float originY = set.getYMin() * phaseY;
+
+        final double firstColumn = Math.floor((xMin - marginX - originX) / cellWidth);
+        final double firstRow = Math.floor((yMin - marginY - originY) / cellHeight);
+
+        mLeft = (float) (originX + firstColumn * cellWidth);
+        mBottom = (float) (originY + firstRow * cellHeight);
+
+        mColumns = Math.max(1, (int) Math.ceil((xMax + marginX - mLeft) / cellWidth));
+        mRows = Math.max(1, (int) Math.ceil((yMax + marginY - mBottom) / cellHeight));
+
+        final int size = mColumns * mRows;
+
+        if (mCounts.length < size)
+            mCounts = new int[size];
+
+        count(set);
+
+        mBitmapValid = false;
+        return true;
+    }
+
+    /**
+     * Returns true if the grid of the given DataSet covers the given visible area and is up to
+     * date.
+     */
+    private boolean contains(IDataSet set, float cellWidth, float cellHeight,
+                             float xMin, float xMax, float yMin, float yMax,
+                             int maxIndex, float phaseY) {
+
+        return set == mDataSet && mVersion >= 0 && BaseDataSet.getVersionOf(set) == mVersion
+                && set.getEntryCount() == mEntryCount
+                && maxIndex == mMaxIndex && phaseY == mPhaseY
+                && Math.abs(cellWidth - mCellWidth) <= mCellWidth * CELL_SIZE_TOLERANCE
+                && Math.abs(cellHeight - mCellHeight) <= mCellHeight * CELL_SIZE_TOLERANCE
+                && xMin >= mLeft && xMax <= getRight()
+                && yMin >= mBottom && yMax <= getTop();
+    }
+
+    private void count(final IDataSet set) {
+
+        final int[] counts = mCounts;
+        final int size = mColumns * mRows;
+
+        for (int i = 0; i < size; i++)
+            counts[i] = 0;
+
+        int from = set.getEntryIndex(mLeft, Float.NaN, DataSet.Rounding.DOWN);
+        int to = set.getEntryIndex(getRight(), Float.NaN, DataSet.Rounding.UP);
+
+        from = Math.max(0, from);
+        to = Math.min(mMaxIndex, to);
+
+        if (to < from) {
+            mMaxCount = 0;
+            return;
+        }
+
+        final int entries = to - from + 1;
+
+        if (ChartDataPreparer.isParallelEnabled(entries)) {
+
+            final int chunkCount = ChartDataPreparer.getThreadCount();
+            final int chunkSize = (entries + chunkCount - 1) / chunkCount;
+
+            if (mChunkCounts.length < chunkCount)
+                mChunkCounts = new int[chunkCount][];
+
+            List<Callable<int[]>> tasks = new ArrayList<>();
+
+            for (int chunk = from, index = 0; chunk <= to; chunk += chunkSize, index++) {
+
+                if (mChunkCounts[index] == null || mChunkCounts[index].length < size)
+                    mChunkCounts[index] = new int[size];
+
+                final int[] out = mChunkCounts[index];
+                final int chunkFrom = chunk;
+                final int chunkTo = Math.min(to, chunk + chunkSize - 1);
+
+                tasks.add(new Callable<int[]>() {
+                    @Override
+                    public int[] call() {
+                        Arrays.fill(out, 0, size, 0);
+                        count(set, chunkFrom, chunkTo, out);
+                        return out;
+                    }
+                });
+            }
+
+            for (int[] out : ChartDataPreparer.invokeAll(tasks)) {
+                for (int i = 0; i < size; i++)
+                    counts[i] += out[i];
+            }
+
+        } else {
+            count(set, from, to, counts);
+        }
+
+        int max = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (counts[i] > max)
+                max = counts[i];
+        }
+
+        mMaxCount = max;
+        mEntryReads += entries;
+    }
+
+    /**
+     * Adds the entries between from and to (inclusive) to the given counts.
+     */
+    private void count(IDataSet set, int from, int to, int[] out) {
+
+        final float left = mLeft;
+        final float bottom = mBottom;
+        final float scaleX = 1f / mCellWidth;
+        final float scaleY = 1f / mCellHeight;
+        final float phaseY = mPhaseY;
+        final int columns = mColumns;
+        final int rows = mRows;
+
+        for (int i = from; i <= to; i++) {
+
+            Entry e = set.getEntryForIndex(i);
+
+            if (e == null)
+                continue;
+
+            final float column = (e.getX() - left) * scaleX;
+            final float row = (e.getY() * phaseY - bottom) * scaleY;
+
+            // also skips NaN
+            if (!(column >= 0f && column < columns && row >= 0f && row < rows))
+                continue;
+
+            out[(int) row * columns + (int) column]++;
+        }
+    }
+
+    /**
+     * Returns the grid as a Bitmap with one pixel per cell, the first row of the Bitmap is the
+     * top of the grid. The counts are mapped to the given colors on a logarithmic scale, from
+     * the first color for a single entry to the last color for the maximum count, empty cells
+     * are transparent. The Bitmap is reused until the grid or the colors change. Returns null
+     * if the Bitmap could not be created.
+     *
+     * @param colors  at least one color
+     * @param flipped true to start with the bottom of the grid (inverted y-axis)
+     * @return
+     */
+    public Bitmap getBitmap(int[] colors, boolean flipped) {
+
+        if (mBitmapValid && flipped == mBitmapFlipped && Arrays.equals(colors, mBitmapColors) && mBitmap != null)
+            return mBitmap;
+
+        if (mBitmap == null || mBitmap.getWidth() != mColumns || mBitmap.getHeight() != mRows) {
+
+            if (mBitmap != null)
+                mBitmap.recycle();
+
+            mBitmap = Bitmap.createBitmap(mColumns, mRows, Bitmap.Config.ARGB_8888);
+
+            if (mBitmap == null)
+                return null;
+        }
+
+        final int size = mColumns * mRows;
+
+        if (mPixels.length < size)
+            mPixels = new int[size];
+
+        fillPixels(colors, flipped, mPixels);
+
+        mBitmap.setPixels(mPixels, 0, mColumns, 0, 0, mColumns, mRows);
+
+        mBitmapValid = true;
+        mBitmapColors = colors.clone();
+        mBitmapFlipped = flipped;
+        return mBitmap;
+    }
+
+    /**
+     * Maps the counts to colors, one pixel per cell, the first row is the top of the grid unless
+     * flipped.
+     *
+     * @param colors
+     * @param flipped
+     * @param out
+     */
+    public void fillPixels(int[] colors, boolean flipped, int[] out) {
+
+        final int[] ramp = createColorRamp(colors);
+        final int[] counts = mCounts;
+        final int columns = mColumns;
+        final int rows = mRows;
+        final double scale = (ramp.length - 1) / Math.log1p(Math.max(1, mMaxCount));
+
+        // counts up to the maximum are looked up if there are not too many of them
+        int[] lookup = null;
+
+        if (mMaxCount <= 4096) {
+
+            lookup = new int[mMaxCount + 1];
+
+            for (int count = 1; count <= mMaxCount; count++)
+                lookup[count] = ramp[(int) (Math.log1p(count) * scale)];
+        }
+
+        for (int row = 0; row < rows; row++) {
+
+            final int countOffset = row * columns;
+            final int pixelOffset = (flipped ? row : rows - 1 - row) * columns;
+
+            for (int column = 0; column < columns; column++) {
+
+                final int count = counts[countOffset + column];
+
+                if (count == 0)
+                    out[pixelOffset + column] = Color.TRANSPARENT;
+                else if (lookup != null)
+                    out[pixelOffset + column] = lookup[count];
+                else
+                    out[pixelOffset + column] = ramp[(int) (Math.log1p(count) * scale)];
+            }
+        }
+    }
+
+    /**
+     * Interpolates the given colors to 256 colors.
+     */
+    private static int[] createColorRamp(int[] colors) {
+
+        int[] ramp = new int[256];
+
+        if (colors.length == 1) {
+
+            for (int i = 0; i < ramp.length; i++)
+                ramp[i] = colors[0];
+
+            return ramp;
+        }
+
+        for (int i = 0; i < ramp.length; i++) {
+
+            final float position = i / (float) (ramp.length - 1) * (colors.length - 1);
+            final int index = Math.min(colors.length - 2, (int) position);
+            final float fraction = position - index;
+
+            final int from = colors[index];
+            final int to = colors[index + 1];
+
+            ramp[i] = (interpolate(from >>> 24, to >>> 24, fraction) << 24)
+                    | (interpolate((from >> 16) & 0xff, (to >> 16) & 0xff, fraction) << 16)
+                    | (interpolate((from >> 8) & 0xff, (to >> 8) & 0xff, fraction) << 8)
+                    | interpolate(from & 0xff, to & 0xff, fraction);
+        }
+
+        return ramp;
+    }
+
+    private static int interpolate(int from, int to, float fraction) {
+        return Math.round(from + (to - from) * fraction);
+    }
+
+    /**
+     * Returns the number of entries in the cell at the given column and row (counted from the
+     * bottom left).
+     *
+     * @param column
+     * @param row
+     * @return
+     */
+    public int getCount(int column, int row) {
+        return mCounts[row * mColumns + column];
+    }
+
+    /**
+     * Returns the highest number of entries in a cell.
+     *
+     * @return
+     */
+    public int getMaxCount() {
+        return mMaxCount;
+    }
+
+    public int getColumns() {
+        return mColumns;
+    }
+
+    public int getRows() {
+        return mRows;
+    }
+
+    /**
+     * Returns the left bound of the grid in values.
+     *
+     * @return
+     */
+    public float getLeft() {
+        return mLeft;
+    }
+
+    public float getRight() {
+        return mLeft + mColumns * mCellWidth;
+    }
+
+    public float getBottom() {
+        return mBottom;
+    }
+
+    public float getTop() {
+        return mBottom + mRows * mCellHeight;
+    }
+
+    /**
+     * Sets the margin that is counted on each side of the visible area as a fraction of the
+     * visible area. Default: 0.5
+     *
+     * @param factor
+     */
+    public void setMarginFactor(float factor) {
+        mMarginFactor = Math.max(0f, factor);
+    }
+
+    /**
+     * Returns the number of entries that have been counted so far.
+     *
+     * @return
+     */
+    public long getEntryReadCount() {
+        return mEntryReads;
+    }
+
+    /**
+     * Drops the grid and the buffers of the parallel count and recycles its Bitmap.
+     */
+    public void clear() {
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+
+        mBitmapValid = false;
+        mDataSet = null;
+        mColumns = 0;
+        mRows = 0;
+        mMaxCount = 0;
+        mChunkCounts = new int[0][];
+    }
+}
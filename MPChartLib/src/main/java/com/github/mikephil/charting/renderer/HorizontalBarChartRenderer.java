@@ -66,6 +66,16 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
         float phaseX = mAnimator.getPhaseX();
         float phaseY = mAnimator.getPhaseY();
 
+        // initialize the buffer
+        BarBuffer buffer = mBarBuffers[index];
+        buffer.setPhases(phaseX, phaseY);
+        buffer.setDataSet(index);
+        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
+        buffer.setBarWidth(mChart.getBarData().getBarWidth());
+
+        // only the bars that are at least partially visible
+        limitToVisibleBars(buffer, dataSet);
+
         // draw the bar shadow before the values
         if (mChart.isDrawBarShadowEnabled()) {
             mShadowPaint.setColor(dataSet.getBarShadowColor());
@@ -76,7 +86,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             final float barWidthHalf = barWidth / 2.0f;
             float x;
 
-            for (int i = 0, count = Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount());
+            for (int i = buffer.getFrom(), count = Math.min(Math.min((int)(Math.ceil((float)(dataSet.getEntryCount()) * phaseX)), dataSet.getEntryCount()), buffer.getTo() + 1);
                  i < count;
                  i++) {
 
@@ -102,16 +112,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             }
         }
 
-        // initialize the buffer
-        BarBuffer buffer = mBarBuffers[index];
-        buffer.setPhases(phaseX, phaseY);
-        buffer.setDataSet(index);
-        buffer.setInverted(mChart.isInverted(dataSet.getAxisDependency()));
-        buffer.setBarWidth(mChart.getBarData().getBarWidth());
-
         buffer.feed(dataSet);
 
-        trans.pointValuesToPixel(buffer.buffer);
+        trans.pointValuesToPixel(buffer.buffer, 0, buffer.getFedSize());
 
         final boolean isCustomFill = dataSet.getFills() != null && !dataSet.getFills().isEmpty();
         final boolean isSingleColor = dataSet.getColors().size() == 1;
@@ -121,7 +124,16 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             mRenderPaint.setColor(dataSet.getColor());
         }
 
-        for (int j = 0, pos = 0; j < buffer.size(); j += 4, pos++) {
+        // position of the first bar for the colors, stacks count one per value
+        final int firstPos = buffer.getFirstBarPosition();
+
+        // bars narrower than the threshold are drawn one rect per pixel column
+        if (isAggregated(buffer, true)) {
+            drawAggregatedBars(c, dataSet, buffer, firstPos, true);
+            return;
+        }
+
+        for (int j = 0, pos = firstPos; j < buffer.getFedSize(); j += 4, pos++) {
 
             if (!mViewPortHandler.isInBoundsTop(buffer.buffer[j + 3]))
                 break;
@@ -132,7 +144,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
             if (!isSingleColor) {
                 // Set the color for the currently drawn value. If the index
                 // is out of bounds, reuse colors.
-                mRenderPaint.setColor(dataSet.getColor(j / 4));
+                mRenderPaint.setColor(dataSet.getColor(pos));
             }
 
             if (isCustomFill) {
@@ -196,7 +208,9 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                 // if only single values are drawn (sum)
                 if (!dataSet.isStacked()) {
 
-                    for (int j = 0; j < buffer.buffer.length * mAnimator.getPhaseX(); j += 4) {
+                    final int from = buffer.getFrom();
+
+                    for (int j = 0; j < buffer.getFedSize(); j += 4) {
 
                         float y = (buffer.buffer[j + 1] + buffer.buffer[j + 3]) / 2f;
 
@@ -209,7 +223,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                         if (!mViewPortHandler.isInBoundsBottom(buffer.buffer[j + 1]))
                             continue;
 
-                        BarEntry entry = dataSet.getEntryForIndex(j / 4);
+                        BarEntry entry = dataSet.getEntryForIndex(from + j / 4);
                         float val = entry.getY();
                         String formattedValue = formatter.getFormattedValue(val, entry, i, mViewPortHandler);
 
@@ -229,7 +243,7 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                                     formattedValue,
                                     buffer.buffer[j + 2] + (val >= 0 ? posOffset : negOffset),
                                     y + halfTextHeight,
-                                    dataSet.getValueTextColor(j / 2));
+                                    dataSet.getValueTextColor(from + j / 4));
                         }
 
                         if (entry.getIcon() != null && dataSet.isDrawIconsEnabled()) {
@@ -258,9 +272,10 @@ public class HorizontalBarChartRenderer extends BarChartRenderer {
                     Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
                     int bufferIndex = 0;
-                    int index = 0;
+                    int index = buffer.getFrom();
 
-                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()) {
+                    while (index < dataSet.getEntryCount() * mAnimator.getPhaseX()
+                            && bufferIndex < buffer.getFedSize()) {
 
                         BarEntry entry = dataSet.getEntryForIndex(index);
 
@@ -16,6 +16,7 @@ import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -59,6 +60,11 @@ public class LineChartRenderer extends LineRadarRenderer {
     protected Path cubicPath = new Path();
     protected Path cubicFillPath = new Path();
 
+    /**
+     * the cached bezier control points of all DataSets drawn as bezier curve
+     */
+    private HashMap<IDataSet, SplineGeometry> mSplineGeometry = new HashMap<>();
+
     public LineChartRenderer(LineDataProvider chart, ChartAnimator animator,
                              ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -71,31 +77,39 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     @Override
     public void initBuffers() {
+        clearRetainedGeometry();
+        mSplineGeometry.clear();
     }
 
     @Override
     public void drawData(Canvas c) {
 
-        int width = (int) mViewPortHandler.getChartWidth();
-        int height = (int) mViewPortHandler.getChartHeight();
+        LineData lineData = mChart.getLineData();
 
-        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+        // the bitmap is only needed if a DataSet is drawn on it
+        boolean drawOnBitmap = false;
 
-        if (drawBitmap == null
-                || (drawBitmap.getWidth() != width)
-                || (drawBitmap.getHeight() != height)) {
+        for (ILineDataSet set : lineData.getDataSets()) {
 
-            if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, mBitmapConfig);
-                mDrawBitmap = new WeakReference<>(drawBitmap);
-                mBitmapCanvas = new Canvas(drawBitmap);
-            } else
-                return;
+            if (set.isVisible() && set.getEntryCount() > 0 && isDrawnOnBitmap(set)) {
+                drawOnBitmap = true;
+                break;
+            }
         }
 
-        drawBitmap.eraseColor(Color.TRANSPARENT);
+        Bitmap drawBitmap = null;
 
-        LineData lineData = mChart.getLineData();
+        if (drawOnBitmap) {
+
+            drawBitmap = obtainDrawBitmap();
+
+            if (drawBitmap == null)
+                return;
+
+            drawBitmap.eraseColor(Color.TRANSPARENT);
+        } else {
+            releaseBitmap();
+        }
 
         for (ILineDataSet set : lineData.getDataSets()) {
 
@@ -103,7 +117,59 @@ public class LineChartRenderer extends LineRadarRenderer {
                 drawDataSet(c, set);
         }
 
-        c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+        if (drawBitmap != null)
+            c.drawBitmap(drawBitmap, 0, 0, mRenderPaint);
+    }
+
+    /**
+     * Returns true if the given DataSet is drawn on the bitmap: cubic and horizontal bezier
+     * lines and dashed linear lines.
+     *
+     * @param set
+     * @return
+     */
+    protected boolean isDrawnOnBitmap(ILineDataSet set) {
+
+        switch (set.getMode()) {
+            case CUBIC_BEZIER:
+            case HORIZONTAL_BEZIER:
+                return true;
+            default:
+                return set.isDashedLineEnabled();
+        }
+    }
+
+    /**
+     * Returns the bitmap of the size of the chart the DataSets are drawn on, taken from the
+     * BitmapPool when needed for the first time or after the size has changed.
+     *
+     * @return
+     */
+    private Bitmap obtainDrawBitmap() {
+
+        int width = (int) mViewPortHandler.getChartWidth();
+        int height = (int) mViewPortHandler.getChartHeight();
+
+        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+
+        if (drawBitmap != null
+                && drawBitmap.getWidth() == width
+                && drawBitmap.getHeight() == height)
+            return drawBitmap;
+
+        releaseBitmap();
+
+        if (width <= 0 || height <= 0)
+            return null;
+
+        drawBitmap = BitmapPool.obtain(width, height, mBitmapConfig);
+
+        if (drawBitmap == null)
+            return null;
+
+        mDrawBitmap = new WeakReference<>(drawBitmap);
+        mBitmapCanvas = new Canvas(drawBitmap);
+        return drawBitmap;
     }
 
     protected void drawDataSet(Canvas c, ILineDataSet dataSet) {
@@ -141,29 +207,16 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        SplineGeometry spline = getSplineGeometry(dataSet, mXBounds.min, mXBounds.max, true);
+
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
 
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
-
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
-
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
-
-                final float cpx = (prev.getX())
-                        + (cur.getX() - prev.getX()) / 2.0f;
+            cubicPath.moveTo(spline.getX(mXBounds.min), spline.getY(mXBounds.min) * phaseY);
 
-                cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY);
-            }
+            spline.cubicTo(cubicPath, mXBounds.min + 1, mXBounds.range + mXBounds.min, phaseY);
         }
 
         // if filled is enabled, close the path
@@ -194,54 +247,18 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
-        float intensity = dataSet.getCubicIntensity();
+        // the control points take an extra entry from the left and one from the right,
+        // otherwise the lines move and do weird stuff on the edges of the chart
+        SplineGeometry spline = getSplineGeometry(dataSet, mXBounds.min, mXBounds.max, false);
 
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
 
-            float prevDx = 0f;
-            float prevDy = 0f;
-            float curDx = 0f;
-            float curDy = 0f;
-
-            // Take an extra point from the left, and an extra from the right.
-            // That's because we need 4 points for a cubic bezier (cubic=4), otherwise we get lines moving and doing weird stuff on the edges of the chart.
-            // So in the starting `prev` and `cur`, go -2, -1
-            // And in the `lastIndex`, add +1
-
-            final int firstIndex = mXBounds.min + 1;
-            final int lastIndex = mXBounds.min + mXBounds.range;
-
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
-            int nextIndex = -1;
-
-            if (cur == null) return;
-
             // let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
-
-            for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+            cubicPath.moveTo(spline.getX(mXBounds.min), spline.getY(mXBounds.min) * phaseY);
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
-
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
-
-                cubicPath.cubicTo(prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx,
-                        (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY);
-            }
+            spline.cubicTo(cubicPath, mXBounds.min + 1, mXBounds.range + mXBounds.min, phaseY);
         }
 
         // if filled is enabled, close the path
@@ -264,29 +281,59 @@ public class LineChartRenderer extends LineRadarRenderer {
         mRenderPaint.setPathEffect(null);
     }
 
+    /**
+     * Returns the cached bezier control points of the given DataSet, covering at least the
+     * segments from min to max. They are only calculated again if the DataSet or the intensity
+     * change, regardless of whether the entry values are retained.
+     *
+     * @param dataSet
+     * @param min
+     * @param max
+     * @param horizontal
+     * @return
+     */
+    protected SplineGeometry getSplineGeometry(ILineDataSet dataSet, int min, int max, boolean horizontal) {
+
+        SplineGeometry spline = mSplineGeometry.get(dataSet);
+
+        if (spline == null) {
+            spline = new SplineGeometry();
+            mSplineGeometry.put(dataSet, spline);
+        }
+
+        spline.update(dataSet, min, max, dataSet.getCubicIntensity(), horizontal);
+        return spline;
+    }
+
     protected void drawCubicFill(Canvas c, ILineDataSet dataSet, Path spline, Transformer trans, XBounds bounds) {
 
         float fillMin = dataSet.getFillFormatter()
                 .getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        final float fromX = getEntryX(dataSet, bounds.min);
+        final float toX = getEntryX(dataSet, bounds.min + bounds.range);
+
+        spline.lineTo(toX, fillMin);
+        spline.lineTo(fromX, fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
 
-        final Drawable drawable = dataSet.getFillDrawable();
-        if (drawable != null) {
-
-            drawFilledPath(c, spline, drawable);
-        } else {
-
-            drawFilledPath(c, spline, dataSet.getFillColor(), dataSet.getFillAlpha());
-        }
+        drawFilledPath(c, spline, dataSet);
     }
 
     private float[] mLineBuffer = new float[4];
 
+    /**
+     * buffer for the colors of the line segments if the DataSet has more than one color
+     */
+    private int[] mSegmentColorBuffer = new int[1];
+
+    /**
+     * maximum number of line segments drawn with one call, limits the size of the line buffer
+     */
+    private static final int MAX_SEGMENTS_PER_DRAW = 16 * 1024;
+
     /**
      * Draws a normal line.
      *
@@ -317,6 +364,9 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        // the first segment starts at the entry before the visible range
+        RetainedGeometry geometry = getRetainedGeometry(dataSet, mXBounds.min - 1, mXBounds.max);
+
         // if drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
             drawLinearFill(c, dataSet, trans, mXBounds);
@@ -328,123 +378,206 @@ public class LineChartRenderer extends LineRadarRenderer {
             drawLinearFillSection(c, dataSet, trans, indexes[0], indexes[1]);
         }
 
+        final int numberOfFloats = pointsPerEntryPair * 2;
+        final int last = mXBounds.min + mXBounds.range;
+
         // more than 1 color
         if (dataSet.getColors().size() > 1) {
 
-            int numberOfFloats = pointsPerEntryPair * 2;
+            // draw in chunks, so that the buffers do not grow with the DataSet
+            for (int from = mXBounds.min; from < last; from += MAX_SEGMENTS_PER_DRAW) {
 
-            if (mLineBuffer.length <= numberOfFloats)
-                mLineBuffer = new float[numberOfFloats * 2];
+                final int to = Math.min(last, from + MAX_SEGMENTS_PER_DRAW);
 
-            int max = mXBounds.min + mXBounds.range;
+                if (!drawColoredSegments(canvas, dataSet, trans, geometry, from, to, isDrawSteppedEnabled))
+                    break;
+            }
 
-            for (int j = mXBounds.min; j < max; j++) {
+        } else { // only one color per dataset
 
-                Entry e = dataSet.getEntryForIndex(j);
-                if (e == null) continue;
+            if (mXBounds.min < entryCount) {
 
-                mLineBuffer[0] = e.getX();
-                mLineBuffer[1] = e.getY() * phaseY;
+                mRenderPaint.setColor(dataSet.getColor());
 
-                if (j < mXBounds.max) {
+                // draw in chunks, so that the buffer does not grow with the DataSet
+                for (int from = mXBounds.min; from <= last; from += MAX_SEGMENTS_PER_DRAW) {
 
-                    e = dataSet.getEntryForIndex(j + 1);
+                    final int to = Math.min(last, from + MAX_SEGMENTS_PER_DRAW - 1);
+                    final int size = (to - from + 1) * numberOfFloats;
+                    final float[] lines = getLineBuffer(size);
 
-                    if (e == null) break;
+                    int j = 0;
+                    for (int x = from; x <= to; x++) {
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = e.getX();
-                        mLineBuffer[7] = e.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = e.getX();
-                        mLineBuffer[3] = e.getY() * phaseY;
-                    }
+                        final int prev = x == 0 ? 0 : (x - 1);
 
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
-                }
+                        final float x1 = geometry.getX(prev);
+                        final float y1 = geometry.getY(prev) * phaseY;
+                        final float x2 = geometry.getX(x);
 
-                // Determine the start and end coordinates of the line, and make sure they differ.
-                float firstCoordinateX = mLineBuffer[0];
-                float firstCoordinateY = mLineBuffer[1];
-                float lastCoordinateX = mLineBuffer[numberOfFloats - 2];
-                float lastCoordinateY = mLineBuffer[numberOfFloats - 1];
+                        lines[j++] = x1;
+                        lines[j++] = y1;
 
-                if (firstCoordinateX == lastCoordinateX &&
-                        firstCoordinateY == lastCoordinateY)
-                    continue;
+                        if (isDrawSteppedEnabled) {
+                            lines[j++] = x2;
+                            lines[j++] = y1;
+                            lines[j++] = x2;
+                            lines[j++] = y1;
+                        }
 
-                trans.pointValuesToPixel(mLineBuffer);
+                        lines[j++] = x2;
+                        lines[j++] = geometry.getY(x) * phaseY;
+                    }
 
-                if (!isLineChartTime) {
-                    if (!mViewPortHandler.isInBoundsRight(firstCoordinateX))
-                        break;
+                    trans.pointValuesToPixel(lines, 0, size);
 
-                    // make sure the lines don't do shitty things outside
-                    // bounds
-                    if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
-                            !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
-                            !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
-                        continue;
+                    canvas.drawLines(lines, 0, size, mRenderPaint);
                 }
+            }
+        }
 
-                // get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+        mRenderPaint.setPathEffect(null);
+    }
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
-            }
+    /**
+     * Draws the line segments from the entry at index from to the entry at index to of a DataSet
+     * with more than one color, each run of segments with the same color with one draw call.
+     * Returns false if the segments reach beyond the right of the content rect.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param trans
+     * @param geometry
+     * @param from
+     * @param to
+     * @param isDrawSteppedEnabled
+     * @return
+     */
+    private boolean drawColoredSegments(Canvas canvas, ILineDataSet dataSet, Transformer trans,
+                                        RetainedGeometry geometry, int from, int to,
+                                        boolean isDrawSteppedEnabled) {
 
-        } else { // only one color per dataset
+        final float phaseY = mAnimator.getPhaseY();
+        final int numberOfFloats = isDrawSteppedEnabled ? 8 : 4;
+        final int segments = to - from;
 
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2)
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+        final float[] lines = getLineBuffer(segments * numberOfFloats);
 
-            Entry e1, e2;
+        if (mSegmentColorBuffer.length < segments)
+            mSegmentColorBuffer = new int[segments];
 
-            e1 = dataSet.getEntryForIndex(mXBounds.min);
+        final int[] colors = mSegmentColorBuffer;
 
-            if (e1 != null) {
+        // the segments of the chunk, skipping the ones without length
+        int size = 0;
+        int count = 0;
 
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
+        for (int j = from; j < to; j++) {
 
-                    e1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    e2 = dataSet.getEntryForIndex(x);
+            final float x1 = geometry.getX(j);
+            final float y1 = geometry.getY(j) * phaseY;
+            final float x2 = geometry.getX(j + 1);
+            final float y2 = geometry.getY(j + 1) * phaseY;
 
-                    if (e1 == null || e2 == null) continue;
+            if (x1 == x2 && y1 == y2)
+                continue;
 
-                    mLineBuffer[j++] = e1.getX();
-                    mLineBuffer[j++] = e1.getY() * phaseY;
+            lines[size++] = x1;
+            lines[size++] = y1;
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                        mLineBuffer[j++] = e2.getX();
-                        mLineBuffer[j++] = e1.getY() * phaseY;
-                    }
+            if (isDrawSteppedEnabled) {
+                lines[size++] = x2;
+                lines[size++] = y1;
+                lines[size++] = x2;
+                lines[size++] = y1;
+            }
 
-                    mLineBuffer[j++] = e2.getX();
-                    mLineBuffer[j++] = e2.getY() * phaseY;
-                }
+            lines[size++] = x2;
+            lines[size++] = y2;
+
+            colors[count++] = dataSet.getColor(j);
+        }
+
+        trans.pointValuesToPixel(lines, 0, size);
+
+        // move the visible segments to the front and draw each run of the same color at once
+        boolean inBounds = true;
+        int runStart = 0;
+        int runEnd = 0;
+        int runColor = 0;
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+        for (int i = 0; i < count; i++) {
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+            final int offset = i * numberOfFloats;
 
-                    mRenderPaint.setColor(dataSet.getColor());
+            final float firstCoordinateX = lines[offset];
+            final float firstCoordinateY = lines[offset + 1];
+            final float lastCoordinateX = lines[offset + numberOfFloats - 2];
+            final float lastCoordinateY = lines[offset + numberOfFloats - 1];
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
+            if (!isLineChartTime) {
+                if (!mViewPortHandler.isInBoundsRight(firstCoordinateX)) {
+                    inBounds = false;
+                    break;
                 }
+
+                // make sure the lines don't do shitty things outside
+                // bounds
+                if (!mViewPortHandler.isInBoundsLeft(lastCoordinateX) ||
+                        !mViewPortHandler.isInBoundsTop(Math.max(firstCoordinateY, lastCoordinateY)) ||
+                        !mViewPortHandler.isInBoundsBottom(Math.min(firstCoordinateY, lastCoordinateY)))
+                    continue;
             }
+
+            if (runEnd > runStart && colors[i] != runColor) {
+                mRenderPaint.setColor(runColor);
+                canvas.drawLines(lines, runStart, runEnd - runStart, mRenderPaint);
+                runStart = runEnd;
+            }
+
+            runColor = colors[i];
+
+            if (runEnd != offset)
+                System.arraycopy(lines, offset, lines, runEnd, numberOfFloats);
+
+            runEnd += numberOfFloats;
         }
 
-        mRenderPaint.setPathEffect(null);
+        if (runEnd > runStart) {
+            mRenderPaint.setColor(runColor);
+            canvas.drawLines(lines, runStart, runEnd - runStart, mRenderPaint);
+        }
+
+        return inBounds;
+    }
+
+    /**
+     * Returns the line buffer with room for at least the given number of values.
+     *
+     * @param size
+     * @return
+     */
+    private float[] getLineBuffer(int size) {
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        return mLineBuffer;
+    }
+
+    /**
+     * Releases the buffers that grow with the number of visible entries, the retained entry
+     * values, the bezier control points and the circle sprites, they are created again on the
+     * next draw. Call this when memory is low.
+     */
+    public void trimBuffers() {
+        mLineBuffer = new float[4];
+        mSegmentColorBuffer = new int[1];
+        mCirclesBuffer = new float[2];
+        mCircleColorBuffer = new int[1];
+        mCircleSprites.clear();
+        clearRetainedGeometry();
+        mSplineGeometry.clear();
     }
 
     protected Path mGenerateFilledPathBuffer = new Path();
@@ -477,6 +610,12 @@ public class LineChartRenderer extends LineRadarRenderer {
      */
     protected void drawLinearFillSection(Canvas c, ILineDataSet dataSet, Transformer trans, int startingIndex, int endingIndex) {
 
+        // fill colors and gradients are drawn as triangle strips, drawables need a clip path
+        if (dataSet.getFillDrawable() == null && isDrawVerticesSupported(c)) {
+            drawLinearFillVertices(c, dataSet, trans, startingIndex, endingIndex);
+            return;
+        }
+
         final Path filled = mGenerateFilledPathBuffer;
 
         final int indexInterval = 128;
@@ -496,20 +635,93 @@ public class LineChartRenderer extends LineRadarRenderer {
 
                 trans.pathValueToPixel(filled);
 
-                final Drawable drawable = dataSet.getFillDrawable();
-                if (drawable != null) {
+                drawFilledPath(c, filled, dataSet);
+            }
+
+            iterations++;
+
+        } while (currentStartIndex <= currentEndIndex);
+
+    }
 
-                    drawFilledPath(c, filled, drawable);
+    /**
+     * Fills the area between the line and the fill line position from startingIndex to
+     * endingIndex with triangle strips, one draw call per chunk of MAX_SEGMENTS_PER_DRAW
+     * entries. Segments crossing the fill line are split at the crossing, so that the strip
+     * does not cover the area between the line and the fill line on the wrong side.
+     *
+     * @param c
+     * @param dataSet
+     * @param trans
+     * @param startingIndex
+     * @param endingIndex
+     */
+    protected void drawLinearFillVertices(Canvas c, ILineDataSet dataSet, Transformer trans, int startingIndex, int endingIndex) {
+
+        final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+        final float phaseY = mAnimator.getPhaseY();
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        // two more vertices per entry for the steps or the crossings of the fill line
+        final int floatsPerEntry = 8;
+
+        // fill sections may lie outside of the retained range, don't replace it for them
+        final RetainedGeometry geometry = peekRetainedGeometry(dataSet);
+        final boolean retained = geometry != null && geometry.contains(dataSet, startingIndex, endingIndex);
+
+        // the chunks share their first entry with the last entry of the previous chunk
+        for (int from = startingIndex; from < endingIndex; from += MAX_SEGMENTS_PER_DRAW) {
+
+            final int to = Math.min(endingIndex, from + MAX_SEGMENTS_PER_DRAW);
+            final float[] vertices = getLineBuffer((to - from + 1) * floatsPerEntry);
+
+            int j = 0;
+            float previousX = 0f;
+            float previousY = 0f;
+
+            for (int i = from; i <= to; i++) {
+
+                final float x;
+                final float y;
+
+                if (retained) {
+                    x = geometry.getX(i);
+                    y = geometry.getY(i) * phaseY;
                 } else {
+                    x = getEntryX(dataSet, i);
+                    y = getEntryY(dataSet, i) * phaseY;
+                }
+
+                if (isDrawSteppedEnabled && i > from) {
+                    vertices[j++] = x;
+                    vertices[j++] = fillMin;
+                    vertices[j++] = x;
+                    vertices[j++] = previousY;
+                } else if (i > from && (previousY - fillMin) * (y - fillMin) < 0f) {
 
-                    drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
+                    // the crossing closes the triangles on one side and opens the ones on the other
+                    final float crossingX = previousX + (x - previousX) * (fillMin - previousY) / (y - previousY);
+
+                    vertices[j++] = crossingX;
+                    vertices[j++] = fillMin;
+                    vertices[j++] = crossingX;
+                    vertices[j++] = fillMin;
                 }
-            }
 
-            iterations++;
+                // one vertex on the fill line and one on the line per entry
+                vertices[j++] = x;
+                vertices[j++] = fillMin;
+                vertices[j++] = x;
+                vertices[j++] = y;
 
-        } while (currentStartIndex <= currentEndIndex);
+                previousX = x;
+                previousY = y;
+            }
+
+            trans.pointValuesToPixel(vertices, 0, j);
 
+            drawFilledVertices(c, vertices, j, dataSet);
+        }
     }
 
     /**
@@ -530,30 +742,39 @@ public class LineChartRenderer extends LineRadarRenderer {
         final Path filled = outputPath;
         filled.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        // fill sections may lie outside of the retained range, don't replace it for them
+        final RetainedGeometry geometry = peekRetainedGeometry(dataSet);
+        final boolean retained = geometry != null && geometry.contains(dataSet, startIndex, endIndex);
+
+        float currentX = retained ? geometry.getX(startIndex) : getEntryX(dataSet, startIndex);
+        float currentY = (retained ? geometry.getY(startIndex) : getEntryY(dataSet, startIndex)) * phaseY;
 
-        filled.moveTo(entry.getX(), fillMin);
-        filled.lineTo(entry.getX(), entry.getY() * phaseY);
+        filled.moveTo(currentX, fillMin);
+        filled.lineTo(currentX, currentY);
 
         // create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
         for (int x = startIndex + 1; x <= endIndex; x++) {
 
-            currentEntry = dataSet.getEntryForIndex(x);
+            float previousY = currentY;
 
-            if (isDrawSteppedEnabled) {
-                filled.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+            if (retained) {
+                currentX = geometry.getX(x);
+                currentY = geometry.getY(x) * phaseY;
+            } else {
+                currentX = getEntryX(dataSet, x);
+                currentY = getEntryY(dataSet, x) * phaseY;
             }
 
-            filled.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            if (isDrawSteppedEnabled) {
+                filled.lineTo(currentX, previousY);
+            }
 
-            previousEntry = currentEntry;
+            filled.lineTo(currentX, currentY);
         }
 
         // close up
-        if (currentEntry != null) {
-            filled.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            filled.lineTo(currentX, fillMin);
         }
 
         filled.close();
@@ -636,23 +857,36 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * cache for the circle bitmaps of all datasets
+     * cache for the circle sprites with a transparent hole, shared by all datasets
      */
-    private HashMap<IDataSet, DataSetImageCache> mImageCaches = new HashMap<>();
+    private CircleSpriteCache mCircleSprites = new CircleSpriteCache();
 
     /**
-     * buffer for drawing the circles
+     * paint for drawing the circles and their holes as round points
+     */
+    private Paint mCirclePointPaint;
+
+    /**
+     * buffer for the pixel positions of the visible circles
      */
     private float[] mCirclesBuffer = new float[2];
 
+    /**
+     * buffer for the colors of the visible circles
+     */
+    private int[] mCircleColorBuffer = new int[1];
+
     protected void drawCircles(Canvas c) {
 
-        mRenderPaint.setStyle(Paint.Style.FILL);
+        if (mCirclePointPaint == null) {
+            mCirclePointPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+            mCirclePointPaint.setStyle(Paint.Style.STROKE);
+            mCirclePointPaint.setStrokeCap(Paint.Cap.ROUND);
+        }
 
         float phaseY = mAnimator.getPhaseY();
 
-        mCirclesBuffer[0] = 0;
-        mCirclesBuffer[1] = 0;
+        mCircleSprites.beginFrame();
 
         List<ILineDataSet> dataSets = mChart.getLineData().getDataSets();
 
@@ -664,8 +898,6 @@ public class LineChartRenderer extends LineRadarRenderer {
                     dataSet.getEntryCount() == 0)
                 continue;
 
-            mCirclePaintInner.setColor(dataSet.getCircleHoleColor());
-
             Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
             mXBounds.set(mChart, dataSet);
@@ -678,49 +910,118 @@ public class LineChartRenderer extends LineRadarRenderer {
             boolean drawTransparentCircleHole = drawCircleHole &&
                     dataSet.getCircleHoleColor() == ColorTemplate.COLOR_NONE;
 
-            DataSetImageCache imageCache;
+            int boundsRangeCount = Math.min(mXBounds.range + mXBounds.min, dataSet.getEntryCount() - 1);
 
-            if (mImageCaches.containsKey(dataSet)) {
-                imageCache = mImageCaches.get(dataSet);
-            } else {
-                imageCache = new DataSetImageCache();
-                mImageCaches.put(dataSet, imageCache);
+            if (boundsRangeCount < mXBounds.min)
+                continue;
+
+            RetainedGeometry geometry = getRetainedGeometry(dataSet, mXBounds.min, boundsRangeCount);
+
+            final int count = collectCircles(dataSet, trans, geometry, mXBounds.min, boundsRangeCount, phaseY);
+
+            if (count == 0)
+                continue;
+
+            final float[] positions = mCirclesBuffer;
+            final int[] colors = mCircleColorBuffer;
+
+            if (drawTransparentCircleHole) {
+
+                // rings can not be drawn as points, they are drawn from the shared sprites
+                Bitmap sprite = null;
+
+                for (int j = 0; j < count; j++) {
+
+                    if (j == 0 || colors[j] != colors[j - 1])
+                        sprite = mCircleSprites.getRing(circleRadius, circleHoleRadius, colors[j]);
+
+                    if (sprite != null)
+                        c.drawBitmap(sprite, positions[j * 2] - circleRadius, positions[j * 2 + 1] - circleRadius, null);
+                }
+
+                continue;
             }
 
-            boolean changeRequired = imageCache.init(dataSet);
+            // one call for every run of circles with the same color
+            mCirclePointPaint.setStrokeWidth(circleRadius * 2f);
+
+            for (int from = 0; from < count; ) {
+
+                final int color = colors[from];
+                int to = from + 1;
 
-            // only fill the cache with new bitmaps if a change is required
-            if (changeRequired) {
-                imageCache.fill(dataSet, drawCircleHole, drawTransparentCircleHole);
+                while (to < count && colors[to] == color)
+                    to++;
+
+                mCirclePointPaint.setColor(color);
+                c.drawPoints(positions, from * 2, (to - from) * 2, mCirclePointPaint);
+
+                from = to;
             }
 
-            int boundsRangeCount = mXBounds.range + mXBounds.min;
+            if (drawCircleHole) {
+                mCirclePointPaint.setStrokeWidth(circleHoleRadius * 2f);
+                mCirclePointPaint.setColor(dataSet.getCircleHoleColor());
+                c.drawPoints(positions, 0, count * 2, mCirclePointPaint);
+            }
+        }
+    }
 
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
+    /**
+     * Transforms the entries from to to (inclusive) with one call and collects the pixel
+     * positions and circle colors of the ones within the content rect in the circle buffers.
+     * Returns the number of collected circles.
+     *
+     * @param dataSet
+     * @param trans
+     * @param geometry
+     * @param from
+     * @param to
+     * @param phaseY
+     * @return
+     */
+    private int collectCircles(ILineDataSet dataSet, Transformer trans, RetainedGeometry geometry,
+                               int from, int to, float phaseY) {
 
-                Entry e = dataSet.getEntryForIndex(j);
+        final int size = (to - from + 1) * 2;
 
-                if (e == null) break;
+        if (mCirclesBuffer.length < size)
+            mCirclesBuffer = new float[size];
 
-                mCirclesBuffer[0] = e.getX();
-                mCirclesBuffer[1] = e.getY() * phaseY;
+        if (mCircleColorBuffer.length < size / 2)
+            mCircleColorBuffer = new int[size / 2];
 
-                trans.pointValuesToPixel(mCirclesBuffer);
+        final float[] positions = mCirclesBuffer;
+        final int[] colors = mCircleColorBuffer;
 
-                if (!mViewPortHandler.isInBoundsRight(mCirclesBuffer[0]))
-                    break;
+        for (int j = from, k = 0; j <= to; j++, k += 2) {
+            positions[k] = geometry.getX(j);
+            positions[k + 1] = geometry.getY(j) * phaseY;
+        }
 
-                if (!mViewPortHandler.isInBoundsLeft(mCirclesBuffer[0]) ||
-                        !mViewPortHandler.isInBoundsY(mCirclesBuffer[1]))
-                    continue;
+        trans.pointValuesToPixel(positions, 0, size);
 
-                Bitmap circleBitmap = imageCache.getBitmap(j);
+        final int colorCount = dataSet.getCircleColorCount();
+        int count = 0;
 
-                if (circleBitmap != null) {
-                    c.drawBitmap(circleBitmap, mCirclesBuffer[0] - circleRadius, mCirclesBuffer[1] - circleRadius, null);
-                }
-            }
+        for (int j = from, k = 0; j <= to; j++, k += 2) {
+
+            final float x = positions[k];
+            final float y = positions[k + 1];
+
+            if (!mViewPortHandler.isInBoundsRight(x))
+                break;
+
+            if (!mViewPortHandler.isInBoundsLeft(x) || !mViewPortHandler.isInBoundsY(y))
+                continue;
+
+            positions[count * 2] = x;
+            positions[count * 2 + 1] = y;
+            colors[count] = dataSet.getCircleColor(j % colorCount);
+            count++;
         }
+
+        return count;
     }
 
     @Override
@@ -772,7 +1073,8 @@ public class LineChartRenderer extends LineRadarRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the BitmapPool. This is called when
+     * {@link LineChart#onDetachedFromWindow()} and when no DataSet is drawn on the bitmap anymore.
      */
     public void releaseBitmap() {
         if (mBitmapCanvas != null) {
@@ -780,111 +1082,9 @@ public class LineChartRenderer extends LineRadarRenderer {
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
+            BitmapPool.release(mDrawBitmap.get());
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
     }
-
-    private class DataSetImageCache {
-
-        private Path mCirclePathBuffer = new Path();
-
-        private Bitmap[] circleBitmaps;
-
-        /**
-         * Sets up the cache, returns true if a change of cache was required.
-         *
-         * @param set
-         * @return
-         */
-        protected boolean init(ILineDataSet set) {
-
-            int size = set.getCircleColorCount();
-            boolean changeRequired = false;
-
-            if (circleBitmaps == null) {
-                circleBitmaps = new Bitmap[size];
-                changeRequired = true;
-            } else if (circleBitmaps.length != size) {
-                circleBitmaps = new Bitmap[size];
-                changeRequired = true;
-            }
-
-            return changeRequired;
-        }
-
-        /**
-         * Fills the cache with bitmaps for the given dataset.
-         *
-         * @param set
-         * @param drawCircleHole
-         * @param drawTransparentCircleHole
-         */
-        protected void fill(ILineDataSet set, boolean drawCircleHole, boolean drawTransparentCircleHole) {
-
-            int colorCount = set.getCircleColorCount();
-            float circleRadius = set.getCircleRadius();
-            float circleHoleRadius = set.getCircleHoleRadius();
-
-            for (int i = 0; i < colorCount; i++) {
-
-                Bitmap.Config conf = Bitmap.Config.ARGB_4444;
-                Bitmap circleBitmap = Bitmap.createBitmap((int) (circleRadius * 2.1), (int) (circleRadius * 2.1), conf);
-
-                Canvas canvas = new Canvas(circleBitmap);
-                circleBitmaps[i] = circleBitmap;
-                mRenderPaint.setColor(set.getCircleColor(i));
-
-                if (drawTransparentCircleHole) {
-                    // Begin path for circle with hole
-                    mCirclePathBuffer.reset();
-
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            Path.Direction.CW);
-
-                    // Cut hole in path
-                    mCirclePathBuffer.addCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleHoleRadius,
-                            Path.Direction.CCW);
-
-                    // Fill in-between
-                    canvas.drawPath(mCirclePathBuffer, mRenderPaint);
-                } else {
-
-                    canvas.drawCircle(
-                            circleRadius,
-                            circleRadius,
-                            circleRadius,
-                            mRenderPaint);
-
-                    if (drawCircleHole) {
-                        canvas.drawCircle(
-                                circleRadius,
-                                circleRadius,
-                                circleHoleRadius,
-                                mCirclePaintInner);
-                    }
-                }
-            }
-        }
-
-        /**
-         * Returns the cached Bitmap at the given index.
-         *
-         * @param index
-         * @return
-         */
-        protected Bitmap getBitmap(int index) {
-            return circleBitmaps[index % circleBitmaps.length];
-        }
-    }
 }
@@ -1,11 +1,14 @@
 package com.github.mikephil.charting.renderer;
 
 import android.graphics.Canvas;
+import android.graphics.LinearGradient;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.Shader;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.interfaces.datasets.ILineRadarDataSet;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
@@ -14,8 +17,125 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  */
 public abstract class LineRadarRenderer extends LineScatterCandleRadarRenderer {
 
+    /**
+     * paint used for filling with vertices or a gradient
+     */
+    protected Paint mFillPaint;
+
+    /**
+     * the cached fill gradient and what it was created for
+     */
+    private Shader mFillShader;
+    private int[] mFillShaderColors;
+    private float mFillShaderTop, mFillShaderBottom;
+
     public LineRadarRenderer(ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
+
+        mFillPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        mFillPaint.setStyle(Paint.Style.FILL);
+    }
+
+    /**
+     * Draws the provided path filled the way the given DataSet is configured: with its fill
+     * drawable, fill gradient or fill color.
+     *
+     * @param c
+     * @param filledPath
+     * @param dataSet
+     */
+    protected void drawFilledPath(Canvas c, Path filledPath, ILineRadarDataSet<?> dataSet) {
+
+        final Drawable drawable = dataSet.getFillDrawable();
+        final int[] gradientColors = dataSet.getFillGradientColors();
+
+        if (drawable != null) {
+
+            drawFilledPath(c, filledPath, drawable);
+        } else if (gradientColors != null) {
+
+            prepareFillPaint(dataSet);
+            c.drawPath(filledPath, mFillPaint);
+        } else {
+
+            drawFilledPath(c, filledPath, dataSet.getFillColor(), dataSet.getFillAlpha());
+        }
+    }
+
+    /**
+     * Returns true if the given canvas can draw vertices, hardware accelerated canvases only
+     * support Canvas.drawVertices(...) from API level 29.
+     *
+     * @param c
+     * @return
+     */
+    protected boolean isDrawVerticesSupported(Canvas c) {
+        return !c.isHardwareAccelerated() || Utils.getSDKInt() >= 29;
+    }
+
+    /**
+     * Fills the triangle strip given by the vertices (x, y pairs in pixels) with the fill color
+     * or fill gradient of the given DataSet, fill drawables are not supported.
+     *
+     * @param c
+     * @param vertices
+     * @param count    number of values to use from vertices
+     * @param dataSet
+     */
+    protected void drawFilledVertices(Canvas c, float[] vertices, int count, ILineRadarDataSet<?> dataSet) {
+
+        final boolean gradient = prepareFillPaint(dataSet);
+
+        // the gradient is sampled at the positions of the vertices
+        c.drawVertices(Canvas.VertexMode.TRIANGLE_STRIP, count, vertices, 0,
+                gradient ? vertices : null, 0, null, 0, null, 0, 0, mFillPaint);
+    }
+
+    /**
+     * Sets the fill color or gradient and alpha of the given DataSet to the fill paint. Returns
+     * true if a gradient is used.
+     *
+     * @param dataSet
+     * @return
+     */
+    private boolean prepareFillPaint(ILineRadarDataSet<?> dataSet) {
+
+        final int[] gradientColors = dataSet.getFillGradientColors();
+
+        if (gradientColors != null) {
+            mFillPaint.setShader(getFillShader(gradientColors));
+            mFillPaint.setColor(0xff000000);
+            mFillPaint.setAlpha(dataSet.getFillAlpha());
+            return true;
+        }
+
+        mFillPaint.setShader(null);
+        mFillPaint.setColor((dataSet.getFillAlpha() << 24) | (dataSet.getFillColor() & 0xffffff));
+        return false;
+    }
+
+    /**
+     * Returns a vertical gradient of the given colors from the top to the bottom of the content
+     * rect, the gradient is reused until the colors or the content rect change.
+     *
+     * @param colors
+     * @return
+     */
+    protected Shader getFillShader(int[] colors) {
+
+        final float top = mViewPortHandler.contentTop();
+        final float bottom = mViewPortHandler.contentBottom();
+
+        if (mFillShader == null || colors != mFillShaderColors
+                || top != mFillShaderTop || bottom != mFillShaderBottom) {
+
+            mFillShader = new LinearGradient(0f, top, 0f, bottom, colors, null, Shader.TileMode.CLAMP);
+            mFillShaderColors = colors;
+            mFillShaderTop = top;
+            mFillShaderBottom = bottom;
+        }
+
+        return mFillShader;
     }
 
     /**
@@ -0,0 +1,229 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+
+/**
+ * Merges adjacent candles of a DataSet into coarser candles (first open, max high, min low, last
+ * close) for drawing zoomed out charts. Candles are merged in buckets of a power of two entries
+ * that start at multiples of the bucket size, so the merged candles do not change while panning.
+ * The merged candles are cached per bucket size (zoom level) until the DataSet changes (see
+ * BaseDataSet.getVersion()), nothing is cached for DataSets that do not keep track of their
+ * changes. Coarser levels are merged from finer cached levels instead of the entries. Only the
+ * finest level requested so far and the current one are kept, so the cache holds at most one
+ * and a half times the candles of the finest level.
+ */
+public class OhlcResampler {
+
+    /**
+     * number of values per merged candle: x of the first and last entry, open, high, low, close
+     */
+    public static final int STRIDE = 6;
+
+    private ICandleDataSet mDataSet = null;
+    private long mVersion;
+    private int mEntryCount;
+
+    /**
+     * the merged candles per level, the bucket size of a level is 2^level
+     */
+    private float[][] mLevels = new float[31][];
+
+    /**
+     * the finest cached level, -1 if there is none
+     */
+    private int mFinestLevel = -1;
+
+    private long mEntryReads = 0;
+
+    /**
+     * bucket size used for the last drawing, 1 if not merged
+     */
+    private int mBucketSize = 1;
+
+    /**
+     * Returns the smallest bucket size (a power of two) that contains at least the given number
+     * of entries.
+     *
+     * @param entries
+     * @return
+     */
+    public static int getBucketSize(float entries) {
+
+        if (!(entries > 1f))
+            return 1;
+
+        if (entries >= (1 << 30))
+            return 1 << 30;
+
+        int size = Integer.highestOneBit((int) Math.ceil(entries));
+        return size < entries ? size << 1 : size;
+    }
+
+    /**
+     * Returns the merged candles of the given DataSet for the given bucket size (a power of two),
+     * STRIDE values per candle. The candle at index i merges the entries from i * bucketSize to
+     * (i + 1) * bucketSize - 1.
+     *
+     * @param set
+     * @param bucketSize
+     * @return
+     */
+    public float[] getCandles(ICandleDataSet set, int bucketSize) {
+
+        final int count = set.getEntryCount();
+        final long version = BaseDataSet.getVersionOf(set);
+
+        if (set != mDataSet || version != mVersion || version < 0 || count != mEntryCount) {
+            clear();
+            mDataSet = set;
+            mVersion = version;
+            mEntryCount = count;
+        }
+
+        final int level = Integer.numberOfTrailingZeros(bucketSize);
+
+        if (mLevels[level] == null) {
+
+            // merge from the next finer cached level if there is one
+            int finer = level - 1;
+
+            while (finer > 0 && mLevels[finer] == null)
+                finer--;
+
+            if (finer > 0)
+                mLevels[level] = merge(mLevels[finer], 1 << (level - finer));
+            else
+                mLevels[level] = read(set, bucketSize);
+        }
+
+        if (mFinestLevel < 0 || level < mFinestLevel)
+            mFinestLevel = level;
+
+        // keep only the finest level to merge from and the current one
+        for (int i = 0; i < mLevels.length; i++) {
+            if (i != level && i != mFinestLevel)
+                mLevels[i] = null;
+        }
+
+        return mLevels[level];
+    }
+
+    private float[] read(ICandleDataSet set, int bucketSize) {
+
+        final int count = set.getEntryCount();
+        final int candles = (count + bucketSize - 1) / bucketSize;
+
+        float[] values = new float[candles * STRIDE];
+
+        for (int c = 0, j = 0; c < candles; c++, j += STRIDE) {
+
+            final int from = c * bucketSize;
+            final int to = Math.min(count, from + bucketSize);
+
+            float high = -Float.MAX_VALUE;
+            float low = Float.MAX_VALUE;
+            CandleEntry e = null;
+
+            for (int i = from; i < to; i++) {
+
+                e = set.getEntryForIndex(i);
+
+                if (i == from) {
+                    values[j] = e.getX();
+                    values[j + 2] = e.getOpen();
+                }
+
+                if (e.getHigh() > high)
+                    high = e.getHigh();
+
+                if (e.getLow() < low)
+                    low = e.getLow();
+            }
+
+            values[j + 1] = e.getX();
+            values[j + 3] = high;
+            values[j + 4] = low;
+            values[j + 5] = e.getClose();
+        }
+
+        mEntryReads += count;
+        return values;
+    }
+
+    private static float[] merge(float[] finer, int factor) {
+
+        final int finerCandles = finer.length / STRIDE;
+        final int candles = (finerCandles + factor - 1) / factor;
+
+        float[] values = new float[candles * STRIDE];
+
+        for (int c = 0, j = 0; c < candles; c++, j += STRIDE) {
+
+            final int from = c * factor * STRIDE;
+            final int to = Math.min(finerCandles, (c + 1) * factor) * STRIDE;
+
+            float high = -Float.MAX_VALUE;
+            float low = Float.MAX_VALUE;
+
+            for (int k = from; k < to; k += STRIDE) {
+
+                if (finer[k + 3] > high)
+                    high = finer[k + 3];
+
+                if (finer[k + 4] < low)
+                    low = finer[k + 4];
+            }
+
+            values[j] = finer[from];
+            values[j + 1] = finer[to - STRIDE + 1];
+            values[j + 2] = finer[from + 2];
+            values[j + 3] = high;
+            values[j + 4] = low;
+            values[j + 5] = finer[to - STRIDE + 5];
+        }
+
+        return values;
+    }
+
+    /**
+     * Sets the bucket size the DataSet was last drawn with, 1 if not merged.
+     *
+     * @param bucketSize
+     */
+    public void setBucketSize(int bucketSize) {
+        mBucketSize = bucketSize;
+    }
+
+    /**
+     * Returns the bucket size the DataSet was last drawn with, 1 if not merged.
+     *
+     * @return
+     */
+    public int getBucketSize() {
+        return mBucketSize;
+    }
+
+    /**
+     * Returns the number of entries that have been read so far.
+     *
+     * @return
+     */
+    public long getEntryReadCount() {
+        return mEntryReads;
+    }
+
+    /**
+     * Drops all cached levels.
+     */
+    public void clear() {
+
+        for (int i = 0; i < mLevels.length; i++)
+            mLevels[i] = null;
+
+        mFinestLevel = -1;
+        mDataSet = null;
+        mBucketSize = 1;
+    }
+}
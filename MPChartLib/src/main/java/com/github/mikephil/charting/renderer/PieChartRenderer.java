@@ -16,7 +16,6 @@ import android.text.StaticLayout;
 import android.text.TextPaint;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
-import com.github.mikephil.charting.charts.LineChart;
 import com.github.mikephil.charting.charts.PieChart;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.PieData;
@@ -25,6 +24,7 @@ import com.github.mikephil.charting.data.PieEntry;
 import com.github.mikephil.charting.formatter.IValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.utils.BitmapPool;
 import com.github.mikephil.charting.utils.ColorTemplate;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
@@ -132,8 +132,14 @@ public class PieChartRenderer extends DataRenderer {
                 || (drawBitmap.getWidth() != width)
                 || (drawBitmap.getHeight() != height)) {
 
+            releaseBitmap();
+
             if (width > 0 && height > 0) {
-                drawBitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_4444);
+                drawBitmap = BitmapPool.obtain(width, height, Bitmap.Config.ARGB_4444);
+
+                if (drawBitmap == null)
+                    return;
+
                 mDrawBitmap = new WeakReference<>(drawBitmap);
                 mBitmapCanvas = new Canvas(drawBitmap);
             } else
@@ -674,7 +680,12 @@ public class PieChartRenderer extends DataRenderer {
     @Override
     public void drawExtras(Canvas c) {
         drawHole(c);
-        c.drawBitmap(mDrawBitmap.get(), 0, 0, null);
+
+        Bitmap drawBitmap = mDrawBitmap == null ? null : mDrawBitmap.get();
+
+        if (drawBitmap != null)
+            c.drawBitmap(drawBitmap, 0, 0, null);
+
         drawCenterText(c);
     }
 
@@ -1051,7 +1062,8 @@ public class PieChartRenderer extends DataRenderer {
     }
 
     /**
-     * Releases the drawing bitmap. This should be called when {@link LineChart#onDetachedFromWindow()}.
+     * Returns the drawing bitmap to the BitmapPool. This should be called when
+     * {@link PieChart#onDetachedFromWindow()}.
      */
     public void releaseBitmap() {
         if (mBitmapCanvas != null) {
@@ -1059,10 +1071,7 @@ public class PieChartRenderer extends DataRenderer {
             mBitmapCanvas = null;
         }
         if (mDrawBitmap != null) {
-            Bitmap drawBitmap = mDrawBitmap.get();
-            if (drawBitmap != null) {
-                drawBitmap.recycle();
-            }
+            BitmapPool.release(mDrawBitmap.get());
             mDrawBitmap.clear();
             mDrawBitmap = null;
         }
@@ -125,14 +125,7 @@ public class RadarChartRenderer extends LineRadarRenderer {
 
         if (dataSet.isDrawFilledEnabled()) {
 
-            final Drawable drawable = dataSet.getFillDrawable();
-            if (drawable != null) {
-
-                drawFilledPath(c, surface, drawable);
-            } else {
-
-                drawFilledPath(c, surface, dataSet.getFillColor(), dataSet.getFillAlpha());
-            }
+            drawFilledPath(c, surface, dataSet);
         }
 
         mRenderPaint.setStrokeWidth(dataSet.getLineWidth());
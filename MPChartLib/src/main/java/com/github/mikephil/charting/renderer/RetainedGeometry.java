@@ -0,0 +1,342 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Retains the values of a range of entries of a DataSet, so that renderers do not have to read
+ * the entries again on every frame. While panning and zooming only the transformation changes,
+ * the retained values are simply transformed with the current matrix. The entries are only read
+ * again if the requested range leaves the retained range (the requested range plus a margin on
+ * both sides) or the DataSet has changed (see BaseDataSet.getVersion()). If only a range of
+ * entries changed (see BaseDataSet.getDirtyRange(...)), only the retained entries of that range
+ * are read again. Nothing is retained for DataSets that do not keep track of their changes.
+ *
+ * IMPORTANT: The version of a DataSet only changes through its own methods (notifyDataSetChanged(),
+ * replaceY(...), adding and removing entries). Entries that are modified directly (e.g. with
+ * Entry.setY(...)) are NOT picked up, calling invalidate() on the chart draws the retained, stale
+ * values until notifyDataSetChanged() is called on the DataSet. This is why renderers only retain
+ * values if enabled (see BarLineScatterCandleBubbleRenderer.setRetainedGeometryEnabled(...)).
+ */
+public class RetainedGeometry {
+
+    /**
+     * number of values retained per entry
+     */
+    protected final int mStride;
+
+    /**
+     * the margin on each side as a fraction of the requested range
+     */
+    private float mMarginFactor = 0.5f;
+
+    private IDataSet mDataSet = null;
+    private long mVersion;
+    private int mEntryCount;
+
+    /**
+     * the retained index range, inclusive
+     */
+    private int mFrom = 0;
+    private int mTo = -1;
+
+    protected float[] mValues = new float[0];
+
+    private long mEntryReads = 0;
+
+    /**
+     * buffer for the changed entry range
+     */
+    private int[] mDirtyRange = new int[2];
+
+    /**
+     * Retains the x- and y-value of each entry.
+     */
+    public RetainedGeometry() {
+        this(2);
+    }
+
+    /**
+     * @param stride the number of values retained per entry, subclasses that retain more than
+     *               x and y have to override read(...)
+     */
+    protected RetainedGeometry(int stride) {
+        mStride = stride;
+    }
+
+    /**
+     * Makes sure the entries between min and max (inclusive) are retained. Returns true if
+     * the retained values changed.
+     *
+     * @param set
+     * @param min
+     * @param max
+     * @return
+     */
+    public boolean update(IDataSet set, int min, int max) {
+
+        final int count = set.getEntryCount();
+
+        min = Math.max(0, min);
+        max = Math.min(count - 1, max);
+
+        if (contains(set, min, max))
+            return false;
+
+        if (updateDirtyRange(set, min, max))
+            return true;
+
+        load(set, min, max, mMarginFactor);
+        return true;
+    }
+
+    /**
+     * Reads the entries between min and max (inclusive) without a margin, even if they are
+     * retained already. Used to draw from the values of this object without retaining them.
+     *
+     * @param set
+     * @param min
+     * @param max
+     */
+    public void reload(IDataSet set, int min, int max) {
+
+        final int count = set.getEntryCount();
+
+        load(set, Math.max(0, min), Math.min(count - 1, max), 0f);
+    }
+
+    private void load(IDataSet set, int min, int max, float marginFactor) {
+
+        final int count = set.getEntryCount();
+
+        mDataSet = set;
+        mVersion = BaseDataSet.getVersionOf(set);
+        mEntryCount = count;
+
+        if (max < min) {
+            mFrom = 0;
+            mTo = -1;
+            return;
+        }
+
+        final int margin = (int) ((max - min + 1) * marginFactor);
+
+        mFrom = Math.max(0, min - margin);
+        mTo = Math.min(count - 1, max + margin);
+
+        final int size = (mTo - mFrom + 1) * mStride;
+
+        if (mValues.length < size)
+            mValues = new float[size];
+
+        readRange(set, mFrom, mTo);
+    }
+
+    /**
+     * Reads only the retained entries that changed since the retained version, if the entry
+     * count did not change, the retained range still covers min to max and the DataSet knows
+     * which entries changed. Returns false if everything has to be read again.
+     *
+     * @param set
+     * @param min
+     * @param max
+     * @return
+     */
+    private boolean updateDirtyRange(IDataSet set, int min, int max) {
+
+        if (set != mDataSet || mVersion < 0 || set.getEntryCount() != mEntryCount
+                || min < mFrom || max > mTo)
+            return false;
+
+        final BaseDataSet<?> dataSet = (BaseDataSet<?>) set;
+
+        if (!dataSet.getDirtyRange(mVersion, mDirtyRange))
+            return false;
+
+        mVersion = dataSet.getVersion();
+        readRange(set, Math.max(mFrom, mDirtyRange[0]), Math.min(mTo, mDirtyRange[1] - 1));
+        return true;
+    }
+
+    /**
+     * Reads the entries between from and to (inclusive), which have to be within the retained
+     * range.
+     *
+     * @param set
+     * @param from
+     * @param to
+     */
+    private void readRange(IDataSet set, int from, int to) {
+
+        for (int i = from, offset = (from - mFrom) * mStride; i <= to; i++, offset += mStride) {
+
+            if (!read(set, i, mValues, offset)) {
+                for (int j = 0; j < mStride; j++)
+                    mValues[offset + j] = Float.NaN;
+            }
+        }
+
+        if (to >= from)
+            mEntryReads += to - from + 1;
+    }
+
+    /**
+     * Returns true if the entries between from and to (inclusive) of the given DataSet are
+     * retained and up to date.
+     *
+     * @param set
+     * @param from
+     * @param to
+     * @return
+     */
+    public boolean contains(IDataSet set, int from, int to) {
+        return set == mDataSet && mVersion >= 0 && BaseDataSet.getVersionOf(set) == mVersion
+                && set.getEntryCount() == mEntryCount
+                && from >= mFrom && to <= mTo;
+    }
+
+    /**
+     * Writes the values of the entry at the given index into the array, mStride values starting
+     * at offset. Returns false if there is no entry at the index. If only x and y are retained,
+     * they are read with DataSet.getEntryX(...) / getEntryY(...), so DataSets that store their
+     * values in columns do not create an Entry for every value. Otherwise read(Entry, ...) is
+     * called with the entry.
+     *
+     * @param set
+     * @param index
+     * @param values
+     * @param offset
+     * @return
+     */
+    protected boolean read(IDataSet set, int index, float[] values, int offset) {
+
+        if (mStride == 2 && set instanceof DataSet) {
+            values[offset] = ((DataSet<?>) set).getEntryX(index);
+            values[offset + 1] = ((DataSet<?>) set).getEntryY(index);
+            return true;
+        }
+
+        Entry e = set.getEntryForIndex(index);
+
+        if (e == null)
+            return false;
+
+        read(e, values, offset);
+        return true;
+    }
+
+    /**
+     * Writes the values of the given entry into the array, mStride values starting at offset.
+     *
+     * @param e
+     * @param values
+     * @param offset
+     */
+    protected void read(Entry e, float[] values, int offset) {
+        values[offset] = e.getX();
+        values[offset + 1] = e.getY();
+    }
+
+    /**
+     * Writes the x-value and the y-value multiplied with phaseY of the entries between from and
+     * to (inclusive) into out, ready to be transformed with Transformer.pointValuesToPixel(...).
+     * Returns the number of values written.
+     *
+     * @param from
+     * @param to
+     * @param phaseY
+     * @param out
+     * @param offset index in out of the first value
+     * @return
+     */
+    public int getPoints(int from, int to, float phaseY, float[] out, int offset) {
+
+        final float[] values = mValues;
+        int j = offset;
+
+        for (int i = (from - mFrom) * mStride, end = (to - mFrom) * mStride; i <= end; i += mStride) {
+            out[j++] = values[i];
+            out[j++] = values[i + 1] * phaseY;
+        }
+
+        return j - offset;
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index, which has to be retained.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mValues[(index - mFrom) * mStride];
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index, which has to be retained.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mValues[(index - mFrom) * mStride + 1];
+    }
+
+    /**
+     * Returns the retained value with the given component index (0 = x, 1 = y, 2... as written by
+     * read(...)) of the entry at the given index.
+     *
+     * @param index
+     * @param component
+     * @return
+     */
+    public float getValue(int index, int component) {
+        return mValues[(index - mFrom) * mStride + component];
+    }
+
+    /**
+     * Returns the first retained entry index.
+     *
+     * @return
+     */
+    public int getFrom() {
+        return mFrom;
+    }
+
+    /**
+     * Returns the last retained entry index (inclusive).
+     *
+     * @return
+     */
+    public int getTo() {
+        return mTo;
+    }
+
+    /**
+     * Sets the margin that is retained on each side of the requested range as a fraction of the
+     * requested range. Default 0.5f.
+     *
+     * @param factor
+     */
+    public void setMarginFactor(float factor) {
+        mMarginFactor = Math.max(0f, factor);
+    }
+
+    /**
+     * Returns the number of entries that have been read so far.
+     *
+     * @return
+     */
+    public long getEntryReadCount() {
+        return mEntryReads;
+    }
+
+    /**
+     * Forgets the retained values, the next update(...) reads the entries again.
+     */
+    public void clear() {
+        mDataSet = null;
+    }
+}
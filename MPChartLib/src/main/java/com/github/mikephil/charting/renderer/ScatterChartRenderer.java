@@ -11,6 +11,7 @@ import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBulkShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -31,6 +32,8 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
     @Override
     public void initBuffers() {
+        clearRetainedGeometry();
+        clearDensityGrids();
     }
 
     @Override
@@ -45,7 +48,15 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
         }
     }
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * buffer for the pixel positions of the visible shapes
+     */
+    protected float[] mPixelBuffer = new float[2];
+
+    /**
+     * buffer for the colors of the visible shapes
+     */
+    protected int[] mColorBuffer = new int[1];
 
     protected void drawDataSet(Canvas c, IScatterDataSet dataSet) {
 
@@ -64,31 +75,76 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
             return;
         }
 
-        int max = (int)(Math.min(
-                Math.ceil((float)dataSet.getEntryCount() * mAnimator.getPhaseX()),
-                (float)dataSet.getEntryCount()));
+        mXBounds.set(mChart, dataSet);
+
+        final int max = mXBounds.min + mXBounds.range;
+
+        if (dataSet.isDrawDensityEnabled()
+                && mXBounds.range + 1 >= dataSet.getDensityThreshold()
+                && drawDensity(c, dataSet, trans, Utils.convertDpToPixel(dataSet.getDensityCellSize()),
+                dataSet.getDensityColors()))
+            return;
+
+        RetainedGeometry geometry = getRetainedGeometry(dataSet, mXBounds.min, max);
+
+        if (max < mXBounds.min)
+            return;
+
+        final int size = (max - mXBounds.min + 1) * 2;
+
+        if (mPixelBuffer.length < size)
+            mPixelBuffer = new float[size];
+
+        if (mColorBuffer.length < size / 2)
+            mColorBuffer = new int[size / 2];
 
-        for (int i = 0; i < max; i++) {
+        final float[] positions = mPixelBuffer;
+        final int[] colors = mColorBuffer;
 
-            Entry e = dataSet.getEntryForIndex(i);
+        // transform the whole visible range at once
+        geometry.getPoints(mXBounds.min, max, phaseY, positions, 0);
+        trans.pointValuesToPixel(positions, 0, size);
 
-            mPixelBuffer[0] = e.getX();
-            mPixelBuffer[1] = e.getY() * phaseY;
+        // move the shapes inside the content rect to the front
+        int count = 0;
 
-            trans.pointValuesToPixel(mPixelBuffer);
+        for (int i = mXBounds.min, j = 0; i <= max; i++, j += 2) {
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0]))
+            if (!viewPortHandler.isInBoundsRight(positions[j]))
                 break;
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0])
-                    || !viewPortHandler.isInBoundsY(mPixelBuffer[1]))
+            if (!viewPortHandler.isInBoundsLeft(positions[j])
+                    || !viewPortHandler.isInBoundsY(positions[j + 1]))
                 continue;
 
-            mRenderPaint.setColor(dataSet.getColor(i / 2));
-            renderer.renderShape(
+            positions[count * 2] = positions[j];
+            positions[count * 2 + 1] = positions[j + 1];
+            colors[count] = dataSet.getColor(i);
+            count++;
+        }
+
+        if (renderer instanceof IBulkShapeRenderer) {
+
+            final boolean singleColor = dataSet.getColors().size() == 1;
+
+            if (singleColor)
+                mRenderPaint.setColor(dataSet.getColor());
+
+            ((IBulkShapeRenderer) renderer).renderShapes(
                     c, dataSet, mViewPortHandler,
-                    mPixelBuffer[0], mPixelBuffer[1],
+                    positions, count, singleColor ? null : colors,
                     mRenderPaint);
+
+        } else {
+
+            for (int i = 0; i < count; i++) {
+
+                mRenderPaint.setColor(colors[i]);
+                renderer.renderShape(
+                        c, dataSet, mViewPortHandler,
+                        positions[i * 2], positions[i * 2 + 1],
+                        mRenderPaint);
+            }
         }
     }
 
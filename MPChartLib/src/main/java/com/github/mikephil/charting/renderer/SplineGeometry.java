@@ -0,0 +1,213 @@
+package com.github.mikephil.charting.renderer;
+
+import android.graphics.Path;
+
+import com.github.mikephil.charting.data.BaseDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+/**
+ * Caches the entry values and the bezier control points of the segments of a line. The control
+ * points only depend on the entry values, the cubic intensity and the mode, so they are calculated
+ * once for the whole DataSet and only again if its version (see BaseDataSet.getVersion()), the
+ * intensity or the mode changes, not on every pan, zoom or animation frame. Only the visible
+ * segments are turned into a Path on every frame. For DataSets that do not keep track of their
+ * changes, only the requested range is calculated on every update.
+ */
+public class SplineGeometry {
+
+    /**
+     * number of values per segment: x and y of the first and second control point
+     */
+    private static final int STRIDE = 4;
+
+    private IDataSet mDataSet = null;
+    private long mVersion = -1;
+    private int mEntryCount;
+    private float mIntensity;
+    private boolean mHorizontal;
+
+    /**
+     * the index range of the cached entry values, inclusive
+     */
+    private int mFirst = 0;
+    private int mLast = -1;
+
+    /**
+     * x and y of the entries from mFirst to mLast
+     */
+    private float[] mValues = new float[0];
+
+    /**
+     * control points of the segments leading to the entries from mFirst + 1 to mLast
+     */
+    private float[] mControlPoints = new float[0];
+
+    private long mCalculations = 0;
+
+    /**
+     * Makes sure the control points of the segments leading to the entries from from to to
+     * (inclusive) are calculated. Returns true if they had to be calculated.
+     *
+     * @param set
+     * @param from       first entry the path is drawn from
+     * @param to         last entry the path is drawn to
+     * @param intensity  cubic intensity, ignored for horizontal bezier
+     * @param horizontal true for horizontal bezier, false for cubic bezier
+     * @return
+     */
+    public boolean update(IDataSet set, int from, int to, float intensity, boolean horizontal) {
+
+        final long version = BaseDataSet.getVersionOf(set);
+        final int entryCount = set.getEntryCount();
+
+        if (set == mDataSet && version >= 0 && version == mVersion && entryCount == mEntryCount
+                && horizontal == mHorizontal && (horizontal || intensity == mIntensity))
+            return false;
+
+        mDataSet = set;
+        mVersion = version;
+        mEntryCount = entryCount;
+        mIntensity = intensity;
+        mHorizontal = horizontal;
+
+        // the whole DataSet if its changes are known, otherwise the range plus one entry on each
+        // side for the control points
+        mFirst = version >= 0 ? 0 : Math.max(0, from - 1);
+        mLast = version >= 0 ? entryCount - 1 : Math.min(entryCount - 1, to + 1);
+
+        final int count = Math.max(0, mLast - mFirst + 1);
+
+        if (mValues.length < count * 2)
+            mValues = new float[count * 2];
+
+        if (mControlPoints.length < count * STRIDE)
+            mControlPoints = new float[count * STRIDE];
+
+        final float[] values = mValues;
+
+        for (int i = 0; i < count; i++) {
+            values[i * 2] = BarLineScatterCandleBubbleRenderer.getEntryX(set, mFirst + i);
+            values[i * 2 + 1] = BarLineScatterCandleBubbleRenderer.getEntryY(set, mFirst + i);
+        }
+
+        final float[] points = mControlPoints;
+
+        // j is relative to mFirst, the segment leading to entry j is stored at j - 1
+        for (int j = 1, offset = 0; j < count; j++, offset += STRIDE) {
+
+            final float prevX = values[(j - 1) * 2];
+            final float prevY = values[(j - 1) * 2 + 1];
+            final float curX = values[j * 2];
+            final float curY = values[j * 2 + 1];
+
+            if (horizontal) {
+
+                final float cpx = prevX + (curX - prevX) / 2.0f;
+
+                points[offset] = cpx;
+                points[offset + 1] = prevY;
+                points[offset + 2] = cpx;
+                points[offset + 3] = curY;
+
+            } else {
+
+                // the neighbours are clamped to the cached range, which only ends before the
+                // ends of the DataSet if the segments at its ends are not drawn
+                final int prevPrev = Math.max(j - 2, 0);
+                final int next = Math.min(j + 1, count - 1);
+
+                final float prevDx = (curX - values[prevPrev * 2]) * intensity;
+                final float prevDy = (curY - values[prevPrev * 2 + 1]) * intensity;
+                final float curDx = (values[next * 2] - prevX) * intensity;
+                final float curDy = (values[next * 2 + 1] - prevY) * intensity;
+
+                points[offset] = prevX + prevDx;
+                points[offset + 1] = prevY + prevDy;
+                points[offset + 2] = curX - curDx;
+                points[offset + 3] = curY - curDy;
+            }
+        }
+
+        mCalculations++;
+        return true;
+    }
+
+    /**
+     * Adds the segments leading to the entries from to to (inclusive) to the given path, which
+     * has to be at the entry before from. The y-values are multiplied with phaseY.
+     *
+     * @param path
+     * @param from
+     * @param to
+     * @param phaseY
+     */
+    public void cubicTo(Path path, int from, int to, float phaseY) {
+
+        final float[] values = mValues;
+        final float[] points = mControlPoints;
+
+        for (int j = from, offset = (from - mFirst - 1) * STRIDE; j <= to; j++, offset += STRIDE) {
+
+            final int value = (j - mFirst) * 2;
+
+            path.cubicTo(
+                    points[offset], points[offset + 1] * phaseY,
+                    points[offset + 2], points[offset + 3] * phaseY,
+                    values[value], values[value + 1] * phaseY);
+        }
+    }
+
+    /**
+     * Returns the control points of the segment leading to the entry at the given index: x and y
+     * of the first and second control point.
+     *
+     * @param index
+     * @param out
+     */
+    public void getControlPoints(int index, float[] out) {
+
+        final int offset = (index - mFirst - 1) * STRIDE;
+
+        for (int i = 0; i < STRIDE; i++)
+            out[i] = mControlPoints[offset + i];
+    }
+
+    /**
+     * Returns the x-value of the entry at the given index, which has to be cached.
+     *
+     * @param index
+     * @return
+     */
+    public float getX(int index) {
+        return mValues[(index - mFirst) * 2];
+    }
+
+    /**
+     * Returns the y-value of the entry at the given index, which has to be cached.
+     *
+     * @param index
+     * @return
+     */
+    public float getY(int index) {
+        return mValues[(index - mFirst) * 2 + 1];
+    }
+
+    /**
+     * Returns how often the control points have been calculated so far.
+     *
+     * @return
+     */
+    public long getCalculationCount() {
+        return mCalculations;
+    }
+
+    /**
+     * Drops the control points.
+     */
+    public void clear() {
+        mDataSet = null;
+        mVersion = -1;
+        mFirst = 0;
+        mLast = -1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Base class of the IBulkShapeRenderers, splits the shapes into runs of the same color that are
+ * drawn with as few draw calls as possible.
+ */
+public abstract class BulkShapeRenderer implements IBulkShapeRenderer {
+
+    /**
+     * buffer for the lines of a run, order: x1,y1,x2,y2,...
+     */
+    protected float[] mLineBuffer = new float[0];
+
+    @Override
+    public void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                             float[] positions, int count, int[] colors, Paint renderPaint) {
+
+        int end;
+
+        for (int start = 0; start < count; start = end) {
+
+            end = start + 1;
+
+            if (colors == null) {
+                end = count;
+            } else {
+
+                while (end < count && colors[end] == colors[start])
+                    end++;
+
+                renderPaint.setColor(colors[start]);
+            }
+
+            renderShapeRun(c, dataSet, viewPortHandler, positions, start, end, renderPaint);
+        }
+    }
+
+    /**
+     * Renders the shapes at the positions from (inclusive) to (exclusive), all with the current
+     * color of the paint.
+     *
+     * @param c
+     * @param dataSet
+     * @param viewPortHandler
+     * @param positions
+     * @param from
+     * @param to
+     * @param renderPaint
+     */
+    protected abstract void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                           float[] positions, int from, int to, Paint renderPaint);
+
+    /**
+     * Returns the line buffer with room for at least the given number of values.
+     *
+     * @param size
+     * @return
+     */
+    protected float[] getLineBuffer(int size) {
+
+        if (mLineBuffer.length < size)
+            mLineBuffer = new float[size];
+
+        return mLineBuffer;
+    }
+}
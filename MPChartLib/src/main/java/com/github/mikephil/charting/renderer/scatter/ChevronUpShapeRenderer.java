@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class ChevronUpShapeRenderer implements IShapeRenderer
+public class ChevronUpShapeRenderer extends BulkShapeRenderer
 {
 
 
@@ -39,4 +39,35 @@ public class ChevronUpShapeRenderer implements IShapeRenderer
                 renderPaint);
 
     }
+
+    @Override
+    protected void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                  float[] positions, int from, int to, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        final float[] lines = getLineBuffer((to - from) * 8);
+        int j = 0;
+
+        for (int i = from * 2, end = to * 2; i < end; i += 2) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            lines[j++] = posX;
+            lines[j++] = posY - (2 * shapeHalf);
+            lines[j++] = posX + (2 * shapeHalf);
+            lines[j++] = posY;
+
+            lines[j++] = posX;
+            lines[j++] = posY - (2 * shapeHalf);
+            lines[j++] = posX - (2 * shapeHalf);
+            lines[j++] = posY;
+        }
+
+        c.drawLines(lines, 0, j, renderPaint);
+    }
 }
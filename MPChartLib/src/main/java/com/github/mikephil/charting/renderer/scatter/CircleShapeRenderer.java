@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class CircleShapeRenderer implements IShapeRenderer
+public class CircleShapeRenderer extends BulkShapeRenderer
 {
 
     @Override
@@ -60,4 +60,43 @@ public class CircleShapeRenderer implements IShapeRenderer
 
     }
 
+    @Override
+    protected void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                  float[] positions, int from, int to, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        if (!(shapeSize > 0.0))
+            return;
+
+        // transparent holes can't be drawn as points
+        if (shapeHoleSize > 0f && shapeHoleColor == ColorTemplate.COLOR_NONE) {
+
+            for (int i = from * 2, end = to * 2; i < end; i += 2)
+                renderShape(c, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+
+            return;
+        }
+
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        // points with a round cap are circles as wide as the stroke
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.ROUND);
+        renderPaint.setStrokeWidth(shapeSize);
+
+        c.drawPoints(positions, from * 2, (to - from) * 2, renderPaint);
+
+        if (shapeHoleSize > 0f) {
+            renderPaint.setColor(shapeHoleColor);
+            renderPaint.setStrokeWidth(shapeHoleSize);
+            c.drawPoints(positions, from * 2, (to - from) * 2, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(cap);
+    }
 }
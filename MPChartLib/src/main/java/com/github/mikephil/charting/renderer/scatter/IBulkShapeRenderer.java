@@ -0,0 +1,30 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * IShapeRenderer that can render many shapes at once, which is a lot faster than rendering them
+ * one by one with renderShape(...). The ScatterChartRenderer uses renderShapes(...) if the
+ * shape renderer of a DataSet implements this interface.
+ */
+public interface IBulkShapeRenderer extends IShapeRenderer {
+
+    /**
+     * Renders a shape at each of the provided positions.
+     *
+     * @param c               Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       Positions to draw the shapes at in pixels, order: x,y,x,y,...
+     * @param count           Number of shapes to draw
+     * @param colors          Color of each shape, or null to draw all shapes with the current
+     *                        color of the paint
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                      float[] positions, int count, int[] colors, Paint renderPaint);
+}
@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class SquareShapeRenderer implements IShapeRenderer
+public class SquareShapeRenderer extends BulkShapeRenderer
 {
 
 
@@ -60,4 +60,77 @@ public class SquareShapeRenderer implements IShapeRenderer
                     renderPaint);
         }
     }
+
+    @Override
+    protected void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                  float[] positions, int from, int to, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+        final float shapeStrokeSizeHalf = shapeStrokeSize / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        if (!(shapeSize > 0.0))
+            return;
+
+        final Paint.Cap cap = renderPaint.getStrokeCap();
+
+        // points with a square cap are squares as wide as the stroke
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeCap(Paint.Cap.SQUARE);
+
+        if (shapeHoleSize > 0f) {
+
+            // the outlines around the holes
+            final float d = shapeHoleSizeHalf + shapeStrokeSizeHalf;
+            final float[] lines = getLineBuffer((to - from) * 16);
+            int j = 0;
+
+            for (int i = from * 2, end = to * 2; i < end; i += 2) {
+
+                final float left = positions[i] - d;
+                final float top = positions[i + 1] - d;
+                final float right = positions[i] + d;
+                final float bottom = positions[i + 1] + d;
+
+                lines[j++] = left;
+                lines[j++] = top;
+                lines[j++] = right;
+                lines[j++] = top;
+
+                lines[j++] = right;
+                lines[j++] = top;
+                lines[j++] = right;
+                lines[j++] = bottom;
+
+                lines[j++] = right;
+                lines[j++] = bottom;
+                lines[j++] = left;
+                lines[j++] = bottom;
+
+                lines[j++] = left;
+                lines[j++] = bottom;
+                lines[j++] = left;
+                lines[j++] = top;
+            }
+
+            renderPaint.setStrokeWidth(shapeStrokeSize);
+            c.drawLines(lines, 0, j, renderPaint);
+
+            if (shapeHoleColor != ColorTemplate.COLOR_NONE) {
+                renderPaint.setColor(shapeHoleColor);
+                renderPaint.setStrokeWidth(shapeHoleSize);
+                c.drawPoints(positions, from * 2, (to - from) * 2, renderPaint);
+            }
+
+        } else {
+            renderPaint.setStrokeWidth(shapeSize);
+            c.drawPoints(positions, from * 2, (to - from) * 2, renderPaint);
+        }
+
+        renderPaint.setStrokeCap(cap);
+    }
 }
@@ -13,7 +13,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class TriangleShapeRenderer implements IShapeRenderer
+public class TriangleShapeRenderer extends BulkShapeRenderer
 {
 
     protected Path mTrianglePathBuffer = new Path();
@@ -77,4 +77,73 @@ public class TriangleShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    protected void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                  float[] positions, int from, int to, Paint renderPaint) {
+
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2.f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2.f;
+
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+
+        renderPaint.setStyle(Paint.Style.FILL);
+
+        // all triangles of the run in one path
+        Path tri = mTrianglePathBuffer;
+        tri.reset();
+
+        for (int i = from * 2, end = to * 2; i < end; i += 2) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            tri.moveTo(posX, posY - shapeHalf);
+            tri.lineTo(posX + shapeHalf, posY + shapeHalf);
+            tri.lineTo(posX - shapeHalf, posY + shapeHalf);
+
+            if (shapeSize > 0.0) {
+                tri.lineTo(posX, posY - shapeHalf);
+
+                tri.moveTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.lineTo(posX + shapeHalf - shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.lineTo(posX,
+                        posY - shapeHalf + shapeStrokeSize);
+                tri.lineTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+            }
+
+            tri.close();
+        }
+
+        c.drawPath(tri, renderPaint);
+        tri.reset();
+
+        if (shapeSize > 0.0 &&
+                shapeHoleColor != ColorTemplate.COLOR_NONE) {
+
+            renderPaint.setColor(shapeHoleColor);
+
+            for (int i = from * 2, end = to * 2; i < end; i += 2) {
+
+                final float posX = positions[i];
+                final float posY = positions[i + 1];
+
+                tri.moveTo(posX,
+                        posY - shapeHalf + shapeStrokeSize);
+                tri.lineTo(posX + shapeHalf - shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.lineTo(posX - shapeHalf + shapeStrokeSize,
+                        posY + shapeHalf - shapeStrokeSize);
+                tri.close();
+            }
+
+            c.drawPath(tri, renderPaint);
+            tri.reset();
+        }
+    }
+}
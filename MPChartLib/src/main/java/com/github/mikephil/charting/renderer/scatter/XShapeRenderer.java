@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class XShapeRenderer implements IShapeRenderer
+public class XShapeRenderer extends BulkShapeRenderer
 {
 
 
@@ -39,4 +39,34 @@ public class XShapeRenderer implements IShapeRenderer
 
     }
 
-}
\ No newline at end of file
+    @Override
+    protected void renderShapeRun(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                  float[] positions, int from, int to, Paint renderPaint) {
+
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        final float[] lines = getLineBuffer((to - from) * 8);
+        int j = 0;
+
+        for (int i = from * 2, end = to * 2; i < end; i += 2) {
+
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            lines[j++] = posX - shapeHalf;
+            lines[j++] = posY - shapeHalf;
+            lines[j++] = posX + shapeHalf;
+            lines[j++] = posY + shapeHalf;
+
+            lines[j++] = posX + shapeHalf;
+            lines[j++] = posY - shapeHalf;
+            lines[j++] = posX - shapeHalf;
+            lines[j++] = posY + shapeHalf;
+        }
+
+        c.drawLines(lines, 0, j, renderPaint);
+    }
+}
@@ -0,0 +1,209 @@
+package com.github.mikephil.charting.utils;
+
+import android.content.ComponentCallbacks2;
+import android.content.Context;
+import android.content.res.Configuration;
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Pool of offscreen Bitmaps shared by the renderers of all charts. A renderer obtains a Bitmap when
+ * it first needs one and keeps it across frames while its chart is attached to a window. It
+ * releases the Bitmap when the chart is detached, its size changes or nothing is drawn on it
+ * anymore, so that charts that are attached one after another (e.g. in a RecyclerView) reuse the
+ * same Bitmaps instead of allocating new ones. Only the released Bitmaps are held by the pool,
+ * bounded by a global memory budget; the least recently released ones are recycled first.
+ * <p/>
+ * Charts call register(...) when they are attached and unregister() when they are detached. While
+ * at least one chart is attached, the pool listens to ComponentCallbacks2.onTrimMemory(...) once
+ * for all of them.
+ */
+public final class BitmapPool {
+
+    private static long mMemoryBudget = 16 * 1024 * 1024;
+
+    private static long mPooledBytes = 0;
+
+    /**
+     * the released Bitmaps, least recently released first
+     */
+    private static List<Bitmap> mPool = new ArrayList<>();
+
+    /**
+     * number of attached charts, the context the trim callback is registered with while it is > 0
+     */
+    private static int mRegistrations = 0;
+
+    private static Context mRegisteredContext = null;
+
+    private static final ComponentCallbacks2 mTrimMemoryCallback = new ComponentCallbacks2() {
+
+        @Override
+        public void onTrimMemory(int level) {
+            BitmapPool.onTrimMemory(level);
+        }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {
+        }
+
+        @Override
+        public void onLowMemory() {
+            clear();
+        }
+    };
+
+    private BitmapPool() {
+    }
+
+    /**
+     * Returns a transparent Bitmap of the given size and config, taken from the pool if there is
+     * one. Returns null if the Bitmap could not be created.
+     *
+     * @param width
+     * @param height
+     * @param config
+     * @return
+     */
+    public static synchronized Bitmap obtain(int width, int height, Bitmap.Config config) {
+
+        for (int i = mPool.size() - 1; i >= 0; i--) {
+
+            Bitmap bitmap = mPool.get(i);
+
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height && bitmap.getConfig() == config) {
+                mPool.remove(i);
+                mPooledBytes -= getByteCount(bitmap);
+                bitmap.eraseColor(Color.TRANSPARENT);
+                return bitmap;
+            }
+        }
+
+        if (width <= 0 || height <= 0)
+            return null;
+
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns the given Bitmap to the pool. It must not be used by the caller afterwards.
+     *
+     * @param bitmap
+     */
+    public static synchronized void release(Bitmap bitmap) {
+
+        if (bitmap == null || bitmap.isRecycled() || mPool.contains(bitmap))
+            return;
+
+        mPool.add(bitmap);
+        mPooledBytes += getByteCount(bitmap);
+
+        trimToSize(mMemoryBudget);
+    }
+
+    /**
+     * Sets the maximum number of bytes the released Bitmaps may use. Default: 16 MB
+     *
+     * @param bytes
+     */
+    public static synchronized void setMemoryBudget(long bytes) {
+        mMemoryBudget = Math.max(0, bytes);
+        trimToSize(mMemoryBudget);
+    }
+
+    /**
+     * Returns the maximum number of bytes the released Bitmaps may use.
+     *
+     * @return
+     */
+    public static synchronized long getMemoryBudget() {
+        return mMemoryBudget;
+    }
+
+    /**
+     * Returns the number of bytes used by the released Bitmaps.
+     *
+     * @return
+     */
+    public static synchronized long getPooledBytes() {
+        return mPooledBytes;
+    }
+
+    /**
+     * Registers a chart that is attached to a window. The first registration makes the pool
+     * listen to onTrimMemory(...) of the application context of the given context.
+     *
+     * @param context
+     */
+    public static synchronized void register(Context context) {
+
+        if (mRegistrations++ > 0)
+            return;
+
+        Context appContext = context.getApplicationContext();
+        mRegisteredContext = appContext != null ? appContext : context;
+        mRegisteredContext.registerComponentCallbacks(mTrimMemoryCallback);
+    }
+
+    /**
+     * Unregisters a chart that has been detached from its window. The pool stops listening to
+     * onTrimMemory(...) when the last chart is unregistered.
+     */
+    public static synchronized void unregister() {
+
+        if (mRegistrations == 0 || --mRegistrations > 0)
+            return;
+
+        mRegisteredContext.unregisterComponentCallbacks(mTrimMemoryCallback);
+        mRegisteredContext = null;
+    }
+
+    /**
+     * Releases pooled Bitmaps according to the given level of ComponentCallbacks2.onTrimMemory(...):
+     * all of them from TRIM_MEMORY_RUNNING_LOW on (which includes the app being in the background),
+     * half of them otherwise.
+     *
+     * @param level
+     */
+    public static synchronized void onTrimMemory(int level) {
+
+        if (level >= ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+            clear();
+        else
+            trimToSize(mPooledBytes / 2);
+    }
+
+    /**
+     * Recycles all pooled Bitmaps.
+     */
+    public static synchronized void clear() {
+
+        for (Bitmap bitmap : mPool)
+            bitmap.recycle();
+
+        mPool.clear();
+        mPooledBytes = 0;
+    }
+
+    private static void trimToSize(long bytes) {
+
+        Iterator<Bitmap> it = mPool.iterator();
+
+        while (mPooledBytes > bytes && it.hasNext()) {
+
+            Bitmap bitmap = it.next();
+            it.remove();
+
+            mPooledBytes -= getByteCount(bitmap);
+            bitmap.recycle();
+        }
+    }
+
+    private static long getByteCount(Bitmap bitmap) {
+        return (long) bitmap.getRowBytes() * bitmap.getHeight();
+    }
+}
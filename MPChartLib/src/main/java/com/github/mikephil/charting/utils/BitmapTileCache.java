@@ -0,0 +1,225 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache of equally sized Bitmap tiles, indexed by their position in a row of tiles. All tiles are
+ * dropped when the key they have been rendered for changes. The number of tiles is bounded by a
+ * memory budget, the tiles farthest away from the ones in use are evicted first and their
+ * Bitmaps are reused for new tiles.
+ */
+public class BitmapTileCache {
+
+    private long mMemoryBudget = 16 * 1024 * 1024;
+
+    private int mTileWidth = 0;
+    private int mTileHeight = 0;
+
+    private float[] mKey = new float[0];
+    private long mVersion = -1;
+
+    private LinkedHashMap<Integer, Bitmap> mTiles = new LinkedHashMap<>();
+
+    /**
+     * Bitmaps of dropped tiles that can be reused
+     */
+    private List<Bitmap> mFreeBitmaps = new ArrayList<>();
+
+    /**
+     * Drops all tiles if they have been rendered for a different key, version or tile size.
+     * Returns true if the tiles had to be dropped.
+     *
+     * @param key
+     * @param version
+     * @param tileWidth
+     * @param tileHeight
+     * @return
+     */
+    public boolean update(float[] key, long version, int tileWidth, int tileHeight) {
+
+        if (tileWidth != mTileWidth || tileHeight != mTileHeight) {
+            clear();
+            mTileWidth = tileWidth;
+            mTileHeight = tileHeight;
+        } else if (version == mVersion && Arrays.equals(key, mKey)) {
+            return false;
+        }
+
+        if (mKey.length != key.length)
+            mKey = new float[key.length];
+
+        System.arraycopy(key, 0, mKey, 0, key.length);
+        mVersion = version;
+
+        invalidate();
+        return true;
+    }
+
+    /**
+     * Returns the tile at the given index, null if it has not been rendered.
+     *
+     * @param index
+     * @return
+     */
+    public Bitmap getTile(int index) {
+        return mTiles.get(index);
+    }
+
+    /**
+     * Returns a transparent Bitmap for the tile at the given index, which has to be rendered by
+     * the caller. If the memory budget is used up, the tile farthest away from the given center
+     * tile is evicted. Returns null if the Bitmap could not be created.
+     *
+     * @param index
+     * @param center
+     * @return
+     */
+    public Bitmap obtainTile(int index, int center) {
+
+        Bitmap tile = mTiles.remove(index);
+
+        while (tile == null && mTiles.size() >= getMaxTileCount()) {
+
+            Iterator<Map.Entry<Integer, Bitmap>> it = mTiles.entrySet().iterator();
+            Map.Entry<Integer, Bitmap> farthest = null;
+
+            while (it.hasNext()) {
+
+                Map.Entry<Integer, Bitmap> entry = it.next();
+
+                if (farthest == null
+                        || Math.abs(entry.getKey() - center) > Math.abs(farthest.getKey() - center))
+                    farthest = entry;
+            }
+
+            if (farthest == null)
+                break;
+
+            tile = mTiles.remove(farthest.getKey());
+        }
+
+        if (tile == null && !mFreeBitmaps.isEmpty())
+            tile = mFreeBitmaps.remove(mFreeBitmaps.size() - 1);
+
+        if (tile == null) {
+
+            if (mTileWidth <= 0 || mTileHeight <= 0)
+                return null;
+
+            tile = Bitmap.createBitmap(mTileWidth, mTileHeight, Bitmap.Config.ARGB_8888);
+
+            if (tile == null)
+                return null;
+        } else {
+            tile.eraseColor(Color.TRANSPARENT);
+        }
+
+        mTiles.put(index, tile);
+        return tile;
+    }
+
+    /**
+     * Returns the number of tiles of the current size that fit into the memory budget.
+     *
+     * @return
+     */
+    public int getMaxTileCount() {
+        return getMaxTileCount(mTileWidth, mTileHeight);
+    }
+
+    /**
+     * Returns the number of tiles of the given size that fit into the memory budget.
+     *
+     * @param tileWidth
+     * @param tileHeight
+     * @return
+     */
+    public int getMaxTileCount(int tileWidth, int tileHeight) {
+
+        final long bytes = (long) tileWidth * tileHeight * 4;
+
+        if (bytes <= 0)
+            return 0;
+
+        return (int) Math.min(Integer.MAX_VALUE, mMemoryBudget / bytes);
+    }
+
+    /**
+     * Sets the maximum number of bytes the tiles may use. Default: 16 MB
+     *
+     * @param bytes
+     */
+    public void setMemoryBudget(long bytes) {
+        mMemoryBudget = Math.max(0, bytes);
+
+        while (mTiles.size() > getMaxTileCount()) {
+            Iterator<Bitmap> it = mTiles.values().iterator();
+            it.next().recycle();
+            it.remove();
+        }
+
+        for (Bitmap bitmap : mFreeBitmaps)
+            bitmap.recycle();
+
+        mFreeBitmaps.clear();
+    }
+
+    /**
+     * Returns the maximum number of bytes the tiles may use.
+     *
+     * @return
+     */
+    public long getMemoryBudget() {
+        return mMemoryBudget;
+    }
+
+    /**
+     * Returns the number of rendered tiles.
+     *
+     * @return
+     */
+    public int size() {
+        return mTiles.size();
+    }
+
+    /**
+     * Drops all tiles, their Bitmaps are kept for reuse.
+     */
+    public void invalidate() {
+        mFreeBitmaps.addAll(mTiles.values());
+        mTiles.clear();
+    }
+
+    /**
+     * Drops all tiles and their Bitmaps without recycling them, for when they may still be drawn.
+     */
+    public void release() {
+        mTiles.clear();
+        mFreeBitmaps.clear();
+    }
+
+    /**
+     * Drops all tiles and recycles their Bitmaps.
+     */
+    public void clear() {
+
+        for (Bitmap bitmap : mTiles.values())
+            bitmap.recycle();
+
+        for (Bitmap bitmap : mFreeBitmaps)
+            bitmap.recycle();
+
+        mTiles.clear();
+        mFreeBitmaps.clear();
+        mKey = new float[0];
+        mVersion = -1;
+    }
+}
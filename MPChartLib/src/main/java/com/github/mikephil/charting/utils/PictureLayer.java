@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Canvas;
+import android.graphics.Picture;
+
+/**
+ * A layer of a chart that is recorded into a Picture once and then played back on the following
+ * frames until it is invalidated. Playing back a Picture only replays the recorded draw
+ * operations, the work of computing them (axis labels, limit lines, legend layout) is skipped.
+ */
+public class PictureLayer {
+
+    private Picture mPicture = null;
+
+    private boolean mValid = false;
+
+    /**
+     * Returns true if the layer has been recorded and not been invalidated since.
+     *
+     * @return
+     */
+    public boolean isValid() {
+        return mValid;
+    }
+
+    /**
+     * Starts recording the layer, the returned canvas has to be drawn on and endRecording()
+     * called afterwards.
+     *
+     * @param width
+     * @param height
+     * @return
+     */
+    public Canvas beginRecording(int width, int height) {
+
+        if (mPicture == null)
+            mPicture = new Picture();
+
+        mValid = false;
+        return mPicture.beginRecording(width, height);
+    }
+
+    /**
+     * Finishes recording the layer, it is valid afterwards.
+     */
+    public void endRecording() {
+        mPicture.endRecording();
+        mValid = true;
+    }
+
+    /**
+     * Plays the recorded layer back on the given canvas.
+     *
+     * @param c
+     */
+    public void draw(Canvas c) {
+        c.drawPicture(mPicture);
+    }
+
+    /**
+     * Marks the layer to be recorded again before it is drawn the next time.
+     */
+    public void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Drops the recorded layer.
+     */
+    public void release() {
+        mPicture = null;
+        mValid = false;
+    }
+
+    /**
+     * Returns true if Pictures can be played back on the given canvas, hardware accelerated
+     * canvases support this from API level 23 on.
+     *
+     * @param c
+     * @return
+     */
+    public static boolean isSupported(Canvas c) {
+        return !c.isHardwareAccelerated() || Utils.getSDKInt() >= 23;
+    }
+}
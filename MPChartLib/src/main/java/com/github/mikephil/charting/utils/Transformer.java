@@ -34,6 +34,48 @@ public class Transformer {
 
     protected ViewPortHandler mViewPortHandler;
 
+    /**
+     * value, touch and offset matrix concatenated, see getValueToPixelMatrix()
+     */
+    private Matrix mMBuffer1 = new Matrix();
+
+    /**
+     * inverse of mMBuffer1, see getPixelToValueMatrix()
+     */
+    private Matrix mMBuffer2 = new Matrix();
+
+    private boolean mValueToPixelValid = false;
+    private boolean mPixelToValueValid = false;
+
+    /**
+     * version of the touch matrix the cached transformations were calculated with
+     */
+    private long mMatrixTouchVersion = -1;
+
+    /**
+     * scale and translation of the value and offset matrix, tracked in Java so that the
+     * concatenated transformation can be applied without Matrix if it is axis-aligned
+     */
+    private float mValueScaleX = 1f, mValueTransX = 0f, mValueScaleY = 1f, mValueTransY = 0f;
+    private float mOffsetScaleX = 1f, mOffsetTransX = 0f, mOffsetScaleY = 1f, mOffsetTransY = 0f;
+
+    /**
+     * false if the value or offset matrix has been handed out and might contain rotation or
+     * skew, the concatenated matrix is then checked instead
+     */
+    private boolean mValueMatrixKnown = true;
+    private boolean mOffsetMatrixKnown = true;
+
+    /**
+     * concatenated scale and translation, only valid if mAxisAligned is true
+     */
+    private float mScaleX = 1f, mTransX = 0f, mScaleY = 1f, mTransY = 0f;
+
+    private boolean mAxisAligned = true;
+    private boolean mAxisAlignedValid = false;
+
+    private float[] mMatrixValuesBuffer = new float[9];
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -63,6 +105,14 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        mValueScaleX = scaleX;
+        mValueTransX = -xChartMin * scaleX;
+        mValueScaleY = -scaleY;
+        mValueTransY = yChartMin * scaleY;
+        mValueMatrixKnown = true;
+
+        invalidateMatrices();
     }
 
     /**
@@ -84,6 +134,135 @@ public class Transformer {
                     .setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1.0f, -1.0f);
         }
+
+        if (!inverted)
+            setOffsetScaleAndTranslation(1f, mViewPortHandler.offsetLeft(),
+                    1f, mViewPortHandler.getChartHeight() - mViewPortHandler.offsetBottom());
+        else
+            setOffsetScaleAndTranslation(1f, mViewPortHandler.offsetLeft(),
+                    -1f, mViewPortHandler.offsetTop());
+    }
+
+    /**
+     * Tells the Transformer the scale and translation the offset matrix has been set to, x' = x *
+     * scaleX + transX, y' = y * scaleY + transY. Needs to be called by prepareMatrixOffset(...).
+     *
+     * @param scaleX
+     * @param transX
+     * @param scaleY
+     * @param transY
+     */
+    protected void setOffsetScaleAndTranslation(float scaleX, float transX, float scaleY, float transY) {
+
+        mOffsetScaleX = scaleX;
+        mOffsetTransX = transX;
+        mOffsetScaleY = scaleY;
+        mOffsetTransY = transY;
+        mOffsetMatrixKnown = true;
+
+        invalidateMatrices();
+    }
+
+    /**
+     * Marks the concatenated value-to-pixel transformation and its inverse as outdated. Needs to
+     * be called when the value or offset matrix is modified.
+     */
+    protected void invalidateMatrices() {
+        mValueToPixelValid = false;
+        mPixelToValueValid = false;
+        mAxisAlignedValid = false;
+    }
+
+    /**
+     * Invalidates the cached transformations if the touch matrix has changed since they were
+     * calculated.
+     */
+    private void checkMatrixTouch() {
+
+        long touchVersion = mViewPortHandler.getMatrixTouchVersion();
+
+        if (mMatrixTouchVersion != touchVersion) {
+            invalidateMatrices();
+            mMatrixTouchVersion = touchVersion;
+        }
+    }
+
+    /**
+     * Returns true if the concatenated value-to-pixel transformation only scales and translates
+     * (no rotation or skew). Points and rects are then transformed in Java instead of with
+     * Matrix, which is faster for large buffers.
+     *
+     * @return
+     */
+    public boolean isAxisAligned() {
+
+        checkMatrixTouch();
+
+        if (mAxisAlignedValid)
+            return mAxisAligned;
+
+        if (mValueMatrixKnown && mOffsetMatrixKnown) {
+
+            // the touch matrix only ever scales and translates
+            double touchScaleX = mViewPortHandler.getScaleX();
+            double touchScaleY = mViewPortHandler.getScaleY();
+
+            mScaleX = (float) (mValueScaleX * touchScaleX * mOffsetScaleX);
+            mTransX = (float) ((mValueTransX * touchScaleX + mViewPortHandler.getTransX())
+                    * mOffsetScaleX + mOffsetTransX);
+            mScaleY = (float) (mValueScaleY * touchScaleY * mOffsetScaleY);
+            mTransY = (float) ((mValueTransY * touchScaleY + mViewPortHandler.getTransY())
+                    * mOffsetScaleY + mOffsetTransY);
+
+            mAxisAligned = true;
+
+        } else {
+
+            // the value or offset matrix may have been modified, check the concatenated matrix
+            float[] v = mMatrixValuesBuffer;
+            getValueToPixelMatrix().getValues(v);
+
+            mAxisAligned = v[Matrix.MSKEW_X] == 0f && v[Matrix.MSKEW_Y] == 0f
+                    && v[Matrix.MPERSP_0] == 0f && v[Matrix.MPERSP_1] == 0f && v[Matrix.MPERSP_2] == 1f;
+
+            mScaleX = v[Matrix.MSCALE_X];
+            mTransX = v[Matrix.MTRANS_X];
+            mScaleY = v[Matrix.MSCALE_Y];
+            mTransY = v[Matrix.MTRANS_Y];
+        }
+
+        mAxisAlignedValid = true;
+        return mAxisAligned;
+    }
+
+    /**
+     * Transforms the (x, y) pairs in pts between the indices from (inclusive) and to (exclusive)
+     * with x' = x * scaleX + transX, y' = y * scaleY + transY.
+     */
+    private static void mapPoints(float[] pts, int from, int to,
+                                  float scaleX, float transX, float scaleY, float transY) {
+
+        for (int i = from; i < to - 1; i += 2) {
+            pts[i] = pts[i] * scaleX + transX;
+            pts[i + 1] = pts[i + 1] * scaleY + transY;
+        }
+    }
+
+    /**
+     * Transforms the rect with x' = x * scaleX + transX, y' = y * scaleY + transY and sorts
+     * the edges like Matrix.mapRect(...).
+     */
+    private static void mapRect(RectF r, float scaleX, float transX, float scaleY, float transY) {
+
+        float left = r.left * scaleX + transX;
+        float right = r.right * scaleX + transX;
+        float top = r.top * scaleY + transY;
+        float bottom = r.bottom * scaleY + transY;
+
+        r.left = Math.min(left, right);
+        r.right = Math.max(left, right);
+        r.top = Math.min(top, bottom);
+        r.bottom = Math.max(top, bottom);
     }
 
     protected float[] valuePointsForGenerateTransformedValuesScatter = new float[1];
@@ -118,7 +297,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -154,7 +333,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -192,7 +371,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -229,7 +408,7 @@ public class Transformer {
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -241,10 +420,7 @@ public class Transformer {
      * @param path
      */
     public void pathValueToPixel(Path path) {
-
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        path.transform(getValueToPixelMatrix());
     }
 
     /**
@@ -266,10 +442,22 @@ public class Transformer {
      * @param pts
      */
     public void pointValuesToPixel(float[] pts) {
+        pointValuesToPixel(pts, 0, pts.length);
+    }
+
+    /**
+     * Transforms the points in the given part of the array with all matrices.
+     *
+     * @param pts
+     * @param from index of the first x-value (inclusive)
+     * @param to   index after the last y-value (exclusive)
+     */
+    public void pointValuesToPixel(float[] pts, int from, int to) {
 
-        mMatrixValueToPx.mapPoints(pts);
-        mViewPortHandler.getMatrixTouch().mapPoints(pts);
-        mMatrixOffset.mapPoints(pts);
+        if (isAxisAligned())
+            mapPoints(pts, from, to, mScaleX, mTransX, mScaleY, mTransY);
+        else
+            getValueToPixelMatrix().mapPoints(pts, from, pts, from, (to - from) / 2);
     }
 
     /**
@@ -279,9 +467,7 @@ public class Transformer {
      */
     public void rectValueToPixel(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -296,9 +482,7 @@ public class Transformer {
         r.top *= phaseY;
         r.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     public void rectToPixelPhaseHorizontal(RectF r, float phaseY) {
@@ -307,9 +491,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -319,9 +501,7 @@ public class Transformer {
      */
     public void rectValueToPixelHorizontal(RectF r) {
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -336,9 +516,7 @@ public class Transformer {
         r.left *= phaseY;
         r.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(r);
-        mViewPortHandler.getMatrixTouch().mapRect(r);
-        mMatrixOffset.mapRect(r);
+        mapRectValueToPixel(r);
     }
 
     /**
@@ -348,13 +526,17 @@ public class Transformer {
      */
     public void rectValuesToPixel(List<RectF> rects) {
 
-        Matrix m = getValueToPixelMatrix();
-
         for (int i = 0; i < rects.size(); i++)
-            m.mapRect(rects.get(i));
+            mapRectValueToPixel(rects.get(i));
     }
 
-    protected Matrix mPixelToValueMatrixBuffer = new Matrix();
+    private void mapRectValueToPixel(RectF r) {
+
+        if (isAxisAligned())
+            mapRect(r, mScaleX, mTransX, mScaleY, mTransY);
+        else
+            getValueToPixelMatrix().mapRect(r);
+    }
 
     /**
      * Transforms the given array of touch positions (pixels) (x, y, x, y, ...)
@@ -364,18 +546,11 @@ public class Transformer {
      */
     public void pixelsToValue(float[] pixels) {
 
-        Matrix tmp = mPixelToValueMatrixBuffer;
-        tmp.reset();
-
-        // invert all matrixes to convert back to the original value
-        mMatrixOffset.invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mViewPortHandler.getMatrixTouch().invert(tmp);
-        tmp.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(tmp);
-        tmp.mapPoints(pixels);
+        if (isAxisAligned() && mScaleX != 0f && mScaleY != 0f)
+            mapPoints(pixels, 0, pixels.length,
+                    1f / mScaleX, -mTransX / mScaleX, 1f / mScaleY, -mTransY / mScaleY);
+        else
+            getPixelToValueMatrix().mapPoints(pixels);
     }
 
     /**
@@ -433,27 +608,67 @@ public class Transformer {
         return MPPointD.getInstance(xPx, yPx);
     }
 
+    /**
+     * Returns the matrix that maps values to pixels before the touch matrix is applied. Modifying
+     * it is allowed, the concatenated matrices are recalculated on the next transformation.
+     *
+     * @return
+     */
     public Matrix getValueMatrix() {
+        mValueMatrixKnown = false;
+        invalidateMatrices();
         return mMatrixValueToPx;
     }
 
+    /**
+     * Returns the matrix that contains the offsets. Modifying it is allowed, the concatenated
+     * matrices are recalculated on the next transformation.
+     *
+     * @return
+     */
     public Matrix getOffsetMatrix() {
+        mOffsetMatrixKnown = false;
+        invalidateMatrices();
         return mMatrixOffset;
     }
 
-    private Matrix mMBuffer1 = new Matrix();
-
+    /**
+     * Returns the value, touch and offset matrix concatenated. The matrix is cached and only
+     * recalculated if one of them changed, do not modify it.
+     *
+     * @return
+     */
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
+
+        checkMatrixTouch();
+
+        if (!mValueToPixelValid) {
+
+            mMBuffer1.set(mMatrixValueToPx);
+            mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
+            mMBuffer1.postConcat(mMatrixOffset);
+
+            mValueToPixelValid = true;
+            mPixelToValueValid = false;
+        }
+
         return mMBuffer1;
     }
 
-    private Matrix mMBuffer2 = new Matrix();
-
+    /**
+     * Returns the inverse of getValueToPixelMatrix(). The matrix is cached, do not modify it.
+     *
+     * @return
+     */
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+
+        Matrix valueToPixel = getValueToPixelMatrix();
+
+        if (!mPixelToValueValid) {
+            valueToPixel.invert(mMBuffer2);
+            mPixelToValueValid = true;
+        }
+
         return mMBuffer2;
     }
 }
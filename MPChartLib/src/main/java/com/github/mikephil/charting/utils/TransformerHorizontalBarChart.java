@@ -34,6 +34,13 @@ public class TransformerHorizontalBarChart extends Transformer {
             mMatrixOffset.postScale(-1.0f, 1.0f);
         }
 
+        if (!inverted)
+            setOffsetScaleAndTranslation(1f, mViewPortHandler.offsetLeft(),
+                    1f, mViewPortHandler.getChartHeight() - mViewPortHandler.offsetBottom());
+        else
+            setOffsetScaleAndTranslation(-1f, mViewPortHandler.getChartWidth() - mViewPortHandler.offsetRight(),
+                    1f, mViewPortHandler.getChartHeight() - mViewPortHandler.offsetBottom());
+
         // mMatrixOffset.set(offset);
 
         // mMatrixOffset.reset();
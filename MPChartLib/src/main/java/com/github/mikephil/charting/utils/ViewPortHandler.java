@@ -18,6 +18,11 @@ public class ViewPortHandler {
      */
     protected final Matrix mMatrixTouch = new Matrix();
 
+    /**
+     * incremented every time the touch matrix changes, lets Transformers detect stale caches
+     */
+    private long mMatrixTouchVersion = 0;
+
     /**
      * this rectangle defines the area in which graph values can be drawn
      */
@@ -473,6 +478,9 @@ public class ViewPortHandler {
         matrixBuffer[Matrix.MSCALE_Y] = mScaleY;
 
         matrix.setValues(matrixBuffer);
+
+        if (matrix == mMatrixTouch)
+            mMatrixTouchVersion++;
     }
 
     /**
@@ -571,6 +579,7 @@ public class ViewPortHandler {
 
     /**
      * Returns the charts-touch matrix used for translation and scale on touch.
+     * Changes to the matrix have to be applied with refresh(...).
      *
      * @return
      */
@@ -578,6 +587,38 @@ public class ViewPortHandler {
         return mMatrixTouch;
     }
 
+    /**
+     * Returns a number that changes every time the touch matrix is changed via refresh(...) or
+     * setTouchTransX(...).
+     *
+     * @return
+     */
+    public long getMatrixTouchVersion() {
+        return mMatrixTouchVersion;
+    }
+
+    /**
+     * Sets the horizontal translation of the touch matrix without limiting it, for temporarily
+     * drawing parts of the chart that are not visible (e.g. tiles next to the visible content).
+     * Returns the previous translation, which has to be set again afterwards.
+     *
+     * @param transX
+     * @return
+     */
+    public float setTouchTransX(float transX) {
+
+        final float previous = getTransX();
+
+        mMatrixTouch.getValues(matrixBuffer);
+        matrixBuffer[Matrix.MTRANS_X] = transX;
+        mMatrixTouch.setValues(matrixBuffer);
+
+        mTransX = transX;
+        mMatrixTouchVersion++;
+
+        return previous;
+    }
+
     /**
      * ################ ################ ################ ################
      */
@@ -0,0 +1,172 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.buffer.BarBuffer;
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.highlight.BarHighlighter;
+import com.github.mikephil.charting.highlight.Highlight;
+import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.renderer.BarChartRenderer;
+import com.github.mikephil.charting.utils.MPPointD;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertTrue;
+
+public class BarAggregationTest {
+
+    /**
+     * exposes drawDataSet(...), drawData(...) is not needed
+     */
+    private static class TestBarChartRenderer extends BarChartRenderer {
+
+        TestBarChartRenderer(BarDataProvider chart, TestViewPortHandler viewPortHandler) {
+            super(chart, new ChartAnimator(), viewPortHandler);
+        }
+
+        void draw(Canvas c, IBarDataSet set) {
+            drawDataSet(c, set, 0);
+        }
+    }
+
+    private static final int COUNT = 200000;
+
+    private static TestBarChart createChart(TestViewPortHandler handler) {
+
+        List<BarEntry> entries = new ArrayList<>();
+
+        // a spike in every 1000 bars
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new BarEntry(i, i % 1000 == 500 ? 100f : 1f + (i % 7)));
+
+        BarData data = new BarData(new BarDataSet(entries, ""));
+        data.setBarWidth(0.8f);
+
+        TestBarChart chart = new TestBarChart();
+        chart.setup(data, handler, -0.5f, COUNT, 100f, 0f);
+        chart.maxHighlightDistance = 1000f;
+        chart.lowestVisibleX = -0.5f;
+        chart.highestVisibleX = COUNT - 0.5f;
+        return chart;
+    }
+
+    @Test
+    public void testAggregatedDrawing() {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestBarChart chart = createChart(handler);
+        TestBarChartRenderer renderer = new TestBarChartRenderer(chart, handler);
+        renderer.initBuffers();
+
+        IBarDataSet set = chart.getBarData().getDataSetByIndex(0);
+
+        // one rect per pixel column of the content
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+        assertTrue("rects " + c.rects, c.rects > 0 && c.rects <= 262);
+        assertTrue(c.minX >= 19f && c.maxX <= 281f);
+
+        // the spikes of 100 reach the top of the content
+        assertEquals(10f, c.minY, 0.01f);
+        assertEquals(180f, c.maxY, 0.01f);
+
+        chart.aggregation = false;
+
+        c = new CountingCanvas();
+        renderer.draw(c, set);
+        assertEquals(COUNT, c.rects);
+
+        // zoomed in, bars are wider than the threshold and drawn one by one
+        chart.aggregation = true;
+        chart.lowestVisibleX = 1000f;
+        chart.highestVisibleX = 1099f;
+        handler.setTouch(COUNT / 100f, 1f, -1000.5f / COUNT * 260f * (COUNT / 100f), 0f);
+
+        c = new CountingCanvas();
+        renderer.draw(c, set);
+        assertTrue("rects " + c.rects, c.rects >= 99 && c.rects <= 101);
+    }
+
+    @Test
+    public void testAggregatedHighlight() {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestBarChart chart = createChart(handler);
+        BarHighlighter highlighter = new BarHighlighter(chart);
+
+        // the pixel column containing the spike at 1500, touched half way up
+        MPPointD px = chart.transformer.getPixelForValues(1500f, 50f);
+        float x = (float) Math.floor(px.x) + 0.1f;
+        float y = (float) px.y;
+
+        Highlight high = highlighter.getHighlight(x, y);
+        assertNotNull(high);
+        assertEquals(1500f, high.getX());
+        assertEquals(100f, high.getY());
+        assertEquals(0, high.getDataSetIndex());
+
+        // without aggregation the closest entry is taken
+        chart.aggregation = false;
+
+        high = highlighter.getHighlight(x, y);
+        assertNotNull(high);
+        assertEquals(Math.round(chart.transformer.getValuesByTouchPoint(x, y).x), Math.round(high.getX()));
+    }
+
+    @Test
+    public void testMixedStackPositions() {
+
+        List<BarEntry> entries = new ArrayList<>();
+
+        // stacks of 1, 2 and 3 values and entries without a stack
+        for (int i = 0; i < 100; i++) {
+
+            if (i % 4 == 3)
+                entries.add(new BarEntry(i, 1f));
+            else
+                entries.add(new BarEntry(i, new float[(i % 4) + 1]));
+        }
+
+        BarDataSet set = new BarDataSet(entries, "");
+        BarBuffer buffer = new BarBuffer(100 * 4 * set.getStackSize(), 1, set.isStacked());
+
+        int bars = 0;
+
+        for (int from = 0; from < 100; from++) {
+
+            buffer.limitFrom(from);
+            buffer.feed(set);
+
+            assertEquals("from " + from, bars, buffer.getFirstBarPosition());
+
+            // the first bar of the fed entries starts their stack
+            assertEquals(0, buffer.getStackIndex(0));
+
+            if (from % 4 == 2)
+                assertEquals(2, buffer.getStackIndex(2));
+
+            bars += from % 4 == 3 ? 1 : (from % 4) + 1;
+        }
+
+        // moving back is counted from the last position
+        buffer.limitFrom(4);
+        buffer.feed(set);
+        assertEquals(7, buffer.getFirstBarPosition());
+
+        // a change of the DataSet is picked up through its version
+        set.removeEntry(0);
+        buffer.limitFrom(3);
+        buffer.feed(set);
+        assertEquals(2 + 3 + 1, buffer.getFirstBarPosition());
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.mikephil.charting.test;
 
+import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarDataSet;
 import com.github.mikephil.charting.data.BarEntry;
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
 
 /**
  * Created by philipp on 06/06/16.
@@ -69,4 +71,43 @@ public class BarDataTest {
         assertEquals(15f, values1.get(1).getX(), 0.01f);
         assertEquals(26f, values2.get(1).getX(), 0.01f);
     }
+
+    @Test
+    public void testLimitedFeed() {
+
+        List<BarEntry> values = new ArrayList<>();
+
+        for (int i = 0; i < 100000; i++)
+            values.add(new BarEntry(i, i % 2 == 0 ? 10f : -10f));
+
+        BarDataSet set = new BarDataSet(values, "Set");
+
+        BarBuffer buffer = new BarBuffer(values.size() * 4, 1, false);
+        buffer.setBarWidth(0.8f);
+
+        // unlimited by default
+        buffer.feed(set);
+        assertEquals(values.size() * 4, buffer.getFedSize());
+
+        buffer.limitFrom(50000);
+        buffer.limitTo(50049);
+        buffer.feed(set);
+
+        assertEquals(50 * 4, buffer.getFedSize());
+        assertEquals(50000f - 0.4f, buffer.buffer[0], 0.01f);
+        assertEquals(10f, buffer.buffer[1], 0.01f);
+        assertEquals(50000f + 0.4f, buffer.buffer[2], 0.01f);
+        assertEquals(0f, buffer.buffer[3], 0.01f);
+        assertEquals(50049f + 0.4f, buffer.buffer[49 * 4 + 2], 0.01f);
+
+        // the animation phase still limits the entries
+        buffer.setPhases(0.5f, 1f);
+        buffer.feed(set);
+        assertEquals(0, buffer.getFedSize());
+
+        buffer.limitFrom(49990);
+        buffer.feed(set);
+        assertEquals(10 * 4, buffer.getFedSize());
+        assertTrue(buffer.buffer[9 * 4] < 50000f);
+    }
 }
@@ -0,0 +1,56 @@
+package com.github.mikephil.charting.test;
+
+import android.content.ComponentCallbacks;
+import android.content.ContextWrapper;
+
+import com.github.mikephil.charting.utils.BitmapPool;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class BitmapPoolTest {
+
+    @Test
+    public void testSingleTrimCallback() {
+
+        final int[] registered = new int[1];
+
+        ContextWrapper context = new ContextWrapper(null) {
+
+            @Override
+            public void registerComponentCallbacks(ComponentCallbacks callback) {
+                registered[0]++;
+            }
+
+            @Override
+            public void unregisterComponentCallbacks(ComponentCallbacks callback) {
+                registered[0]--;
+            }
+        };
+
+        // 30 attached charts share one callback
+        for (int i = 0; i < 30; i++)
+            BitmapPool.register(context);
+
+        assertEquals(1, registered[0]);
+
+        for (int i = 0; i < 29; i++)
+            BitmapPool.unregister();
+
+        assertEquals(1, registered[0]);
+
+        BitmapPool.unregister();
+        assertEquals(0, registered[0]);
+
+        // an unbalanced unregister does nothing
+        BitmapPool.unregister();
+        assertEquals(0, registered[0]);
+
+        BitmapPool.register(context);
+        assertEquals(1, registered[0]);
+
+        BitmapPool.unregister();
+        assertEquals(0, registered[0]);
+    }
+}
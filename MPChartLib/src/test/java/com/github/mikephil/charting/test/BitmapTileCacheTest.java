@@ -0,0 +1,46 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.BitmapTileCache;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class BitmapTileCacheTest {
+
+    @Test
+    public void testBudget() {
+
+        BitmapTileCache cache = new BitmapTileCache();
+
+        // 16 MB of 1000 x 500 ARGB tiles
+        assertEquals(8, cache.getMaxTileCount(1000, 500));
+
+        cache.setMemoryBudget(4 * 1000 * 500 * 3);
+        assertEquals(3, cache.getMaxTileCount(1000, 500));
+
+        assertEquals(0, cache.getMaxTileCount(0, 500));
+    }
+
+    @Test
+    public void testUpdate() {
+
+        BitmapTileCache cache = new BitmapTileCache();
+        float[] key = new float[]{2f, 0f, 0f, 1f};
+
+        assertTrue(cache.update(key, 1, 1000, 500));
+        assertFalse(cache.update(key, 1, 1000, 500));
+
+        // the key is copied
+        key[0] = 3f;
+        assertTrue(cache.update(key, 1, 1000, 500));
+        assertFalse(cache.update(new float[]{3f, 0f, 0f, 1f}, 1, 1000, 500));
+
+        // changed data and size
+        assertTrue(cache.update(key, 2, 1000, 500));
+        assertTrue(cache.update(key, 2, 1000, 400));
+        assertFalse(cache.update(key, 2, 1000, 400));
+    }
+}
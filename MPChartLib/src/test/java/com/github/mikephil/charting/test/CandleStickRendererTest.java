@@ -0,0 +1,113 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.renderer.CandleStickChartRenderer;
+import com.github.mikephil.charting.utils.ColorTemplate;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class CandleStickRendererTest {
+
+    /**
+     * exposes drawDataSet(...)
+     */
+    private static class TestCandleStickChartRenderer extends CandleStickChartRenderer {
+
+        TestCandleStickChartRenderer(CandleDataProvider chart, TestViewPortHandler viewPortHandler) {
+            super(chart, new ChartAnimator(), viewPortHandler);
+        }
+
+        void draw(Canvas c, ICandleDataSet set) {
+            drawDataSet(c, set);
+        }
+    }
+
+    private static final int COUNT = 1000;
+
+    private static TestCandleChart createChart(CandleDataSet set) {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+
+        TestCandleChart chart = new TestCandleChart();
+        chart.setup(new CandleData(set), handler, -0.5f, COUNT, 200f, 0f);
+        return chart;
+    }
+
+    private static CandleDataSet createDataSet() {
+
+        List<CandleEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++) {
+            float open = 100f + (i % 10);
+            float close = i % 3 == 0 ? open : i % 3 == 1 ? open + 4f : open - 4f;
+            entries.add(new CandleEntry(i, open + 8f, open - 8f, open, close));
+        }
+
+        CandleDataSet set = new CandleDataSet(entries, "");
+        set.setIncreasingColor(Color.GREEN);
+        set.setDecreasingColor(Color.RED);
+        set.setNeutralColor(Color.BLUE);
+        set.setShadowColorSameAsCandle(true);
+        return set;
+    }
+
+    private static int draw(TestCandleChart chart, ICandleDataSet set) {
+
+        TestCandleStickChartRenderer renderer = new TestCandleStickChartRenderer(chart, chart.handler);
+
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+        return c.calls;
+    }
+
+    @Test
+    public void testBatchedDrawing() {
+
+        CandleDataSet set = createDataSet();
+        TestCandleChart chart = createChart(set);
+
+        // shadows and bodies of three directions
+        int calls = draw(chart, set);
+        assertTrue("calls " + calls, calls <= 6);
+
+        set.setShowCandleBar(false);
+        calls = draw(chart, set);
+        assertTrue("calls " + calls, calls <= 3);
+
+        // colors depending on the entry are drawn candle by candle
+        set.setShowCandleBar(true);
+        set.setColors(Color.BLACK, Color.GRAY);
+        set.setIncreasingColor(ColorTemplate.COLOR_NONE);
+        calls = draw(chart, set);
+        assertEquals(COUNT * 2, calls);
+    }
+
+    @Test
+    public void testResampledDrawing() {
+
+        CandleDataSet set = createDataSet();
+        set.setColors(Color.BLACK, Color.GRAY);
+        set.setIncreasingColor(ColorTemplate.COLOR_NONE);
+
+        TestCandleChart chart = createChart(set);
+        chart.resampling = true;
+
+        // 1000 candles on 260 pixels, at least 3 pixels per candle: buckets of 16 entries
+        int calls = draw(chart, set);
+        assertEquals((COUNT + 15) / 16 * 2, calls);
+    }
+}
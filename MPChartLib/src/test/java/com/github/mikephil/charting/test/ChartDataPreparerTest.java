@@ -0,0 +1,184 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarDataSet;
+import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.BubbleDataSet;
+import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.ChartDataPreparer;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class ChartDataPreparerTest {
+
+    private static final int COUNT = 200000;
+
+    @After
+    public void tearDown() {
+        ChartDataPreparer.setParallelThreshold(Integer.MAX_VALUE);
+    }
+
+    private static void assertSameMinMax(IDataSet expected, IDataSet actual) {
+        assertEquals(expected.getXMin(), actual.getXMin(), 0f);
+        assertEquals(expected.getXMax(), actual.getXMax(), 0f);
+        assertEquals(expected.getYMin(), actual.getYMin(), 0f);
+        assertEquals(expected.getYMax(), actual.getYMax(), 0f);
+    }
+
+    @Test
+    public void testParallelMinMax() {
+
+        Random random = new Random(42);
+
+        List<Entry> entries = new ArrayList<>();
+        List<BarEntry> barEntries = new ArrayList<>();
+        List<CandleEntry> candleEntries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++) {
+
+            float y = random.nextFloat() * 1000f - 500f;
+
+            entries.add(new Entry(i, y));
+
+            if (i % 3 == 0)
+                barEntries.add(new BarEntry(i, new float[]{y, -y / 2f, 10f}));
+            else
+                barEntries.add(new BarEntry(i, y));
+
+            candleEntries.add(new CandleEntry(i, y + 20f, y - 20f, y - 5f, y + 5f));
+        }
+
+        ScatterDataSet sequential = new ScatterDataSet(entries, "");
+        BarDataSet barSequential = new BarDataSet(barEntries, "");
+        CandleDataSet candleSequential = new CandleDataSet(candleEntries, "");
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        // the constructor always calculates sequentially
+        ScatterDataSet parallel = new ScatterDataSet(entries, "");
+        BarDataSet barParallel = new BarDataSet(barEntries, "");
+        CandleDataSet candleParallel = new CandleDataSet(candleEntries, "");
+
+        parallel.calcMinMax();
+        barParallel.calcMinMax();
+        candleParallel.calcMinMax();
+
+        assertSameMinMax(sequential, parallel);
+        assertSameMinMax(barSequential, barParallel);
+        assertSameMinMax(candleSequential, candleParallel);
+    }
+
+    @Test
+    public void testParallelBubbleSize() {
+
+        List<BubbleEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new BubbleEntry(i, i % 7, i % 5));
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        BubbleDataSet set = new BubbleDataSet(entries, "");
+
+        assertEquals(4f, set.getMaxSize(), 0f);
+
+        entries.get(COUNT / 2).setSize(12f);
+        set.calcMinMax();
+
+        assertEquals(12f, set.getMaxSize(), 0f);
+        assertEquals(6f, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void testOverriddenEntryMinMax() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new Entry(i, i % 7));
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        final int[] calls = new int[1];
+
+        // only overrides calcMinMax(T e), which the parallel reduction would not call, and
+        // disables it
+        ScatterDataSet set = new ScatterDataSet(entries, "") {
+            @Override
+            protected void calcMinMax(Entry e) {
+                calls[0]++;
+                super.calcMinMax(e);
+            }
+
+            @Override
+            protected boolean isParallelMinMaxEnabled() {
+                return false;
+            }
+        };
+
+        assertEquals(COUNT, calls[0]);
+
+        calls[0] = 0;
+        set.calcMinMax();
+
+        assertEquals(COUNT, calls[0]);
+        assertEquals(6f, set.getYMax(), 0f);
+    }
+
+    @Test
+    public void testSortedness() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new Entry(i, i % 7));
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        assertTrue(ChartDataPreparer.isSortedByX(entries));
+
+        // unsorted right at a chunk border and at the very end
+        entries.get(COUNT / 2).setX(COUNT / 2 - 2);
+        assertFalse(ChartDataPreparer.isSortedByX(entries));
+
+        entries.get(COUNT / 2).setX(COUNT / 2);
+        entries.get(COUNT - 1).setX(-1);
+        assertFalse(ChartDataPreparer.isSortedByX(entries));
+    }
+
+    @Test
+    public void testPrepare() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = COUNT - 1; i >= 0; i--)
+            entries.add(new Entry(i, i % 7));
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        ScatterData data = new ScatterData(set);
+
+        ChartDataPreparer.prepare(data);
+
+        assertTrue(ChartDataPreparer.isSortedByX(set.getEntries()));
+        assertEquals(0f, set.getEntryForIndex(0).getX(), 0f);
+        assertEquals(0f, data.getXMin(), 0f);
+        assertEquals(COUNT - 1, data.getXMax(), 0f);
+        assertEquals(6f, data.getYMax(), 0f);
+    }
+}
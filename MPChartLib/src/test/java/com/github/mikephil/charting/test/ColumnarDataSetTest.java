@@ -0,0 +1,279 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ColumnarLineDataSet;
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.TimeSeriesDataSet;
+import com.github.mikephil.charting.data.storage.DeltaTimestampColumn;
+import com.github.mikephil.charting.data.storage.FixedPointColumn;
+import com.github.mikephil.charting.data.storage.FloatColumn;
+import com.github.mikephil.charting.data.storage.HalfFloatColumn;
+import com.github.mikephil.charting.data.storage.PlainFloatColumn;
+import com.github.mikephil.charting.highlight.Highlight;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+public class ColumnarDataSetTest {
+
+    private static float[] createX(int count) {
+
+        float[] xVals = new float[count];
+
+        for (int i = 0; i < count; i++)
+            xVals[i] = i;
+
+        return xVals;
+    }
+
+    private static float[] createY(int count) {
+
+        Random random = new Random(42);
+        float[] yVals = new float[count];
+
+        for (int i = 0; i < count; i++)
+            yVals[i] = (float) (Math.sin(i / 100.0) * 1000.0 + random.nextGaussian() * 10.0);
+
+        return yVals;
+    }
+
+    private static void assertWithinError(float[] values, FloatColumn column) {
+
+        assertEquals(values.length, column.size());
+
+        for (int i = 0; i < values.length; i++) {
+            float error = Math.abs(values[i] - column.get(i));
+            assertTrue("index " + i + ": " + values[i] + " decoded as " + column.get(i),
+                    error <= column.getMaxError(values[i]));
+        }
+    }
+
+    @Test
+    public void testHalfFloat() {
+
+        assertEquals(0f, HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(0f)));
+        assertEquals(1f, HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(1f)));
+        assertEquals(-2.5f, HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(-2.5f)));
+        assertEquals(HalfFloatColumn.MAX_VALUE,
+                HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(HalfFloatColumn.MAX_VALUE)));
+        assertEquals(Float.POSITIVE_INFINITY,
+                HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(100000f)));
+        assertTrue(Float.isNaN(HalfFloatColumn.toFloat(HalfFloatColumn.toHalf(Float.NaN))));
+
+        float[] yVals = createY(10000);
+        yVals[0] = HalfFloatColumn.MIN_NORMAL / 3f;
+
+        assertWithinError(yVals, new HalfFloatColumn(yVals));
+    }
+
+    @Test
+    public void testFixedPoint() {
+
+        float[] yVals = createY(10000);
+        FixedPointColumn column = new FixedPointColumn(yVals);
+
+        assertWithinError(yVals, column);
+
+        // values outside of the range of a block re-encode that block
+        column.set(300, 50000f);
+        assertEquals(50000f, column.get(300), column.getMaxError(50000f));
+        assertEquals(yVals[301], column.get(301), column.getMaxErrorAt(301));
+        assertEquals(yVals[299], column.get(299), column.getMaxErrorAt(299));
+
+        float[] decoded = new float[500];
+        column.get(100, 500, decoded, 0);
+
+        for (int i = 0; i < decoded.length; i++)
+            assertEquals(column.get(100 + i), decoded[i]);
+    }
+
+    @Test
+    public void testDataSet() {
+
+        float[] xVals = createX(10000);
+        float[] yVals = createY(10000);
+
+        ColumnarLineDataSet plain = new ColumnarLineDataSet(xVals, yVals, "");
+
+        for (ColumnarLineDataSet.YEncoding encoding : ColumnarLineDataSet.YEncoding.values()) {
+
+            ColumnarLineDataSet set = new ColumnarLineDataSet(xVals, yVals, encoding, "");
+            float maxError = set.getYColumn().getMaxError(Math.max(
+                    Math.abs(plain.getYMin()), Math.abs(plain.getYMax())));
+
+            assertEquals(10000, set.getEntryCount());
+            assertEquals(0f, set.getXMin());
+            assertEquals(9999f, set.getXMax());
+            assertEquals(plain.getYMin(), set.getYMin(), maxError);
+            assertEquals(plain.getYMax(), set.getYMax(), maxError);
+
+            Entry e = set.getEntryForIndex(1234);
+            assertEquals(1234f, e.getX());
+            assertEquals(yVals[1234], e.getY(), maxError);
+
+            assertEquals(1234, set.getEntryIndex(e));
+            assertEquals(1234, set.getEntryIndex(1234.2f, Float.NaN, DataSet.Rounding.CLOSEST));
+            assertEquals(1235, set.getEntryIndex(1234.2f, Float.NaN, DataSet.Rounding.UP));
+
+            set.calcMinMaxY(100f, 200f);
+            plain.calcMinMaxY(100f, 200f);
+            assertEquals(plain.getYMin(), set.getYMin(), maxError);
+            assertEquals(plain.getYMax(), set.getYMax(), maxError);
+            plain.calcMinMax();
+        }
+
+        long plainBytes = plain.getYColumn().getByteSize();
+
+        assertEquals(plainBytes / 2, new HalfFloatColumn(yVals).getByteSize());
+        assertTrue(new FixedPointColumn(yVals).getByteSize() < plainBytes * 0.6);
+    }
+
+    @Test
+    public void testTimeSeries() {
+
+        long start = 1700000000123L;
+        long[] timestamps = new long[1000];
+        float[] yVals = createY(1000);
+
+        // one value per minute, at a resolution of one second
+        for (int i = 0; i < timestamps.length; i++)
+            timestamps[i] = start + i * 60000L;
+
+        TimeSeriesDataSet set = new TimeSeriesDataSet(timestamps, 1000L, yVals, "");
+        DeltaTimestampColumn column = set.getTimestampColumn();
+
+        assertEquals(start, column.getBase());
+        assertEquals(0f, set.getXMin());
+        assertEquals(999 * 60f, set.getXMax());
+
+        for (int i = 0; i < timestamps.length; i++) {
+            assertEquals(timestamps[i], set.getTimestamp(i));
+            assertEquals(timestamps[i], set.getTimestampForX(set.getEntryForIndex(i).getX()));
+        }
+
+        assertEquals(500, set.getEntryIndexForTimestamp(timestamps[500] + 20000L));
+        assertEquals(timestamps[42], set.getTimestamp(new Highlight(42 * 60f, 0f, 0)));
+        assertEquals(120f, set.getXForTimestamp(start + 120000L));
+
+        // timestamps are rounded to the resolution
+        column.setTimestamp(1, start + 60400L);
+        assertEquals(start + 60000L, set.getTimestamp(1));
+
+        assertEquals(timestamps.length * 4L + 16L, column.getByteSize());
+    }
+
+    @Test
+    public void testDecodeBenchmark() {
+
+        assumeTrue(Boolean.getBoolean("benchmarks"));
+
+        float[] yVals = createY(1000000);
+
+        long plain = measureDecode(new PlainFloatColumn(yVals));
+        long half = measureDecode(new HalfFloatColumn(yVals));
+        long fixedPoint = measureDecode(new FixedPointColumn(yVals));
+
+        // the compressed columns decode within a small factor of copying plain floats
+        assertTrue("half float " + half + " ns, plain " + plain + " ns", half <= plain * 20);
+        assertTrue("fixed point " + fixedPoint + " ns, plain " + plain + " ns", fixedPoint <= plain * 10);
+    }
+
+    /**
+     * Returns the nanoseconds a bulk decode of the whole column takes, after warming up.
+     */
+    private static long measureDecode(FloatColumn column) {
+
+        float[] out = new float[column.size()];
+
+        for (int i = 0; i < 3; i++)
+            column.get(0, column.size(), out, 0);
+
+        final int runs = 10;
+        long start = System.nanoTime();
+
+        for (int i = 0; i < runs; i++)
+            column.get(0, column.size(), out, 0);
+
+        long nanos = (System.nanoTime() - start) / runs;
+
+        // keeps the decode from being optimized away
+        assertEquals(column.get(column.size() / 2), out[column.size() / 2]);
+        return nanos;
+    }
+
+    @Test
+    public void testFixedPointNaN() {
+
+        float[] yVals = createY(1000);
+        yVals[10] = Float.NaN;
+
+        // a block of NaN values only
+        for (int i = 256; i < 512; i++)
+            yVals[i] = Float.NaN;
+
+        FixedPointColumn column = new FixedPointColumn(yVals);
+
+        assertTrue(Float.isNaN(column.get(10)));
+        assertEquals(yVals[11], column.get(11), column.getMaxErrorAt(11));
+        assertTrue(Float.isNaN(column.get(300)));
+
+        // the maximum of the block still decodes to itself
+        int max = 0;
+        for (int i = 0; i < 256; i++) {
+            if (!Float.isNaN(yVals[i]) && yVals[i] > yVals[max])
+                max = i;
+        }
+        assertEquals(yVals[max], column.get(max), column.getMaxErrorAt(max));
+
+        column.set(20, Float.NaN);
+        assertTrue(Float.isNaN(column.get(20)));
+
+        column.set(300, 5f);
+        assertEquals(5f, column.get(300), column.getMaxErrorAt(300));
+        assertTrue(Float.isNaN(column.get(301)));
+
+        float[] decoded = new float[30];
+        column.get(0, 30, decoded, 0);
+        assertTrue(Float.isNaN(decoded[10]));
+        assertTrue(Float.isNaN(decoded[20]));
+        assertEquals(column.get(11), decoded[11]);
+    }
+
+    @Test
+    public void testCopy() {
+
+        float[] xVals = createX(1000);
+        float[] yVals = createY(1000);
+
+        for (ColumnarLineDataSet.YEncoding encoding : ColumnarLineDataSet.YEncoding.values()) {
+
+            ColumnarLineDataSet set = new ColumnarLineDataSet(xVals, yVals, encoding, "");
+            ColumnarLineDataSet copied = (ColumnarLineDataSet) set.copy();
+
+            assertTrue(set.getXColumn() != copied.getXColumn());
+            assertTrue(set.getYColumn() != copied.getYColumn());
+            assertEquals(set.getYColumn().get(42), copied.getYColumn().get(42));
+
+            // modifying the copy does not change the original
+            float y = set.getYColumn().get(42);
+            copied.getYColumn().set(42, 5000f);
+            copied.getXColumn().set(0, -1f);
+
+            assertEquals(y, set.getYColumn().get(42));
+            assertEquals(0f, set.getXColumn().get(0));
+        }
+
+        long[] timestamps = new long[]{1000L, 2000L, 3000L};
+        TimeSeriesDataSet series = new TimeSeriesDataSet(timestamps, 1000L, new float[]{1f, 2f, 3f}, "");
+        TimeSeriesDataSet copied = (TimeSeriesDataSet) series.copy();
+
+        copied.getTimestampColumn().setTimestamp(1, 5000L);
+        assertEquals(2000L, series.getTimestamp(1));
+        assertEquals(5000L, copied.getTimestamp(1));
+    }
+}
@@ -0,0 +1,148 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+
+import java.util.Arrays;
+
+/**
+ * Canvas that counts the draw calls and the drawn primitives, and keeps the bounds of the drawn
+ * coordinates after applying translate(...)
+ */
+class CountingCanvas extends Canvas {
+
+    /**
+     * all draw calls
+     */
+    int calls = 0;
+
+    int lineCalls = 0;
+    int lines = 0;
+    int pointCalls = 0;
+    int points = 0;
+    int vertexCalls = 0;
+    int vertices = 0;
+    int rects = 0;
+    int circles = 0;
+    int paths = 0;
+    boolean textured = false;
+
+    /**
+     * the vertices of the last drawVertices(...) call
+     */
+    float[] lastVertices = null;
+
+    float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE;
+    float minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+
+    private float mTransX = 0f, mTransY = 0f;
+
+    /**
+     * translations of the saved states
+     */
+    private float[] mSaved = new float[32];
+    private int mSaveCount = 0;
+
+    @Override
+    public int save() {
+        mSaved[mSaveCount * 2] = mTransX;
+        mSaved[mSaveCount * 2 + 1] = mTransY;
+        return ++mSaveCount;
+    }
+
+    @Override
+    public void restore() {
+        restoreToCount(mSaveCount);
+    }
+
+    @Override
+    public void restoreToCount(int saveCount) {
+        mSaveCount = saveCount - 1;
+        mTransX = mSaved[mSaveCount * 2];
+        mTransY = mSaved[mSaveCount * 2 + 1];
+    }
+
+    @Override
+    public void translate(float dx, float dy) {
+        mTransX += dx;
+        mTransY += dy;
+    }
+
+    @Override
+    public void drawRect(float left, float top, float right, float bottom, Paint paint) {
+        calls++;
+        rects++;
+        include(left, top);
+        include(right, bottom);
+    }
+
+    @Override
+    public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+        calls++;
+        lineCalls++;
+        lines++;
+        include(startX, startY);
+        include(stopX, stopY);
+    }
+
+    @Override
+    public void drawLines(float[] pts, Paint paint) {
+        drawLines(pts, 0, pts.length, paint);
+    }
+
+    @Override
+    public void drawLines(float[] pts, int offset, int count, Paint paint) {
+        calls++;
+        lineCalls++;
+        lines += count / 4;
+        include(pts, offset, count);
+    }
+
+    @Override
+    public void drawPoints(float[] pts, int offset, int count, Paint paint) {
+        calls++;
+        pointCalls++;
+        points += count / 2;
+        include(pts, offset, count);
+    }
+
+    @Override
+    public void drawCircle(float cx, float cy, float radius, Paint paint) {
+        calls++;
+        circles++;
+        include(cx, cy);
+    }
+
+    @Override
+    public void drawPath(Path path, Paint paint) {
+        calls++;
+        paths++;
+    }
+
+    @Override
+    public void drawVertices(VertexMode mode, int vertexCount, float[] verts, int vertOffset,
+                             float[] texs, int texOffset, int[] colors, int colorOffset,
+                             short[] indices, int indexOffset, int indexCount, Paint paint) {
+        calls++;
+        vertexCalls++;
+        vertices += vertexCount / 2;
+        textured = texs != null;
+        lastVertices = Arrays.copyOfRange(verts, vertOffset, vertOffset + vertexCount);
+        include(verts, vertOffset, vertexCount);
+    }
+
+    private void include(float[] pts, int offset, int count) {
+        for (int i = offset; i < offset + count - 1; i += 2)
+            include(pts[i], pts[i + 1]);
+    }
+
+    private void include(float x, float y) {
+        x += mTransX;
+        y += mTransY;
+        minX = Math.min(minX, x);
+        maxX = Math.max(maxX, x);
+        minY = Math.min(minY, y);
+        maxY = Math.max(maxY, y);
+    }
+}
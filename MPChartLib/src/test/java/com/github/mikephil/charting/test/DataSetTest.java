@@ -3,15 +3,19 @@ package com.github.mikephil.charting.test;
 import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.data.storage.ChunkedEntryList;
 
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
 
 /**
  * Created by philipp on 31/05/16.
@@ -235,4 +239,326 @@ public class DataSetTest {
         assertEquals(1, entries.size());
         assertEquals(30, entries.get(0).getY(), 0.01f);
     }
+
+    @Test
+    public void testReplaceY() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 100; i++)
+            entries.add(new Entry(i, i % 10));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+        long version = set.getVersion();
+        int[] range = new int[2];
+
+        // new maximum, incremental
+        set.replaceY(10, new float[]{-1f, 5f, 20f, 7f}, 1, 2);
+        assertEquals(5f, entries.get(10).getY());
+        assertEquals(20f, entries.get(11).getY());
+        assertEquals(0f, set.getYMin());
+        assertEquals(20f, set.getYMax());
+
+        assertTrue(set.getDirtyRange(version, range));
+        assertEquals(10, range[0]);
+        assertEquals(12, range[1]);
+
+        // replacing the only maximum requires a rescan
+        set.replaceY(11, new float[]{3f}, 0, 1);
+        assertEquals(9f, set.getYMax());
+
+        assertTrue(set.getDirtyRange(version, range));
+        assertEquals(10, range[0]);
+        assertEquals(12, range[1]);
+
+        version = set.getVersion();
+        assertTrue(set.getDirtyRange(version, range));
+        assertTrue(range[0] >= range[1]);
+
+        // replacing everything takes the new values only
+        float[] ys = new float[100];
+        for (int i = 0; i < ys.length; i++)
+            ys[i] = 50f + i;
+
+        set.replaceY(0, ys, 0, ys.length);
+        assertEquals(50f, set.getYMin());
+        assertEquals(149f, set.getYMax());
+        assertEquals(0f, set.getXMin());
+        assertEquals(99f, set.getXMax());
+
+        // structural changes make the whole DataSet dirty
+        set.notifyDataSetChanged();
+        assertFalse(set.getDirtyRange(version, range));
+        assertTrue(set.getDirtyRange(set.getVersion(), range));
+
+        try {
+            set.replaceY(90, ys, 0, 20);
+            assertTrue(false);
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testAddEntryOrderedChunked() {
+
+        ChunkedEntryList<Entry> chunked = new ChunkedEntryList<Entry>(8);
+        ScatterDataSet chunkedSet = new ScatterDataSet(chunked, "");
+        ScatterDataSet arraySet = new ScatterDataSet(new ArrayList<Entry>(), "");
+
+        Random random = new Random(7);
+
+        for (int i = 0; i < 2000; i++) {
+
+            // mostly increasing x-values with late arriving entries
+            float x = i - random.nextInt(50);
+            chunkedSet.addEntryOrdered(new Entry(x, i));
+            arraySet.addEntryOrdered(new Entry(x, i));
+        }
+
+        assertEquals(2000, chunkedSet.getEntryCount());
+        assertTrue(chunked.getChunkCount() > 2000 / 8);
+
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(arraySet.getEntryForIndex(i).getX(), chunkedSet.getEntryForIndex(i).getX());
+            assertEquals(arraySet.getEntryForIndex(i).getY(), chunkedSet.getEntryForIndex(i).getY());
+        }
+
+        for (int i = 1; i < 2000; i++)
+            assertTrue(chunked.get(i - 1).getX() <= chunked.get(i).getX());
+
+        int i = 0;
+        for (Entry e : chunked)
+            assertEquals(arraySet.getEntryForIndex(i++).getY(), e.getY());
+
+        assertEquals(arraySet.getXMin(), chunkedSet.getXMin());
+        assertEquals(arraySet.getYMax(), chunkedSet.getYMax());
+        assertEquals(arraySet.getEntryIndex(500.5f, Float.NaN, DataSet.Rounding.UP),
+                chunkedSet.getEntryIndex(500.5f, Float.NaN, DataSet.Rounding.UP));
+
+        // removing keeps the order
+        Entry removed = chunked.get(1000);
+        assertTrue(chunkedSet.removeEntry(removed));
+        assertTrue(arraySet.removeEntry(1000));
+        assertEquals(1999, chunked.size());
+
+        for (i = 0; i < 1999; i++)
+            assertEquals(arraySet.getEntryForIndex(i).getY(), chunked.get(i).getY());
+
+        // removing while iterating
+        Iterator<Entry> it = chunked.iterator();
+
+        while (it.hasNext()) {
+            if (it.next().getY() % 2 == 0)
+                it.remove();
+        }
+
+        for (Entry e : chunked)
+            assertTrue(e.getY() % 2 != 0);
+
+        chunkedSet.clear();
+        assertEquals(0, chunked.size());
+    }
+
+    @Test
+    public void testChunkedConcurrentReads() throws InterruptedException {
+
+        final ChunkedEntryList<Entry> chunked = new ChunkedEntryList<Entry>(16);
+
+        for (int i = 0; i < 10000; i++)
+            chunked.add(new Entry(i, i));
+
+        // reads do not change the list, threads reading different regions do not interfere
+        final boolean[] failed = new boolean[1];
+        Thread[] threads = new Thread[4];
+
+        for (int t = 0; t < threads.length; t++) {
+
+            final int seed = t;
+
+            threads[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+
+                    Random random = new Random(seed);
+
+                    for (int i = 0; i < 100000; i++) {
+
+                        int index = random.nextInt(chunked.size());
+
+                        if (chunked.get(index).getX() != index)
+                            failed[0] = true;
+                    }
+                }
+            });
+            threads[t].start();
+        }
+
+        for (Thread thread : threads)
+            thread.join();
+
+        assertFalse(failed[0]);
+    }
+
+    @Test
+    public void testAddEntryOrderedLarge() {
+
+        int count = 200000;
+        List<Entry> arrayEntries = new ArrayList<Entry>();
+        List<Entry> chunkedEntries = new ChunkedEntryList<Entry>();
+
+        for (int i = 0; i < count; i++) {
+            arrayEntries.add(new Entry(i * 2, i));
+            chunkedEntries.add(new Entry(i * 2, i));
+        }
+
+        ScatterDataSet arraySet = new ScatterDataSet(arrayEntries, "");
+        ScatterDataSet chunkedSet = new ScatterDataSet(chunkedEntries, "");
+
+        // odd x-values land in the first half of the data
+        for (ScatterDataSet set : new ScatterDataSet[]{arraySet, chunkedSet}) {
+            for (int i = 0; i < 5000; i++)
+                set.addEntryOrdered(new Entry(i * 2 + 1, -i));
+        }
+
+        for (int i = 0; i < count + 5000; i += 997)
+            assertEquals(arraySet.getEntryForIndex(i).getY(), chunkedSet.getEntryForIndex(i).getY());
+    }
+
+    @Test
+    public void testUniformXSpacing() {
+
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < 1000; i++)
+            entries.add(new Entry(10f + i * 0.5f, i));
+
+        ScatterDataSet uniform = new ScatterDataSet(entries, "");
+        ScatterDataSet searched = new ScatterDataSet(new ArrayList<Entry>(entries), "");
+
+        assertTrue(uniform.detectUniformXSpacing());
+        assertFalse(searched.isUniformXSpacing());
+
+        float[] xValues = new float[]{-100f, 9.9f, 10f, 10.1f, 10.25f, 10.3f, 200.7f, 509f, 509.5f, 600f};
+
+        for (float x : xValues) {
+            for (DataSet.Rounding rounding : DataSet.Rounding.values()) {
+                assertEquals("x " + x + " " + rounding,
+                        searched.getEntryIndex(x, Float.NaN, rounding),
+                        uniform.getEntryIndex(x, Float.NaN, rounding));
+            }
+        }
+
+        assertEquals(381, uniform.getEntryIndex(entries.get(381)));
+
+        // appending at the right x-value keeps the spacing, anything else drops it
+        uniform.addEntry(new Entry(510f, 0f));
+        assertTrue(uniform.isUniformXSpacing());
+
+        uniform.addEntry(new Entry(600f, 0f));
+        assertFalse(uniform.isUniformXSpacing());
+
+        List<Entry> gaps = new ArrayList<Entry>();
+        gaps.add(new Entry(0f, 0f));
+        gaps.add(new Entry(1f, 0f));
+        gaps.add(new Entry(3f, 0f));
+        assertFalse(new ScatterDataSet(gaps, "").detectUniformXSpacing());
+    }
+
+    @Test
+    public void testXBoundsLookup() {
+
+        int count = 100000;
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, i % 100));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        // the binary search and the uniform lookup round to the neighbouring integer x-values
+        for (int run = 0; run < 2; run++) {
+
+            if (run == 1)
+                assertTrue(set.detectUniformXSpacing());
+            else
+                set.clearUniformXSpacing();
+
+            for (int i = 0; i < 2000; i++) {
+
+                float low = (i * 37) % (count - 500) + 0.25f;
+
+                assertEquals((int) Math.floor(low), set.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN));
+                assertEquals((int) Math.ceil(low + 500f), set.getEntryIndex(low + 500f, Float.NaN, DataSet.Rounding.UP));
+            }
+        }
+    }
+
+    @Test
+    public void testXBoundsLookupBenchmark() {
+
+        assumeTrue(Boolean.getBoolean("benchmarks"));
+
+        int count = 100000;
+        List<Entry> entries = new ArrayList<Entry>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, i % 100));
+
+        ScatterDataSet set = new ScatterDataSet(entries, "");
+
+        // previous XBounds: entry lookup by x-value, then the index of that entry
+        long indexOf = 0;
+
+        for (int round = 0; round < 2; round++) {
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < 200; i++) {
+                float low = (i * 37) % (count - 500);
+                entries.indexOf(set.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN));
+                entries.indexOf(set.getEntryForXValue(low + 500f, Float.NaN, DataSet.Rounding.UP));
+            }
+
+            indexOf = (System.nanoTime() - start) / 200;
+        }
+
+        set.clearUniformXSpacing();
+        long binarySearch = measureXBoundsLookup(set, count);
+
+        assertTrue(set.detectUniformXSpacing());
+        long uniform = measureXBoundsLookup(set, count);
+
+        assertTrue("binary search " + binarySearch + " ns, entry + indexOf " + indexOf + " ns",
+                binarySearch * 10 < indexOf);
+        assertTrue("uniform " + uniform + " ns, binary search " + binarySearch + " ns",
+                uniform <= binarySearch * 1.5);
+    }
+
+    /**
+     * Returns the nanoseconds per frame the lookup of the x-bounds takes, after a warm up round.
+     */
+    private static long measureXBoundsLookup(DataSet<?> set, int count) {
+
+        final int frames = 200000;
+        long nanos = 0;
+        long sum = 0;
+
+        for (int round = 0; round < 2; round++) {
+
+            long start = System.nanoTime();
+
+            for (int i = 0; i < frames; i++) {
+                float low = (i * 37) % (count - 500);
+                sum += set.getEntryIndex(low, Float.NaN, DataSet.Rounding.DOWN);
+                sum += set.getEntryIndex(low + 500f, Float.NaN, DataSet.Rounding.UP);
+            }
+
+            nanos = (System.nanoTime() - start) / frames;
+        }
+
+        // keeps the lookups from being optimized away
+        assertTrue(sum > 0);
+        return nanos;
+    }
 }
@@ -0,0 +1,163 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ChartDataPreparer;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.renderer.DensityGrid;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class DensityGridTest {
+
+    private static final int COUNT = 100000;
+
+    @After
+    public void tearDown() {
+        ChartDataPreparer.setParallelThreshold(Integer.MAX_VALUE);
+    }
+
+    private static ScatterDataSet createDataSet() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new Entry(i, i % 100));
+
+        return new ScatterDataSet(entries, "");
+    }
+
+    private static int sum(DensityGrid grid) {
+
+        int sum = 0;
+
+        for (int row = 0; row < grid.getRows(); row++) {
+            for (int column = 0; column < grid.getColumns(); column++)
+                sum += grid.getCount(column, row);
+        }
+
+        return sum;
+    }
+
+    @Test
+    public void testCount() {
+
+        ScatterDataSet set = createDataSet();
+        DensityGrid grid = new DensityGrid();
+
+        assertTrue(grid.update(set, 10f, 10f, 1000f, 2000f, 0f, 100f, COUNT - 1, 1f));
+
+        // half the visible area as margin on each side
+        assertEquals(500f, grid.getLeft());
+        assertEquals(2500f, grid.getRight());
+        assertEquals(-50f, grid.getBottom());
+        assertEquals(150f, grid.getTop());
+        assertEquals(200, grid.getColumns());
+        assertEquals(20, grid.getRows());
+
+        // x 1000 - 1009 at y 0 - 9
+        assertEquals(10, grid.getCount(50, 5));
+        assertEquals(0, grid.getCount(50, 6));
+        assertEquals(10, grid.getMaxCount());
+        assertEquals(2000, sum(grid));
+
+        // only the entries revealed by the animation
+        assertTrue(grid.update(set, 10f, 10f, 1000f, 2000f, 0f, 100f, 999, 1f));
+        assertEquals(500, sum(grid));
+    }
+
+    @Test
+    public void testReuse() {
+
+        ScatterDataSet set = createDataSet();
+        DensityGrid grid = new DensityGrid();
+
+        grid.update(set, 10f, 10f, 1000f, 2000f, 0f, 100f, COUNT - 1, 1f);
+        long reads = grid.getEntryReadCount();
+
+        // panning within the grid, cell sizes with rounding errors
+        for (int i = 0; i < 100; i++)
+            assertFalse(grid.update(set, 10.0001f, 9.9999f, 1000f + i * 5, 2000f + i * 5, 0f, 100f, COUNT - 1, 1f));
+
+        assertEquals(reads, grid.getEntryReadCount());
+
+        // panning out of the grid
+        assertTrue(grid.update(set, 10f, 10f, 2000f, 3000f, 0f, 100f, COUNT - 1, 1f));
+
+        // zooming
+        assertTrue(grid.update(set, 5f, 10f, 2000f, 2500f, 0f, 100f, COUNT - 1, 1f));
+        assertFalse(grid.update(set, 5f, 10f, 2000f, 2500f, 0f, 100f, COUNT - 1, 1f));
+
+        // changed data
+        set.getEntryForIndex(2000).setY(50f);
+        set.notifyDataSetChanged();
+        assertTrue(grid.update(set, 5f, 10f, 2000f, 2500f, 0f, 100f, COUNT - 1, 1f));
+    }
+
+    @Test
+    public void testParallelCount() {
+
+        ScatterDataSet set = createDataSet();
+
+        DensityGrid sequential = new DensityGrid();
+        sequential.update(set, 100f, 5f, 0f, COUNT, 0f, 100f, COUNT - 1, 1f);
+
+        ChartDataPreparer.setParallelThreshold(1000);
+
+        DensityGrid parallel = new DensityGrid();
+        parallel.update(set, 100f, 5f, 0f, COUNT, 0f, 100f, COUNT - 1, 1f);
+
+        assertEquals(COUNT, sum(parallel));
+        assertEquals(sequential.getColumns(), parallel.getColumns());
+        assertEquals(sequential.getRows(), parallel.getRows());
+
+        for (int row = 0; row < parallel.getRows(); row++) {
+            for (int column = 0; column < parallel.getColumns(); column++)
+                assertEquals(sequential.getCount(column, row), parallel.getCount(column, row));
+        }
+
+        // counting again at another zoom level reuses the buffers of the chunks
+        ChartDataPreparer.setParallelThreshold(Integer.MAX_VALUE);
+        sequential.update(set, 50f, 5f, 0f, COUNT, 0f, 100f, COUNT - 1, 1f);
+
+        ChartDataPreparer.setParallelThreshold(1000);
+        parallel.update(set, 50f, 5f, 0f, COUNT, 0f, 100f, COUNT - 1, 1f);
+
+        assertEquals(COUNT, sum(parallel));
+
+        for (int row = 0; row < parallel.getRows(); row++) {
+            for (int column = 0; column < parallel.getColumns(); column++)
+                assertEquals(sequential.getCount(column, row), parallel.getCount(column, row));
+        }
+    }
+
+    @Test
+    public void testPixels() {
+
+        ScatterDataSet set = createDataSet();
+        DensityGrid grid = new DensityGrid();
+
+        grid.update(set, 10f, 10f, 1000f, 2000f, 0f, 100f, COUNT - 1, 1f);
+
+        final int columns = grid.getColumns();
+        final int rows = grid.getRows();
+        final int[] colors = new int[]{0x11111111, 0xff00ff00};
+
+        int[] pixels = new int[columns * rows];
+
+        // the first row of the pixels is the top of the grid
+        grid.fillPixels(colors, false, pixels);
+        assertEquals(0xff00ff00, pixels[(rows - 1 - 5) * columns + 50]);
+        assertEquals(0, pixels[5 * columns + 50]);
+
+        grid.fillPixels(colors, true, pixels);
+        assertEquals(0xff00ff00, pixels[5 * columns + 50]);
+    }
+}
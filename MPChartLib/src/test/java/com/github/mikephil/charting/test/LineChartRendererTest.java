@@ -0,0 +1,252 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Color;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class LineChartRendererTest {
+
+    private static final int COUNT = 1000;
+
+    private static LineDataSet createDataSet(int count) {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, (float) Math.sin(i / 10.0)));
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setDrawCircles(false);
+        return set;
+    }
+
+    private static TestLineChart createChart(LineDataSet set, TestViewPortHandler handler) {
+
+        TestLineChart chart = new TestLineChart();
+        chart.setup(new LineData(set), handler, 0f, set.getEntryCount() - 1, 2f, -1f);
+        return chart;
+    }
+
+    @Test
+    public void testColorRuns() {
+
+        LineDataSet set = createDataSet(COUNT);
+
+        // red above the limit
+        List<Integer> colors = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            colors.add(set.getEntryForIndex(i).getY() > 0.5f ? Color.RED : Color.BLUE);
+
+        set.setColors(colors);
+
+        int runs = 1;
+
+        for (int i = 1; i < COUNT - 1; i++) {
+            if (!colors.get(i).equals(colors.get(i - 1)))
+                runs++;
+        }
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChartRenderer renderer = new TestLineChartRenderer(createChart(set, handler), handler);
+
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(runs, c.lineCalls);
+        assertEquals(COUNT - 1, c.lines);
+
+        // the lines span the content area, y from -1 to 1 maps to its bottom and top
+        assertEquals(20f, c.minX, 0.01f);
+        assertEquals(280f, c.maxX, 0.01f);
+        assertTrue(c.minY >= 10f && c.maxY <= 180f);
+
+        // stepped lines have two lines per segment
+        set.setMode(LineDataSet.Mode.STEPPED);
+
+        c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(runs, c.lineCalls);
+        assertEquals((COUNT - 1) * 2, c.lines);
+    }
+
+    @Test
+    public void testChunkedDrawing() {
+
+        final int count = 40000;
+
+        LineDataSet set = createDataSet(count);
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChartRenderer renderer = new TestLineChartRenderer(createChart(set, handler), handler);
+
+        // at most 16k segments per call
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(3, c.lineCalls);
+        assertEquals(count, c.lines);
+
+        // the buffers are created again after trimming
+        renderer.trimBuffers();
+
+        c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(3, c.lineCalls);
+        assertEquals(count, c.lines);
+    }
+
+    @Test
+    public void testVertexFill() {
+
+        LineDataSet set = createDataSet(COUNT);
+        set.setDrawFilled(true);
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChartRenderer renderer = new TestLineChartRenderer(createChart(set, handler), handler);
+
+        // two vertices per entry in a single strip, two more where the line crosses zero
+        int crossings = 0;
+
+        for (int i = 1; i < COUNT; i++) {
+            if (set.getEntryForIndex(i - 1).getY() * set.getEntryForIndex(i).getY() < 0f)
+                crossings++;
+        }
+
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(1, c.vertexCalls);
+        assertEquals(COUNT * 2 + crossings * 2, c.vertices);
+        assertFalse(c.textured);
+
+        // stepped lines have two more vertices per step, the gradient is sampled at the vertices
+        set.setMode(LineDataSet.Mode.STEPPED);
+        set.setFillGradient(Color.RED, Color.TRANSPARENT);
+
+        c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        assertEquals(1, c.vertexCalls);
+        assertEquals(COUNT * 2 + (COUNT - 1) * 2, c.vertices);
+        assertTrue(c.textured);
+    }
+
+    @Test
+    public void testBatchedCircles() {
+
+        LineDataSet set = createDataSet(COUNT);
+        set.setDrawCircles(true);
+        set.setCircleColors(Color.RED, Color.RED, Color.BLUE);
+        set.setCircleHoleColor(Color.WHITE);
+        set.setDrawCircleHole(true);
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChartRenderer renderer = new TestLineChartRenderer(createChart(set, handler), handler);
+
+        // one call per color run and one for the holes
+        CountingCanvas c = new CountingCanvas();
+        renderer.circles(c);
+
+        int runs = (COUNT + 2) / 3 + (COUNT + 1) / 3;
+
+        assertEquals(runs + 1, c.pointCalls);
+        assertEquals(COUNT * 2, c.points);
+
+        set.setDrawCircleHole(false);
+
+        c = new CountingCanvas();
+        renderer.circles(c);
+
+        assertEquals(runs, c.pointCalls);
+        assertEquals(COUNT, c.points);
+    }
+
+    @Test
+    public void testDataTile() {
+
+        LineDataSet set = createDataSet(COUNT);
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChart chart = createChart(set, handler);
+        TestLineChartRenderer renderer = new TestLineChartRenderer(chart, handler);
+
+        // zoomed in twice, the first tile is visible, the transformer caches its matrices
+        handler.setTouch(2f, 1f, 0f, 0f);
+        assertEquals(540f, (float) chart.transformer.getPixelForValues(COUNT - 1, 0f).x, 0.01f);
+
+        // the second tile starts at the middle of the data and ends with its last entry
+        CountingCanvas c = new CountingCanvas();
+        renderer.drawDataTile(c, 1, 260);
+
+        assertEquals(1, c.lineCalls);
+        assertEquals(-260f, c.minX, 0.01f);
+        assertEquals(260f, c.maxX, 0.01f);
+        assertTrue(c.minY >= 0f && c.maxY <= 170f);
+
+        // the visible translation is restored
+        assertEquals(0f, handler.getTransX());
+        assertEquals(540f, (float) chart.transformer.getPixelForValues(COUNT - 1, 0f).x, 0.01f);
+
+        // panned by half a tile, tile 0 is drawn at the same place as before
+        handler.setTouch(2f, 1f, -130f, 0f);
+
+        c = new CountingCanvas();
+        renderer.drawDataTile(c, 0, 260);
+
+        assertEquals(0f, c.minX, 0.01f);
+        assertEquals(520f, c.maxX, 0.01f);
+        assertEquals(-130f, handler.getTransX());
+    }
+
+    @Test
+    public void testVertexFillCrossing() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++)
+            entries.add(new Entry(i, i % 2 == 0 ? 1f : -1f));
+
+        LineDataSet set = new LineDataSet(entries, "");
+        set.setDrawCircles(false);
+        set.setDrawFilled(true);
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        TestLineChart chart = createChart(set, handler);
+        TestLineChartRenderer renderer = new TestLineChartRenderer(chart, handler);
+
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+
+        // every segment crosses the fill line at zero half way
+        assertEquals(10 * 2 + 9 * 2, c.vertices);
+
+        final float fillY = (float) chart.transformer.getPixelForValues(0f, 0f).y;
+        final float[] v = c.lastVertices;
+
+        assertEquals(chart.transformer.getPixelForValues(0.5f, 0f).x, v[4], 0.01f);
+        assertEquals(fillY, v[5], 0.01f);
+
+        // no triangle of the strip reaches across the fill line
+        for (int i = 0; i + 5 < v.length; i += 2) {
+
+            boolean above = v[i + 1] < fillY - 0.01f || v[i + 3] < fillY - 0.01f || v[i + 5] < fillY - 0.01f;
+            boolean below = v[i + 1] > fillY + 0.01f || v[i + 3] > fillY + 0.01f || v[i + 5] > fillY + 0.01f;
+
+            assertFalse("triangle " + i / 2, above && below);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CandleDataSet;
+import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.renderer.OhlcResampler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+public class OhlcResamplerTest {
+
+    private static CandleDataSet createDataSet(int count) {
+
+        List<CandleEntry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            float open = 100f + i;
+            float close = open + (i % 2 == 0 ? 2f : -2f);
+            entries.add(new CandleEntry(i, open + 5f + (i % 3), open - 5f - (i % 4), open, close));
+        }
+
+        return new CandleDataSet(entries, "");
+    }
+
+    @Test
+    public void testBucketSize() {
+
+        assertEquals(1, OhlcResampler.getBucketSize(0.3f));
+        assertEquals(1, OhlcResampler.getBucketSize(1f));
+        assertEquals(2, OhlcResampler.getBucketSize(1.5f));
+        assertEquals(4, OhlcResampler.getBucketSize(4f));
+        assertEquals(8, OhlcResampler.getBucketSize(4.1f));
+        assertEquals(1024, OhlcResampler.getBucketSize(1000f));
+    }
+
+    @Test
+    public void testResample() {
+
+        CandleDataSet set = createDataSet(10);
+        OhlcResampler resampler = new OhlcResampler();
+
+        float[] candles = resampler.getCandles(set, 4);
+
+        // 0-3, 4-7, 8-9
+        assertEquals(3 * OhlcResampler.STRIDE, candles.length);
+
+        for (int c = 0; c < 3; c++) {
+
+            final int from = c * 4;
+            final int to = Math.min(10, from + 4) - 1;
+
+            float high = -Float.MAX_VALUE;
+            float low = Float.MAX_VALUE;
+
+            for (int i = from; i <= to; i++) {
+                high = Math.max(high, set.getEntryForIndex(i).getHigh());
+                low = Math.min(low, set.getEntryForIndex(i).getLow());
+            }
+
+            final int j = c * OhlcResampler.STRIDE;
+
+            assertEquals((float) from, candles[j]);
+            assertEquals((float) to, candles[j + 1]);
+            assertEquals(set.getEntryForIndex(from).getOpen(), candles[j + 2]);
+            assertEquals(high, candles[j + 3]);
+            assertEquals(low, candles[j + 4]);
+            assertEquals(set.getEntryForIndex(to).getClose(), candles[j + 5]);
+        }
+    }
+
+    @Test
+    public void testCache() {
+
+        CandleDataSet set = createDataSet(100000);
+        OhlcResampler resampler = new OhlcResampler();
+
+        float[] candles = resampler.getCandles(set, 16);
+        assertEquals(100000, resampler.getEntryReadCount());
+
+        // the same zoom level is cached
+        assertSame(candles, resampler.getCandles(set, 16));
+        assertEquals(100000, resampler.getEntryReadCount());
+
+        // coarser levels are merged from the cached one, the result is the same as from the entries
+        float[] coarse = resampler.getCandles(set, 256);
+        assertEquals(100000, resampler.getEntryReadCount());
+
+        float[] expected = new OhlcResampler().getCandles(set, 256);
+        assertEquals(expected.length, coarse.length);
+
+        for (int i = 0; i < expected.length; i++)
+            assertEquals(expected[i], coarse[i]);
+
+        // only the finest and the current level are kept
+        assertSame(coarse, resampler.getCandles(set, 256));
+        float[] medium = resampler.getCandles(set, 64);
+        assertSame(medium, resampler.getCandles(set, 64));
+        assertTrue(coarse != resampler.getCandles(set, 256));
+        assertSame(candles, resampler.getCandles(set, 16));
+        assertEquals(100000, resampler.getEntryReadCount());
+
+        // data changes drop the cache
+        set.getEntryForIndex(0).setHigh(1000f);
+        set.notifyDataSetChanged();
+
+        coarse = resampler.getCandles(set, 256);
+        assertEquals(200000, resampler.getEntryReadCount());
+        assertEquals(1000f, coarse[3]);
+    }
+}
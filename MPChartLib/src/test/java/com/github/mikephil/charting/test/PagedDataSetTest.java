@@ -0,0 +1,330 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PagedLineDataSet;
+import com.github.mikephil.charting.data.paging.DataPageCache;
+import com.github.mikephil.charting.data.paging.InMemoryDataPageProvider;
+import com.github.mikephil.charting.data.paging.OnDataPageLoadedListener;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+public class PagedDataSetTest {
+
+    /**
+     * executor that collects tasks so the test can decide when they run
+     */
+    private static class QueueExecutor implements Executor {
+
+        List<Runnable> tasks = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            List<Runnable> run = tasks;
+            tasks = new ArrayList<>();
+            for (Runnable r : run)
+                r.run();
+        }
+    }
+
+    private static boolean isRequested(DataPageCache cache, int page) {
+        return cache.getResidentPage(page) != null || cache.isPending(page);
+    }
+
+    private static InMemoryDataPageProvider createProvider(int count) {
+
+        float[] xVals = new float[count];
+        float[] yVals = new float[count];
+
+        for (int i = 0; i < count; i++) {
+            xVals[i] = i * 2f;
+            yVals[i] = i % 10;
+        }
+
+        return new InMemoryDataPageProvider(xVals, yVals);
+    }
+
+    @Test
+    public void testMinMaxAndLookup() {
+
+        InMemoryDataPageProvider provider = createProvider(1000);
+        DataPageCache cache = new DataPageCache(provider, 100, DataPageCache.DEFAULT_MAX_BYTES);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        PagedLineDataSet set = new PagedLineDataSet(cache, "");
+
+        // min / max must come from the provider without loading any page
+        assertEquals(0, provider.getLoadCount());
+
+        assertEquals(0f, set.getXMin(), 0.01f);
+        assertEquals(1998f, set.getXMax(), 0.01f);
+        assertEquals(0f, set.getYMin(), 0.01f);
+        assertEquals(9f, set.getYMax(), 0.01f);
+
+        assertEquals(1000, set.getEntryCount());
+
+        // a page that has never been loaded is approximated from the ranges of the provider
+        Entry e = set.getEntryForIndex(555);
+        assertEquals(1110f, e.getX(), 0.01f);
+        assertEquals(4.5f, e.getY(), 0.01f);
+        assertEquals(0, provider.getLoadCount());
+        assertTrue(cache.isPending(5));
+
+        executor.runAll();
+
+        e = set.getEntryForIndex(555);
+        assertEquals(1110f, e.getX(), 0.01f);
+        assertEquals(5f, e.getY(), 0.01f);
+
+        assertEquals(555, set.getEntryIndex(1110f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertEquals(555, set.getEntryIndex(1111f, Float.NaN, DataSet.Rounding.DOWN));
+        assertEquals(556, set.getEntryIndex(1111f, Float.NaN, DataSet.Rounding.UP));
+        assertEquals(555, set.getEntryIndex(e));
+
+        set.calcMinMaxY(1110f, 1114f);
+        assertEquals(5f, set.getYMin(), 0.01f);
+        assertEquals(7f, set.getYMax(), 0.01f);
+
+        // lookups only read the page containing the x-value, the others are not loaded
+        assertEquals(1, provider.getLoadCount());
+        assertEquals(0, executor.tasks.size());
+
+        assertEquals(200, set.getEntryIndex(400f, Float.NaN, DataSet.Rounding.CLOSEST));
+        assertTrue(cache.isPending(2));
+        assertEquals(1, executor.tasks.size());
+        assertEquals(1, provider.getLoadCount());
+    }
+
+    @Test
+    public void testMemoryBudget() {
+
+        InMemoryDataPageProvider provider = createProvider(1000);
+        DataPageCache cache = new DataPageCache(provider, 100, 3 * 100 * 48);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        PagedLineDataSet set = new PagedLineDataSet(cache, "");
+
+        for (int i = 0; i < 1000; i += 100)
+            set.getEntryForIndex(i);
+
+        executor.runAll();
+
+        assertEquals(10, provider.getLoadCount());
+        assertEquals(3, cache.getResidentPageCount());
+        assertTrue(cache.getByteSize() <= cache.getMaxBytes());
+
+        // least recently used pages are evicted first
+        assertNotNull(cache.getResidentPage(9));
+        assertNotNull(cache.getResidentPage(8));
+        assertNotNull(cache.getResidentPage(7));
+        assertNull(cache.getResidentPage(0));
+
+        // summaries survive the eviction
+        assertNotNull(cache.getSummary(0));
+        assertEquals(0f, cache.getSummary(0).yMin, 0.01f);
+        assertEquals(9f, cache.getSummary(0).yMax, 0.01f);
+    }
+
+    @Test
+    public void testApproximationWhileLoading() {
+
+        InMemoryDataPageProvider provider = createProvider(1000);
+        DataPageCache cache = new DataPageCache(provider, 100, 100 * 48);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        PagedLineDataSet set = new PagedLineDataSet(cache, "");
+
+        final int[] loaded = new int[]{-1};
+        set.setOnDataPageLoadedListener(new OnDataPageLoadedListener() {
+            @Override
+            public void onDataPageLoaded(int pageIndex) {
+                loaded[0] = pageIndex;
+            }
+        });
+
+        set.getEntryForIndex(50);
+        set.getEntryForIndex(150);
+        executor.runAll();
+
+        // page 0 has been evicted, its summary is used until the background load completes
+        assertNull(cache.getResidentPage(0));
+
+        Entry approx = set.getEntryForIndex(50);
+        assertEquals(100f, approx.getX(), 0.01f);
+        assertEquals(4.5f, approx.getY(), 0.01f);
+        assertTrue(cache.isPending(0));
+        assertEquals(1, executor.tasks.size());
+
+        long version = set.getVersion();
+        executor.runAll();
+
+        assertEquals(0, loaded[0]);
+        assertFalse(cache.isPending(0));
+        assertEquals(0f, set.getEntryForIndex(50).getY(), 0.01f);
+
+        // the loaded page replaces the approximation, caches of the values have to be updated
+        assertTrue(set.getVersion() != version);
+        assertFalse(set.getDirtyRange(version, new int[2]));
+        assertTrue(set.getDirtyRange(set.getVersion(), new int[2]));
+    }
+
+    @Test
+    public void testPrefetch() {
+
+        InMemoryDataPageProvider provider = createProvider(1000);
+        DataPageCache cache = new DataPageCache(provider, 100, DataPageCache.DEFAULT_MAX_BYTES);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        PagedLineDataSet set = new PagedLineDataSet(cache, "");
+
+        // visible range covers page 4, panning towards higher x-values
+        set.prefetch(810f, 890f, 80f);
+
+        assertTrue(isRequested(cache, 4));
+        assertTrue(isRequested(cache, 5));
+        assertFalse(cache.isPending(3));
+        assertFalse(isRequested(cache, 6));
+
+        executor.runAll();
+
+        assertNotNull(cache.getResidentPage(4));
+        assertNotNull(cache.getResidentPage(5));
+
+        // panning towards lower x-values
+        set.prefetch(810f, 890f, -80f);
+
+        assertTrue(isRequested(cache, 3));
+        assertFalse(isRequested(cache, 6));
+
+        // a fast fling prefetches more pages ahead
+        set.prefetch(810f, 890f, 400f);
+
+        assertTrue(isRequested(cache, 6));
+        assertTrue(isRequested(cache, 7));
+        assertFalse(isRequested(cache, 8));
+    }
+
+    @Test
+    public void testPrefetchOnPageBoundaries() {
+
+        InMemoryDataPageProvider provider = createProvider(1000);
+        DataPageCache cache = new DataPageCache(provider, 100, DataPageCache.DEFAULT_MAX_BYTES);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        PagedLineDataSet set = new PagedLineDataSet(cache, "");
+
+        set.prefetch(810f, 890f, 80f);
+        assertEquals(2, executor.tasks.size());
+
+        executor.runAll();
+        cache.clear();
+
+        // panning within the same pages does not request the pages ahead again, only the
+        // visible page is requested by the lookup of the visible range
+        set.prefetch(812f, 892f, 80f);
+        set.prefetch(815f, 895f, 80f);
+
+        assertFalse(isRequested(cache, 5));
+
+        // crossing into page 5
+        set.prefetch(920f, 1010f, 80f);
+
+        assertTrue(isRequested(cache, 4));
+        assertTrue(isRequested(cache, 5));
+        assertTrue(isRequested(cache, 6));
+
+        executor.runAll();
+
+        // changing the direction requests the pages behind
+        set.prefetch(920f, 1010f, -80f);
+        assertTrue(isRequested(cache, 3));
+
+        // new data is prefetched again
+        set.notifyDataSetChanged();
+        set.prefetch(920f, 1010f, -80f);
+
+        assertTrue(isRequested(cache, 3));
+    }
+
+    @Test
+    public void testStaleAndFailedLoads() {
+
+        final int[] count = new int[]{1000};
+        final boolean[] fail = new boolean[]{false};
+
+        InMemoryDataPageProvider provider = new InMemoryDataPageProvider(new float[1000], new float[1000]) {
+
+            @Override
+            public int getSampleCount() {
+                return count[0];
+            }
+
+            @Override
+            public void loadPage(int from, int count, float[] xVals, float[] yVals) {
+
+                if (fail[0])
+                    throw new IllegalStateException();
+
+                super.loadPage(from, count, xVals, yVals);
+            }
+        };
+
+        DataPageCache cache = new DataPageCache(provider, 100, DataPageCache.DEFAULT_MAX_BYTES);
+        QueueExecutor executor = new QueueExecutor();
+        cache.setExecutor(executor);
+
+        // pages loaded for the data before clear() are dropped
+        cache.requestPage(3);
+        cache.clear();
+
+        assertFalse(cache.isPending(3));
+
+        executor.runAll();
+        assertNull(cache.getResidentPage(3));
+
+        // pages beyond the data are dropped when the data has shrunk in the meantime
+        cache.requestPage(9);
+        count[0] = 500;
+
+        executor.runAll();
+        assertNull(cache.getResidentPage(9));
+        assertNull(cache.getSummary(9));
+
+        // a failed load can be requested again
+        fail[0] = true;
+        cache.requestPage(2);
+
+        try {
+            executor.runAll();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        assertFalse(cache.isPending(2));
+
+        fail[0] = false;
+        cache.requestPage(2);
+        executor.runAll();
+
+        assertNotNull(cache.getResidentPage(2));
+    }
+}
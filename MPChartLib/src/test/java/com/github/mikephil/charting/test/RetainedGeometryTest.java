@@ -0,0 +1,208 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.renderer.RetainedGeometry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RetainedGeometryTest {
+
+    /**
+     * LineDataSet that counts how often the y-values of its entries are read
+     */
+    private static class CountingLineDataSet extends LineDataSet {
+
+        int reads = 0;
+
+        CountingLineDataSet(List<Entry> yVals, String label) {
+            super(yVals, label);
+        }
+
+        @Override
+        public Entry getEntryForIndex(int index) {
+            reads++;
+            return super.getEntryForIndex(index);
+        }
+
+        @Override
+        public float getEntryY(int index) {
+            reads++;
+            return super.getEntryY(index);
+        }
+    }
+
+    private static CountingLineDataSet createDataSet(int count) {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i, (float) Math.sin(i / 10.0)));
+
+        return new CountingLineDataSet(entries, "");
+    }
+
+    private static TestLineChart createChart(CountingLineDataSet set, TestViewPortHandler handler) {
+
+        TestLineChart chart = new TestLineChart();
+        chart.setup(new LineData(set), handler, 0f, 100f, 2f, -1f);
+        chart.lowestVisibleX = 0f;
+        chart.highestVisibleX = 100f;
+        return chart;
+    }
+
+    @Test
+    public void testUpdate() {
+
+        CountingLineDataSet set = createDataSet(1000);
+        RetainedGeometry geometry = new RetainedGeometry();
+
+        assertTrue(geometry.update(set, 100, 199));
+
+        // half the range as margin on both sides
+        assertEquals(50, geometry.getFrom());
+        assertEquals(249, geometry.getTo());
+        assertEquals(200, geometry.getEntryReadCount());
+        assertEquals(150f, geometry.getX(150));
+        assertEquals(set.getEntryForIndex(150).getY(), geometry.getY(150));
+
+        // inside the retained range
+        assertFalse(geometry.update(set, 120, 219));
+        assertEquals(200, geometry.getEntryReadCount());
+
+        // clamped to the DataSet
+        assertTrue(geometry.update(set, -10, 5));
+        assertEquals(0, geometry.getFrom());
+
+        float[] pts = new float[4];
+        assertEquals(4, geometry.getPoints(1, 2, 0.5f, pts, 0));
+        assertEquals(1f, pts[0]);
+        assertEquals(set.getEntryForIndex(1).getY() * 0.5f, pts[1]);
+        assertEquals(2f, pts[2]);
+
+        // a change of the DataSet is picked up through its version
+        set.replaceY(1, new float[]{5f}, 0, 1);
+        assertTrue(geometry.update(set, 0, 5));
+        assertEquals(5f, geometry.getY(1));
+    }
+
+    @Test
+    public void testDirtyRange() {
+
+        CountingLineDataSet set = createDataSet(1000);
+        RetainedGeometry geometry = new RetainedGeometry();
+
+        geometry.update(set, 100, 199);
+        assertEquals(200, geometry.getEntryReadCount());
+
+        // only the changed entries within the retained range are read again
+        set.replaceY(240, new float[]{5f, 6f, 7f, 8f, 9f, 10f, 11f, 12f, 13f, 14f, 15f, 16f, 17f}, 0, 13);
+        assertTrue(geometry.update(set, 100, 199));
+        assertEquals(210, geometry.getEntryReadCount());
+        assertEquals(5f, geometry.getY(240));
+        assertEquals(14f, geometry.getY(249));
+        assertFalse(geometry.update(set, 100, 199));
+
+        // a full change reads the whole range again
+        set.notifyDataSetChanged();
+        assertTrue(geometry.update(set, 100, 199));
+        assertEquals(410, geometry.getEntryReadCount());
+    }
+
+    @Test
+    public void testDragFrames() {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        CountingLineDataSet set = createDataSet(10000);
+        TestLineChart chart = createChart(set, handler);
+        TestLineChartRenderer renderer = new TestLineChartRenderer(chart, handler);
+        renderer.setRetainedGeometryEnabled(true);
+
+        // first frame reads the visible range plus the margin
+        renderer.draw(new Canvas(), set);
+
+        final int visible = 101;
+        assertTrue(set.reads >= visible);
+
+        set.reads = 0;
+
+        // drag by one entry per frame
+        final int frames = 1000;
+
+        for (int i = 1; i <= frames; i++) {
+
+            chart.lowestVisibleX = i;
+            chart.highestVisibleX = 100 + i;
+            handler.setTouch(1f, 1f, -i * 2.6f, 0f);
+
+            renderer.draw(new Canvas(), set);
+        }
+
+        // without retaining, every frame would read the whole visible range
+        float readsPerFrame = set.reads / (float) frames;
+        assertTrue("reads per frame " + readsPerFrame, readsPerFrame < visible * 0.1f);
+
+        // zooming within the retained range does not read at all
+        set.reads = 0;
+
+        for (int i = 0; i < 100; i++) {
+
+            chart.lowestVisibleX = frames + 10;
+            chart.highestVisibleX = frames + 60 + (i % 10);
+            handler.setTouch(2f, 1f, -frames * 5.2f, 0f);
+
+            renderer.draw(new Canvas(), set);
+        }
+
+        assertEquals(0, set.reads);
+
+        // notifyDataSetChanged() re-initializes the buffers and drops the retained values
+        renderer.initBuffers();
+        renderer.draw(new Canvas(), set);
+        assertTrue(set.reads > 0);
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        CountingLineDataSet set = createDataSet(1000);
+        TestLineChart chart = createChart(set, handler);
+        TestLineChartRenderer renderer = new TestLineChartRenderer(chart, handler);
+
+        assertFalse(renderer.isRetainedGeometryEnabled());
+
+        renderer.draw(new Canvas(), set);
+
+        // only the visible range is read, without a margin
+        assertEquals(0, renderer.geometry(set).getFrom());
+        assertEquals(100, renderer.geometry(set).getTo());
+
+        // entries modified directly are drawn on the next frame
+        set.getEntryForIndex(50).setY(42f);
+        renderer.draw(new Canvas(), set);
+        assertEquals(42f, renderer.geometry(set).getY(50));
+
+        // with retaining enabled, they are only picked up after notifyDataSetChanged()
+        renderer.setRetainedGeometryEnabled(true);
+        renderer.draw(new Canvas(), set);
+
+        set.getEntryForIndex(50).setY(43f);
+        renderer.draw(new Canvas(), set);
+        assertEquals(42f, renderer.geometry(set).getY(50));
+
+        set.notifyDataSetChanged();
+        renderer.draw(new Canvas(), set);
+        assertEquals(43f, renderer.geometry(set).getY(50));
+    }
+}
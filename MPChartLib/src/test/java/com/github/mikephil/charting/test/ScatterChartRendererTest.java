@@ -0,0 +1,111 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.charts.ScatterChart;
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.data.ScatterDataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.ScatterChartRenderer;
+import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+public class ScatterChartRendererTest {
+
+    /**
+     * exposes drawDataSet(...)
+     */
+    private static class TestScatterChartRenderer extends ScatterChartRenderer {
+
+        TestScatterChartRenderer(ScatterDataProvider chart, TestViewPortHandler viewPortHandler) {
+            super(chart, new ChartAnimator(), viewPortHandler);
+        }
+
+        void draw(Canvas c, IScatterDataSet set) {
+            drawDataSet(c, set);
+        }
+    }
+
+    private static final int COUNT = 1000;
+
+    private static TestScatterChart createChart(ScatterDataSet set) {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+
+        TestScatterChart chart = new TestScatterChart();
+        chart.setup(new ScatterData(set), handler, 0f, COUNT - 1, 100f, 0f);
+        return chart;
+    }
+
+    private static ScatterDataSet createDataSet() {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < COUNT; i++)
+            entries.add(new Entry(i, 10f + (i % 80)));
+
+        return new ScatterDataSet(entries, "");
+    }
+
+    private static int draw(TestScatterChart chart, IScatterDataSet set) {
+
+        TestScatterChartRenderer renderer = new TestScatterChartRenderer(chart, chart.handler);
+
+        CountingCanvas c = new CountingCanvas();
+        renderer.draw(c, set);
+        return c.calls;
+    }
+
+    @Test
+    public void testBulkDrawing() {
+
+        ScatterDataSet set = createDataSet();
+        TestScatterChart chart = createChart(set);
+
+        for (ScatterChart.ScatterShape shape : ScatterChart.ScatterShape.values()) {
+
+            set.setScatterShape(shape);
+
+            int calls = draw(chart, set);
+            assertTrue(shape + " calls " + calls, calls > 0 && calls <= 2);
+        }
+
+        // one run per color
+        set.setScatterShape(ScatterChart.ScatterShape.X);
+        set.setColors(Color.RED, Color.RED, Color.BLUE, Color.BLUE);
+        assertEquals(COUNT / 2, draw(chart, set));
+    }
+
+    @Test
+    public void testShapeRendererFallback() {
+
+        final int[] shapes = new int[1];
+
+        ScatterDataSet set = createDataSet();
+        set.setColors(Color.RED, Color.GREEN, Color.BLUE);
+        set.setShapeRenderer(new IShapeRenderer() {
+            @Override
+            public void renderShape(Canvas c, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+                                    float posX, float posY, Paint renderPaint) {
+                shapes[0]++;
+            }
+        });
+
+        draw(createChart(set), set);
+
+        assertEquals(COUNT, shapes[0]);
+    }
+}
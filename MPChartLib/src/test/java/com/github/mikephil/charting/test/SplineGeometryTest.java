@@ -0,0 +1,131 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.renderer.SplineGeometry;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class SplineGeometryTest {
+
+    private static LineDataSet createDataSet(int count) {
+
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+            entries.add(new Entry(i * 2, (float) Math.sin(i / 10.0) * (i % 3 + 1)));
+
+        return new LineDataSet(entries, "");
+    }
+
+    /**
+     * the control points of the segment leading to entry j as calculated before they were cached
+     */
+    private static float[] cubicControlPoints(LineDataSet set, int j, float intensity) {
+
+        Entry prevPrev = set.getEntryForIndex(Math.max(j - 2, 0));
+        Entry prev = set.getEntryForIndex(j - 1);
+        Entry cur = set.getEntryForIndex(j);
+        Entry next = set.getEntryForIndex(Math.min(j + 1, set.getEntryCount() - 1));
+
+        float prevDx = (cur.getX() - prevPrev.getX()) * intensity;
+        float prevDy = (cur.getY() - prevPrev.getY()) * intensity;
+        float curDx = (next.getX() - prev.getX()) * intensity;
+        float curDy = (next.getY() - prev.getY()) * intensity;
+
+        return new float[]{prev.getX() + prevDx, prev.getY() + prevDy, cur.getX() - curDx, cur.getY() - curDy};
+    }
+
+    @Test
+    public void testControlPoints() {
+
+        LineDataSet set = createDataSet(1000);
+
+        SplineGeometry spline = new SplineGeometry();
+        float[] out = new float[4];
+
+        // the segments of the entries 1 - 999
+        assertTrue(spline.update(set, 0, 999, 0.2f, false));
+
+        for (int j = 1; j < 1000; j++) {
+
+            spline.getControlPoints(j, out);
+            float[] expected = cubicControlPoints(set, j, 0.2f);
+
+            for (int i = 0; i < 4; i++)
+                assertEquals(expected[i], out[i], 1e-5f);
+        }
+
+        // horizontal bezier has its control points half way between the entries
+        assertTrue(spline.update(set, 0, 999, 0.2f, true));
+
+        spline.getControlPoints(10, out);
+        assertEquals(19f, out[0]);
+        assertEquals(set.getEntryForIndex(9).getY(), out[1]);
+        assertEquals(19f, out[2]);
+        assertEquals(set.getEntryForIndex(10).getY(), out[3]);
+        assertEquals(20f, spline.getX(10));
+    }
+
+    @Test
+    public void testCache() {
+
+        LineDataSet set = createDataSet(10000);
+        SplineGeometry spline = new SplineGeometry();
+
+        // panning, the control points are calculated once for the whole DataSet
+        for (int i = 0; i < 1000; i++)
+            spline.update(set, 1000 + i, 1100 + i, 0.2f, false);
+
+        assertEquals(1, spline.getCalculationCount());
+
+        // a different intensity
+        assertTrue(spline.update(set, 1000, 1100, 0.1f, false));
+        assertFalse(spline.update(set, 5000, 5100, 0.1f, false));
+
+        // changed data
+        set.getEntryForIndex(1050).setY(10f);
+        set.notifyDataSetChanged();
+
+        assertTrue(spline.update(set, 1000, 1100, 0.1f, false));
+
+        float[] out = new float[4];
+        spline.getControlPoints(1050, out);
+        assertEquals(cubicControlPoints(set, 1050, 0.1f)[3], out[3], 1e-5f);
+    }
+
+    @Test
+    public void testPanWithoutRetaining() {
+
+        TestViewPortHandler handler = TestViewPortHandler.create();
+        LineDataSet set = createDataSet(10000);
+        set.setMode(LineDataSet.Mode.CUBIC_BEZIER);
+
+        TestLineChart chart = new TestLineChart();
+        chart.setup(new LineData(set), handler, 0f, 200f, 2f, -3f);
+
+        TestLineChartRenderer renderer = new TestLineChartRenderer(chart, handler);
+        assertFalse(renderer.isRetainedGeometryEnabled());
+
+        for (int i = 0; i < 100; i++) {
+
+            chart.lowestVisibleX = i * 2;
+            chart.highestVisibleX = 200 + i * 2;
+            handler.setTouch(1f, 1f, -i * 2.6f, 0f);
+
+            renderer.draw(new Canvas(), set);
+        }
+
+        assertEquals(1, renderer.spline(set).getCalculationCount());
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.BarData;
+import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
+
+class TestBarChart extends TestChart<BarData> implements BarDataProvider {
+
+    boolean aggregation = true;
+
+    @Override
+    public BarData getBarData() {
+        return data;
+    }
+
+    @Override
+    public boolean isDrawBarShadowEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isDrawValueAboveBarEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isHighlightFullBarEnabled() {
+        return false;
+    }
+
+    @Override
+    public boolean isBarAggregationEnabled() {
+        return aggregation;
+    }
+
+    @Override
+    public float getBarAggregationThreshold() {
+        return 1f;
+    }
+}
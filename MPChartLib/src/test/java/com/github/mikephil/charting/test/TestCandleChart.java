@@ -0,0 +1,24 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
+
+class TestCandleChart extends TestChart<CandleData> implements CandleDataProvider {
+
+    boolean resampling = false;
+
+    @Override
+    public CandleData getCandleData() {
+        return data;
+    }
+
+    @Override
+    public boolean isCandleResamplingEnabled() {
+        return resampling;
+    }
+
+    @Override
+    public float getCandleResamplingThreshold() {
+        return 3f;
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.formatter.IValueFormatter;
+import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
+import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.Transformer;
+
+/**
+ * 300 x 200 chart with a fixed transformer and a visible x-range that can be moved, the base of
+ * the chart stubs of the renderer tests
+ */
+abstract class TestChart<T extends BarLineScatterCandleBubbleData> implements BarLineScatterCandleBubbleDataProvider {
+
+    T data;
+    TestViewPortHandler handler;
+    Transformer transformer;
+    float lowestVisibleX, highestVisibleX;
+    float maxHighlightDistance = 0f;
+
+    /**
+     * Sets the data and shows its whole x-range, the transformer maps the given value range to
+     * the content area of the given handler.
+     *
+     * @param data
+     * @param handler
+     * @param xChartMin
+     * @param deltaX
+     * @param deltaY
+     * @param yChartMin
+     */
+    void setup(T data, TestViewPortHandler handler, float xChartMin, float deltaX, float deltaY, float yChartMin) {
+        this.data = data;
+        this.handler = handler;
+        transformer = new Transformer(handler);
+        transformer.prepareMatrixValuePx(xChartMin, deltaX, deltaY, yChartMin);
+        transformer.prepareMatrixOffset(false);
+        lowestVisibleX = data.getXMin();
+        highestVisibleX = data.getXMax();
+    }
+
+    @Override
+    public Transformer getTransformer(YAxis.AxisDependency axis) {
+        return transformer;
+    }
+
+    @Override
+    public boolean isInverted(YAxis.AxisDependency axis) {
+        return false;
+    }
+
+    @Override
+    public float getLowestVisibleX() {
+        return lowestVisibleX;
+    }
+
+    @Override
+    public float getHighestVisibleX() {
+        return highestVisibleX;
+    }
+
+    @Override
+    public T getData() {
+        return data;
+    }
+
+    @Override
+    public float getXChartMin() {
+        return data.getXMin();
+    }
+
+    @Override
+    public float getXChartMax() {
+        return data.getXMax();
+    }
+
+    @Override
+    public float getXRange() {
+        return data.getXMax() - data.getXMin();
+    }
+
+    @Override
+    public float getYChartMin() {
+        return data.getYMin();
+    }
+
+    @Override
+    public float getYChartMax() {
+        return data.getYMax();
+    }
+
+    @Override
+    public float getMaxHighlightDistance() {
+        return maxHighlightDistance;
+    }
+
+    @Override
+    public int getWidth() {
+        return 300;
+    }
+
+    @Override
+    public int getHeight() {
+        return 200;
+    }
+
+    @Override
+    public MPPointF getCenterOfView() {
+        return MPPointF.getInstance(150f, 100f);
+    }
+
+    @Override
+    public MPPointF getCenterOffsets() {
+        return MPPointF.getInstance(150f, 100f);
+    }
+
+    @Override
+    public RectF getContentRect() {
+        return null;
+    }
+
+    @Override
+    public IValueFormatter getDefaultValueFormatter() {
+        return null;
+    }
+
+    @Override
+    public int getMaxVisibleCount() {
+        return 100;
+    }
+}
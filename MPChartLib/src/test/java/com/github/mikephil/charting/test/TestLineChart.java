@@ -0,0 +1,18 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.components.YAxis;
+import com.github.mikephil.charting.data.LineData;
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+
+class TestLineChart extends TestChart<LineData> implements LineDataProvider {
+
+    @Override
+    public LineData getLineData() {
+        return data;
+    }
+
+    @Override
+    public YAxis getAxis(YAxis.AxisDependency dependency) {
+        return null;
+    }
+}
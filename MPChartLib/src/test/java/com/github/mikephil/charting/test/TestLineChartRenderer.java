@@ -0,0 +1,39 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.Canvas;
+
+import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.dataprovider.LineDataProvider;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.renderer.LineChartRenderer;
+import com.github.mikephil.charting.renderer.RetainedGeometry;
+import com.github.mikephil.charting.renderer.SplineGeometry;
+
+/**
+ * exposes drawDataSet(...), drawCircles(...), the retained values and the spline cache
+ */
+class TestLineChartRenderer extends LineChartRenderer {
+
+    TestLineChartRenderer(LineDataProvider chart, TestViewPortHandler viewPortHandler) {
+        super(chart, new ChartAnimator(), viewPortHandler);
+    }
+
+    void draw(Canvas c, ILineDataSet set) {
+        // the bezier modes draw on the bitmap canvas
+        mBitmapCanvas = c;
+        drawDataSet(c, set);
+    }
+
+    void circles(Canvas c) {
+        drawCircles(c);
+    }
+
+    RetainedGeometry geometry(ILineDataSet set) {
+        return peekRetainedGeometry(set);
+    }
+
+    SplineGeometry spline(ILineDataSet set) {
+        return getSplineGeometry(set, 0, 0, set.getMode() == LineDataSet.Mode.HORIZONTAL_BEZIER);
+    }
+}
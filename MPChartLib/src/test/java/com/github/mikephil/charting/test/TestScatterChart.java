@@ -0,0 +1,12 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.data.ScatterData;
+import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
+
+class TestScatterChart extends TestChart<ScatterData> implements ScatterDataProvider {
+
+    @Override
+    public ScatterData getScatterData() {
+        return data;
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.mikephil.charting.test;
+
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * ViewPortHandler that does not depend on RectF / Matrix, which are stubbed in unit tests
+ */
+class TestViewPortHandler extends ViewPortHandler {
+
+    float scaleX = 1f, scaleY = 1f, transX = 0f, transY = 0f;
+
+    /**
+     * Returns a handler for a 300 x 200 chart with the content area 20 - 280 x 10 - 180.
+     *
+     * @return
+     */
+    static TestViewPortHandler create() {
+
+        TestViewPortHandler handler = new TestViewPortHandler();
+        handler.setChartDimens(300f, 200f);
+        handler.restrainViewPort(20f, 10f, 20f, 20f);
+        return handler;
+    }
+
+    @Override
+    public void restrainViewPort(float offsetLeft, float offsetTop, float offsetRight, float offsetBottom) {
+        mContentRect.left = offsetLeft;
+        mContentRect.top = offsetTop;
+        mContentRect.right = getChartWidth() - offsetRight;
+        mContentRect.bottom = getChartHeight() - offsetBottom;
+    }
+
+    @Override
+    public float contentWidth() {
+        return mContentRect.right - mContentRect.left;
+    }
+
+    @Override
+    public float contentHeight() {
+        return mContentRect.bottom - mContentRect.top;
+    }
+
+    @Override
+    public float getScaleX() {
+        return scaleX;
+    }
+
+    @Override
+    public float getScaleY() {
+        return scaleY;
+    }
+
+    @Override
+    public float getTransX() {
+        return transX;
+    }
+
+    @Override
+    public float getTransY() {
+        return transY;
+    }
+
+    @Override
+    public float setTouchTransX(float transX) {
+        float previous = super.setTouchTransX(transX);
+        this.transX = transX;
+        return previous;
+    }
+
+    void setTouch(float scaleX, float scaleY, float transX, float transY) {
+        this.scaleX = scaleX;
+        this.scaleY = scaleY;
+        this.transX = transX;
+        this.transY = transY;
+
+        // applies the touch matrix, which increments its version
+        limitTransAndScale(getMatrixTouch(), null);
+    }
+}
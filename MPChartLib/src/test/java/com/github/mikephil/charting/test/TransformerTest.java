@@ -0,0 +1,158 @@
+package com.github.mikephil.charting.test;
+
+import android.graphics.RectF;
+
+import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
+import com.github.mikephil.charting.utils.TransformerHorizontalBarChart;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TransformerTest {
+
+    private static TestViewPortHandler createViewPortHandler() {
+
+        TestViewPortHandler handler = new TestViewPortHandler();
+        handler.setChartDimens(300f, 200f);
+
+        // content area 20 - 280 x 10 - 180
+        handler.restrainViewPort(20f, 10f, 20f, 20f);
+        return handler;
+    }
+
+    @Test
+    public void testValueToPixel() {
+
+        TestViewPortHandler handler = createViewPortHandler();
+        Transformer trans = new Transformer(handler);
+
+        // x 0 - 26, y -10 - 7
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        trans.prepareMatrixOffset(false);
+
+        assertTrue(trans.isAxisAligned());
+
+        float[] pts = new float[]{0f, -10f, 26f, 7f, 13f, 0f};
+        trans.pointValuesToPixel(pts);
+
+        assertEquals(20f, pts[0], 0.001f);
+        assertEquals(180f, pts[1], 0.001f);
+        assertEquals(280f, pts[2], 0.001f);
+        assertEquals(10f, pts[3], 0.001f);
+        assertEquals(150f, pts[4], 0.001f);
+        assertEquals(80f, pts[5], 0.001f);
+
+        trans.pixelsToValue(pts);
+
+        assertEquals(0f, pts[0], 0.001f);
+        assertEquals(-10f, pts[1], 0.001f);
+        assertEquals(26f, pts[2], 0.001f);
+        assertEquals(7f, pts[3], 0.001f);
+        assertEquals(13f, pts[4], 0.001f);
+        assertEquals(0f, pts[5], 0.001f);
+
+        // only part of the buffer
+        pts = new float[]{1f, 1f, 0f, -10f, 1f, 1f};
+        trans.pointValuesToPixel(pts, 2, 4);
+
+        assertEquals(1f, pts[0]);
+        assertEquals(20f, pts[2], 0.001f);
+        assertEquals(180f, pts[3], 0.001f);
+        assertEquals(1f, pts[4]);
+
+        MPPointD value = trans.getValuesByTouchPoint(150f, 80f);
+        assertEquals(13.0, value.x, 0.001);
+        assertEquals(0.0, value.y, 0.001);
+        MPPointD.recycleInstance(value);
+    }
+
+    @Test
+    public void testTouchMatrix() {
+
+        TestViewPortHandler handler = createViewPortHandler();
+        Transformer trans = new Transformer(handler);
+
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        trans.prepareMatrixOffset(false);
+
+        float[] pts = new float[]{13f, 0f};
+        trans.pointValuesToPixel(pts);
+        assertEquals(150f, pts[0], 0.001f);
+
+        // zoomed in 2x on x, panned by 100 pixels
+        handler.setTouch(2f, 1f, -100f, 0f);
+
+        pts = new float[]{13f, 0f};
+        trans.pointValuesToPixel(pts);
+        assertEquals(20f + 260f - 100f, pts[0], 0.001f);
+        assertEquals(80f, pts[1], 0.001f);
+
+        trans.pixelsToValue(pts);
+        assertEquals(13f, pts[0], 0.001f);
+    }
+
+    @Test
+    public void testRects() {
+
+        TestViewPortHandler handler = createViewPortHandler();
+        Transformer trans = new Transformer(handler);
+
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        trans.prepareMatrixOffset(true);
+
+        RectF r = new RectF();
+        r.left = 0f;
+        r.right = 13f;
+        r.top = 0f;
+        r.bottom = -10f;
+
+        trans.rectValueToPixel(r);
+
+        // inverted y-axis, edges are sorted like Matrix.mapRect(...)
+        assertEquals(20f, r.left, 0.001f);
+        assertEquals(150f, r.right, 0.001f);
+        assertEquals(10f, r.top, 0.001f);
+        assertEquals(110f, r.bottom, 0.001f);
+    }
+
+    @Test
+    public void testHorizontalBarChart() {
+
+        TestViewPortHandler handler = createViewPortHandler();
+        Transformer trans = new TransformerHorizontalBarChart(handler);
+
+        // values are already swapped by the HorizontalBarChart
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        trans.prepareMatrixOffset(true);
+
+        float[] pts = new float[]{0f, -10f};
+        trans.pointValuesToPixel(pts);
+
+        // x-axis inverted, starts at the right edge of the content
+        assertEquals(280f, pts[0], 0.001f);
+        assertEquals(180f, pts[1], 0.001f);
+    }
+
+    @Test
+    public void testMatrixFallback() {
+
+        TestViewPortHandler handler = createViewPortHandler();
+        Transformer trans = new Transformer(handler);
+
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        trans.prepareMatrixOffset(false);
+        assertTrue(trans.isAxisAligned());
+
+        // the value matrix may be modified by the caller, Matrix is used unless it is axis-aligned
+        // (Matrix is stubbed in unit tests and reports a non-affine matrix)
+        trans.getValueMatrix();
+        assertFalse(trans.isAxisAligned());
+
+        trans.prepareMatrixValuePx(0f, 26f, 17f, -10f);
+        assertTrue(trans.isAxisAligned());
+    }
+}